@@ -0,0 +1,52 @@
+package com.exercise.swiftcode.benchmark;
+
+import com.exercise.swiftcode.api.bank.BankMapper;
+import com.exercise.swiftcode.api.bank.request.CreateBankRequest;
+import com.exercise.swiftcode.api.bank.response.BankResponse;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BankMapperBenchmark {
+    private BankMapper bankMapper;
+    private CreateBankRequest request;
+    private Bank bank;
+
+    @Setup
+    public void setUp() {
+        bankMapper = new BankMapper();
+        request = BenchmarkFixtures.createBankRequest();
+        bank = BenchmarkFixtures.bank(BenchmarkFixtures.HEADQUARTER);
+    }
+
+    @Benchmark
+    public Bank toBank() {
+        return bankMapper.toBank(request);
+    }
+
+    @Benchmark
+    public BankResponse toBankResponse() {
+        return bankMapper.toBankResponse(bank);
+    }
+
+    @Benchmark
+    public BankResponse toBankResponseNullCountryName() {
+        return bankMapper.toBankResponseNullCountryName(bank);
+    }
+}
@@ -0,0 +1,73 @@
+package com.exercise.swiftcode.benchmark;
+
+import com.exercise.swiftcode.api.bank.BankMapper;
+import com.exercise.swiftcode.api.bank.BankValidator;
+import com.exercise.swiftcode.api.bank.response.BankListResponse;
+import com.exercise.swiftcode.api.bank.response.BanksByCountryResponse;
+import com.exercise.swiftcode.persistence.repository.BankRepository;
+import com.exercise.swiftcode.service.bank.BankResponseCache;
+import com.exercise.swiftcode.service.bank.BankService;
+import com.exercise.swiftcode.service.country.CountryCodeRegistry;
+import com.exercise.swiftcode.service.directory.MongoBankLookup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service read paths against in-memory repository stubs. With {@code cached = false} every call
+ * misses the response cache, which isolates validation, mapping and response assembly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BankServiceBenchmark {
+    @Param({"false", "true"})
+    private boolean cached;
+
+    private BankService bankService;
+
+    @Setup
+    public void setUp() {
+        BankResponseCache cache = cached
+                ? new BankResponseCache(10_000, Duration.ofMinutes(10), new SimpleMeterRegistry())
+                : new BankResponseCache(0, Duration.ZERO, new SimpleMeterRegistry());
+        BankRepository bankRepository = BenchmarkFixtures.bankRepository(BenchmarkFixtures.family());
+        bankService = new BankService(
+                new BankMapper(),
+                bankRepository,
+                new BankValidator(),
+                new CountryCodeRegistry(BenchmarkFixtures.countryCodeRepository()),
+                cache,
+                new MongoBankLookup(bankRepository));
+    }
+
+    @Benchmark
+    public BankListResponse getHeadquarterWithBranches() {
+        return bankService.getBankAndBranches(BenchmarkFixtures.HEADQUARTER);
+    }
+
+    @Benchmark
+    public BankListResponse getBranch() {
+        return bankService.getBankAndBranches(BenchmarkFixtures.BRANCH);
+    }
+
+    @Benchmark
+    public BanksByCountryResponse getBanksByCountry() {
+        return bankService.getBanksByIsoCode(BenchmarkFixtures.COUNTRY);
+    }
+}
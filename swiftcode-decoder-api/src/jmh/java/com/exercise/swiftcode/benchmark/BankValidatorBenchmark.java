@@ -0,0 +1,51 @@
+package com.exercise.swiftcode.benchmark;
+
+import com.exercise.swiftcode.api.bank.BankValidator;
+import com.exercise.swiftcode.api.bank.request.CreateBankRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BankValidatorBenchmark {
+    private BankValidator bankValidator;
+    private CreateBankRequest request;
+    private String swiftCode;
+
+    @Setup
+    public void setUp() {
+        bankValidator = new BankValidator();
+        request = BenchmarkFixtures.createBankRequest();
+        swiftCode = BenchmarkFixtures.BRANCH;
+    }
+
+    @Benchmark
+    public void validateSwiftCode() {
+        bankValidator.validateSwiftCode(swiftCode);
+    }
+
+    @Benchmark
+    public void validateCreateBankRequest() {
+        bankValidator.validateCreateBankRequest(request);
+    }
+
+    // Baseline for the regex checks the validator used before.
+    @Benchmark
+    public boolean regexSwiftCodeCheck() {
+        return swiftCode.matches("^[A-Za-z0-9]+$") && request.getSwiftCode().matches("(?i).*xxx$");
+    }
+}
@@ -0,0 +1,130 @@
+package com.exercise.swiftcode.benchmark;
+
+import com.exercise.swiftcode.api.bank.request.CreateBankRequest;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.persistence.entity.CountryCode;
+import com.exercise.swiftcode.persistence.reactive.ReactiveBankRepository;
+import com.exercise.swiftcode.persistence.reactive.ReactiveCountryCodeRepository;
+import com.exercise.swiftcode.persistence.repository.BankRepository;
+import com.exercise.swiftcode.persistence.repository.CountryCodeRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Shared data and hand-rolled repository stubs. Mocking frameworks add interception overhead that
+ * would dominate the numbers being measured.
+ */
+final class BenchmarkFixtures {
+    static final String HEADQUARTER = "BREXPLPWXXX";
+    static final String BRANCH = "BREXPLPW003";
+    static final String COUNTRY = "PL";
+    static final int BRANCHES = 10;
+
+    private BenchmarkFixtures() {
+    }
+
+    static CreateBankRequest createBankRequest() {
+        return CreateBankRequest.builder()
+                .swiftCode(HEADQUARTER)
+                .isHeadquarter(true)
+                .bankName("MBANK S.A.")
+                .address("UL. SENATORSKA 18 WARSZAWA, MAZOWIECKIE, 00-950")
+                .countryISO2(COUNTRY)
+                .countryName("POLAND")
+                .build();
+    }
+
+    static Bank bank(String swiftCode) {
+        return Bank.builder()
+                .swiftCode(swiftCode)
+                .name("MBANK S.A.")
+                .address("UL. SENATORSKA 18 WARSZAWA, MAZOWIECKIE, 00-950")
+                .countryIso2Code(COUNTRY)
+                .countryName("POLAND")
+                .build();
+    }
+
+    static List<Bank> family() {
+        List<Bank> banks = new ArrayList<>();
+        banks.add(bank(HEADQUARTER));
+        for (int i = 0; i < BRANCHES; i++) {
+            banks.add(bank(String.format("BREXPLPW%03d", i)));
+        }
+        return banks;
+    }
+
+    static BankRepository bankRepository(List<Bank> banks) {
+        Map<String, Bank> bySwiftCode = banks.stream().collect(Collectors.toMap(Bank::getSwiftCode, Function.identity()));
+        return stub(BankRepository.class, (method, args) -> switch (method) {
+            case "findBySwiftCode" -> Optional.ofNullable(bySwiftCode.get((String) args[0]));
+            case "findBySwiftCodePrefix" -> banks.stream().filter(bank -> bank.getSwiftCode().startsWith((String) args[0])).toList();
+            case "findByCountryIso2Code" -> banks.stream().filter(bank -> bank.getCountryIso2Code().equals(args[0])).toList();
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    static CountryCodeRepository countryCodeRepository() {
+        List<CountryCode> countries = List.of(new CountryCode("1", "POLAND", COUNTRY));
+        return stub(CountryCodeRepository.class, (method, args) -> switch (method) {
+            case "findAll" -> countries;
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    /**
+     * Delays every call to {@code repository} by {@code latency}, standing in for a Mongo round trip.
+     */
+    static BankRepository withLatency(BankRepository repository, Duration latency) {
+        return BankRepository.class.cast(Proxy.newProxyInstance(BankRepository.class.getClassLoader(),
+                new Class<?>[]{BankRepository.class}, (proxy, method, args) -> {
+                    Thread.sleep(latency);
+                    try {
+                        return method.invoke(repository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }));
+    }
+
+    /**
+     * Reactive counterparts of the stubs above, answering after {@code latency} without holding a thread.
+     */
+    static ReactiveBankRepository reactiveBankRepository(List<Bank> banks, Duration latency) {
+        return stub(ReactiveBankRepository.class, (method, args) -> switch (method) {
+            case "findBySwiftCode" -> Mono.justOrEmpty(banks.stream().filter(bank -> bank.getSwiftCode().equals(args[0])).findFirst())
+                    .delaySubscription(latency);
+            case "findBySwiftCodePrefix" -> Flux.fromIterable(banks).filter(bank -> bank.getSwiftCode().startsWith((String) args[0]))
+                    .delaySubscription(latency);
+            case "findByCountryIso2Code" -> Flux.fromIterable(banks).filter(bank -> bank.getCountryIso2Code().equals(args[0]))
+                    .delaySubscription(latency);
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    static ReactiveCountryCodeRepository reactiveCountryCodeRepository(Duration latency) {
+        CountryCode country = new CountryCode("1", "POLAND", COUNTRY);
+        return stub(ReactiveCountryCodeRepository.class, (method, args) -> switch (method) {
+            case "findByCountryIso2Code" -> Mono.justOrEmpty(COUNTRY.equals(args[0]) ? country : null).delaySubscription(latency);
+            default -> throw new UnsupportedOperationException(method);
+        });
+    }
+
+    private interface Answer {
+        Object answer(String method, Object[] args);
+    }
+
+    private static <T> T stub(Class<T> type, Answer answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> answer.answer(method.getName(), args)));
+    }
+}
@@ -0,0 +1,106 @@
+package com.exercise.swiftcode.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.exercise.swiftcode.api.bank.BankMapper;
+import com.exercise.swiftcode.api.bank.BankValidator;
+import com.exercise.swiftcode.persistence.repository.BankRepository;
+import com.exercise.swiftcode.service.bank.BankResponseCache;
+import com.exercise.swiftcode.service.bank.BankService;
+import com.exercise.swiftcode.service.bank.ReactiveBankService;
+import com.exercise.swiftcode.service.country.CountryCodeRegistry;
+import com.exercise.swiftcode.service.directory.MongoBankLookup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code clients} concurrent country listings against a simulated Mongo round trip, served by the
+ * servlet stack (Tomcat's 200 platform threads blocking on the driver) or by the WebFlux stack (the
+ * reactive driver, no thread held while waiting). One operation answers all clients, so the average
+ * time is the latency of the slowest client and the throughput times {@code clients} is requests per
+ * second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReactiveStackBenchmark {
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"servlet", "reactive"})
+    private String stack;
+
+    @Param({"10000"})
+    private int clients;
+
+    @Param({"5"})
+    private int latencyMillis;
+
+    private BankService bankService;
+    private ReactiveBankService reactiveBankService;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(BankService.class)).setLevel(Level.WARN);
+        ((Logger) LoggerFactory.getLogger(ReactiveBankService.class)).setLevel(Level.WARN);
+        Duration latency = Duration.ofMillis(latencyMillis);
+        BankRepository bankRepository = BenchmarkFixtures.withLatency(
+                BenchmarkFixtures.bankRepository(BenchmarkFixtures.family()), latency);
+        bankService = new BankService(
+                new BankMapper(),
+                bankRepository,
+                new BankValidator(),
+                new CountryCodeRegistry(BenchmarkFixtures.countryCodeRepository()),
+                new BankResponseCache(0, Duration.ZERO, new SimpleMeterRegistry()),
+                new MongoBankLookup(bankRepository));
+        reactiveBankService = new ReactiveBankService(
+                new BankMapper(),
+                new BankValidator(),
+                BenchmarkFixtures.reactiveBankRepository(BenchmarkFixtures.family(), latency),
+                BenchmarkFixtures.reactiveCountryCodeRepository(latency));
+        executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int getBanksByCountry() throws Exception {
+        List<Future<?>> requests = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            // Each request subscribed on its own, as the server does. Merging them through one flatMap would measure the merge.
+            requests.add(stack.equals("reactive")
+                    ? reactiveBankService.getBanksByIsoCode(BenchmarkFixtures.COUNTRY).toFuture()
+                    : executor.submit(() -> bankService.getBanksByIsoCode(BenchmarkFixtures.COUNTRY)));
+        }
+        for (Future<?> request : requests) {
+            request.get();
+        }
+        return requests.size();
+    }
+}
@@ -0,0 +1,95 @@
+package com.exercise.swiftcode.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.exercise.swiftcode.api.bank.BankMapper;
+import com.exercise.swiftcode.api.bank.BankValidator;
+import com.exercise.swiftcode.persistence.repository.BankRepository;
+import com.exercise.swiftcode.service.bank.BankResponseCache;
+import com.exercise.swiftcode.service.bank.BankService;
+import com.exercise.swiftcode.service.country.CountryCodeRegistry;
+import com.exercise.swiftcode.service.directory.MongoBankLookup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code clients} concurrent country listings, each blocking on a simulated Mongo round trip, served
+ * with the response cache off, by Tomcat's default pool of 200 platform threads or by one virtual
+ * thread per request. Reports the time to answer all of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestThreadingBenchmark {
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"5000"})
+    private int clients;
+
+    @Param({"5"})
+    private int latencyMillis;
+
+    private BankService bankService;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        // A log line per request to a shared appender would serialize the clients and hide the threading model.
+        ((Logger) LoggerFactory.getLogger(BankService.class)).setLevel(Level.WARN);
+        BankRepository bankRepository = BenchmarkFixtures.withLatency(
+                BenchmarkFixtures.bankRepository(BenchmarkFixtures.family()), Duration.ofMillis(latencyMillis));
+        bankService = new BankService(
+                new BankMapper(),
+                bankRepository,
+                new BankValidator(),
+                new CountryCodeRegistry(BenchmarkFixtures.countryCodeRepository()),
+                new BankResponseCache(0, Duration.ZERO, new SimpleMeterRegistry()),
+                new MongoBankLookup(bankRepository));
+        executor = threads.equals("virtual")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int getBanksByCountry() throws Exception {
+        List<Future<?>> requests = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            requests.add(executor.submit(() -> bankService.getBanksByIsoCode(BenchmarkFixtures.COUNTRY)));
+        }
+        for (Future<?> request : requests) {
+            request.get();
+        }
+        return requests.size();
+    }
+}
@@ -0,0 +1,196 @@
+package com.exercise.swiftcode.loader;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row mapping over synthetic bank sheets. {@code streamWorkbook} reads a generated .xlsx through the
+ * SAX loader, with shared strings as Excel writes them; {@code streamCsv} and {@code streamNdjson}
+ * read the same rows as dumps through {@link MappedBankFileReader}; {@code mapRows} feeds them to
+ * {@link BankSheetHandler} as cell events, leaving parsing out. The {@code rows} counter reports rows/s and {@code bytesPerRow} the
+ * heap allocated per row by the benchmark thread. The DOM path shares the same row mapping but
+ * cannot hold a million-row sheet, so it is not measured here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BankRowMappingBenchmark {
+    private static final String[] HEADERS = {"COUNTRY ISO2 CODE", "SWIFT CODE", "CODE TYPE", "NAME", "ADDRESS", "TOWN NAME", "COUNTRY NAME", "TIME ZONE"};
+    // Only the column letters of a reference are read, so one per column stands in for every row.
+    private static final String[] REFERENCES = {"A2", "B2", "C2", "D2", "E2", "F2", "G2", "H2"};
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private Path workbook;
+    private Path csv;
+    private Path ndjson;
+    private String[][] cells;
+    private BankExcelDataLoader loader;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RowCounter {
+        public long rows;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class AllocationCounter {
+        private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        private long rows;
+        private long allocatedBytes;
+        private long allocatedAtStart;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+            allocatedBytes = 0;
+        }
+
+        void start() {
+            allocatedAtStart = THREADS.getCurrentThreadAllocatedBytes();
+        }
+
+        void stop(RowCounter counter, long mapped) {
+            allocatedBytes += THREADS.getCurrentThreadAllocatedBytes() - allocatedAtStart;
+            rows += mapped;
+            counter.rows += mapped;
+        }
+
+        public double bytesPerRow() {
+            return rows == 0 ? 0 : (double) allocatedBytes / rows;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        cells = new String[rows][];
+        for (int i = 0; i < rows; i++) {
+            String country = i % 2 == 0 ? "PL" : "DE";
+            cells[i] = new String[]{country, String.format("BANK%s%02d%03d", country, i / 1000 % 100, i % 1000),
+                    "BIC11", "BANK " + (i / 10), "STREET " + i + " CITY, REGION, 00-" + (i % 1000), "CITY", country.equals("PL") ? "POLAND" : "GERMANY", "Europe/Warsaw"};
+        }
+        workbook = Files.createTempFile("bank-rows-" + rows, ".xlsx");
+        try (SXSSFWorkbook out = new SXSSFWorkbook(null, 1_000, false, true); OutputStream os = Files.newOutputStream(workbook)) {
+            Sheet sheet = out.createSheet();
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < HEADERS.length; c++) {
+                header.createCell(c).setCellValue(HEADERS[c]);
+            }
+            for (int i = 0; i < rows; i++) {
+                Row row = sheet.createRow(i + 1);
+                for (int c = 0; c < HEADERS.length; c++) {
+                    row.createCell(c).setCellValue(cells[i][c]);
+                }
+            }
+            out.write(os);
+        }
+        csv = Files.createTempFile("bank-rows-" + rows, ".csv");
+        ndjson = Files.createTempFile("bank-rows-" + rows, ".ndjson");
+        try (Writer csvOut = Files.newBufferedWriter(csv); Writer ndjsonOut = Files.newBufferedWriter(ndjson)) {
+            csvOut.write(String.join(",", HEADERS) + "\r\n");
+            for (String[] row : cells) {
+                StringBuilder csvLine = new StringBuilder();
+                StringBuilder ndjsonLine = new StringBuilder("{");
+                for (int c = 0; c < HEADERS.length; c++) {
+                    csvLine.append(c == 0 ? "" : ",").append('"').append(row[c]).append('"');
+                    ndjsonLine.append(c == 0 ? "\"" : ", \"").append(HEADERS[c]).append("\": \"").append(row[c]).append('"');
+                }
+                csvOut.write(csvLine.append("\r\n").toString());
+                ndjsonOut.write(ndjsonLine.append("}\n").toString());
+            }
+        }
+        loader = new BankExcelDataLoader(null, null, null, null);
+        ReflectionTestUtils.setField(loader, "batchSize", BATCH_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(workbook);
+        Files.deleteIfExists(csv);
+        Files.deleteIfExists(ndjson);
+    }
+
+    @Benchmark
+    public long streamWorkbook(RowCounter counter, AllocationCounter allocation, Blackhole blackhole) throws Exception {
+        allocation.start();
+        long mapped = loader.streamBanksFromExcel(new FileSystemResource(workbook), blackhole::consume);
+        allocation.stop(counter, mapped);
+        return mapped;
+    }
+
+    @Benchmark
+    public long streamCsv(RowCounter counter, AllocationCounter allocation, Blackhole blackhole) throws Exception {
+        allocation.start();
+        BankSheetHandler handler = new BankSheetHandler(BATCH_SIZE, (List<Bank> batch) -> blackhole.consume(batch));
+        MappedBankFileReader.readCsv(csv, handler);
+        handler.flush();
+        allocation.stop(counter, handler.getLoaded());
+        return handler.getLoaded();
+    }
+
+    @Benchmark
+    public long streamNdjson(RowCounter counter, AllocationCounter allocation, Blackhole blackhole) throws Exception {
+        allocation.start();
+        BankSheetHandler handler = new BankSheetHandler(BATCH_SIZE, (List<Bank> batch) -> blackhole.consume(batch));
+        MappedBankFileReader.readNdjson(ndjson, handler);
+        handler.flush();
+        allocation.stop(counter, handler.getLoaded());
+        return handler.getLoaded();
+    }
+
+    @Benchmark
+    public long mapRows(RowCounter counter, AllocationCounter allocation, Blackhole blackhole) {
+        allocation.start();
+        BankSheetHandler handler = new BankSheetHandler(BATCH_SIZE, (List<Bank> batch) -> blackhole.consume(batch));
+        handler.startRow(0);
+        for (int c = 0; c < HEADERS.length; c++) {
+            handler.cell(REFERENCES[c], HEADERS[c], null);
+        }
+        handler.endRow(0);
+        for (int i = 0; i < cells.length; i++) {
+            handler.startRow(i + 1);
+            String[] row = cells[i];
+            for (int c = 0; c < row.length; c++) {
+                handler.cell(REFERENCES[c], row[c], null);
+            }
+            handler.endRow(i + 1);
+        }
+        handler.flush();
+        allocation.stop(counter, handler.getLoaded());
+        return handler.getLoaded();
+    }
+}
@@ -0,0 +1,135 @@
+package com.exercise.swiftcode.api.admin;
+
+import com.exercise.swiftcode.api.admin.response.ImportJobResponse;
+import com.exercise.swiftcode.api.admin.response.ReloadResponse;
+import com.exercise.swiftcode.config.exceptions.ErrorResponse;
+import com.exercise.swiftcode.config.exceptions.ImportJobNotFoundException;
+import com.exercise.swiftcode.loader.BankCollectionReloader;
+import com.exercise.swiftcode.loader.ImportJob;
+import com.exercise.swiftcode.loader.ImportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Operational endpoints, registered only with {@code admin.enabled=true}. Every request must carry
+ * {@code admin.token} in the {@value #ADMIN_TOKEN_HEADER} header; with no token configured every
+ * request is refused. The header is checked by {@link AdminTokenInterceptor} before the request
+ * body is read.
+ */
+@RestController
+@RequestMapping("/v1/admin")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "admin.enabled", havingValue = "true")
+public class AdminController {
+    static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private final BankCollectionReloader bankCollectionReloader;
+    private final ImportJobService importJobService;
+
+    public AdminController(BankCollectionReloader bankCollectionReloader, ImportJobService importJobService) {
+        this.bankCollectionReloader = bankCollectionReloader;
+        this.importJobService = importJobService;
+    }
+
+    @PostMapping("/banks/reload")
+    @Operation(
+            summary = "Reload the bank directory",
+            description = "Imports the configured Excel file into a staging collection and swaps it in for the banks collection."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Banks reloaded and swapped in",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReloadResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Missing or wrong admin token",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "A reload is already running",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "422", description = "Staged data failed validation, the current collection was kept",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<ReloadResponse> reloadBanks() throws Exception {
+        BankCollectionReloader.ReloadReport report = bankCollectionReloader.reload();
+        return ResponseEntity.ok(new ReloadResponse(report.banks(), report.previousBanks(), report.elapsed().toMillis()));
+    }
+
+    @PostMapping(value = "/imports", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+            summary = "Start an import",
+            description = "Uploads an .xlsx, .csv or .ndjson directory file and inserts its banks in a background job."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import queued",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportJobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Unsupported file type",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Missing or wrong admin token",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Too many imports running or queued",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<ImportJobResponse> startImport(@RequestParam("file") MultipartFile file) throws IOException {
+        ImportJob job;
+        try (InputStream content = file.getInputStream()) {
+            job = importJobService.submit(file.getOriginalFilename(), content);
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/v1/admin/imports/" + job.getId()))
+                .body(toResponse(job));
+    }
+
+    @GetMapping("/imports/{id}")
+    @Operation(
+            summary = "Get import status",
+            description = "Returns the progress of an import: rows parsed and written, throughput, errors and ETA."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Current state of the import",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportJobResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Missing or wrong admin token",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "No such import",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<ImportJobResponse> getImport(@PathVariable UUID id) {
+        ImportJob job = importJobService.find(id)
+                .orElseThrow(() -> new ImportJobNotFoundException("Import '" + id + "' not found."));
+        return ResponseEntity.ok(toResponse(job));
+    }
+
+    private static ImportJobResponse toResponse(ImportJob job) {
+        return ImportJobResponse.builder()
+                .id(job.getId().toString())
+                .fileName(job.getFileName())
+                .state(job.getState().name())
+                .expectedRows(job.getExpectedRows().isPresent() ? job.getExpectedRows().getAsLong() : null)
+                .rowsParsed(job.getRowsParsed())
+                .rowsWritten(job.getRowsWritten())
+                .rowsRejected(job.getRowsRejected())
+                .rowsInvalid(job.getRowsInvalid())
+                .rowsPerSecond(job.rowsPerSecond())
+                .etaSeconds(job.etaSeconds().isPresent() ? job.etaSeconds().getAsLong() : null)
+                .error(job.getError())
+                .submittedAt(job.getSubmittedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.exercise.swiftcode.api.admin;
+
+import com.exercise.swiftcode.config.exceptions.AdminAccessDeniedException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Checks the {@value AdminController#ADMIN_TOKEN_HEADER} header on every admin request before its
+ * handler arguments are resolved. Multipart bodies are resolved lazily, so an upload without a valid
+ * token is refused before any of it is read or spooled.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "admin.enabled", havingValue = "true")
+public class AdminTokenInterceptor implements HandlerInterceptor, WebMvcConfigurer {
+    private final byte[] adminToken;
+
+    public AdminTokenInterceptor(@Value("${admin.token}") String adminToken) {
+        this.adminToken = adminToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this).addPathPatterns("/v1/admin/**");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String token = request.getHeader(AdminController.ADMIN_TOKEN_HEADER);
+        if (adminToken.length == 0 || token == null
+                || !MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new AdminAccessDeniedException("Admin token missing or invalid.");
+        }
+        return true;
+    }
+}
@@ -0,0 +1,58 @@
+package com.exercise.swiftcode.api.admin.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@Builder
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class ImportJobResponse {
+    @Schema(description = "Job identifier", example = "3f2c1d9e-8a4b-4c1e-9b7a-2d5f6e8a9b0c")
+    String id;
+
+    @Schema(description = "Name of the uploaded file", example = "swift_codes.csv")
+    String fileName;
+
+    @Schema(description = "QUEUED, RUNNING, SUCCEEDED or FAILED", example = "RUNNING")
+    String state;
+
+    @Schema(description = "Data rows in the file, estimated before the import starts", example = "1061", nullable = true)
+    Long expectedRows;
+
+    @Schema(description = "Valid rows read from the file so far", example = "600")
+    long rowsParsed;
+
+    @Schema(description = "Rows inserted into the database so far", example = "500")
+    long rowsWritten;
+
+    @Schema(description = "Rows the database refused, such as SWIFT codes that already exist", example = "2")
+    long rowsRejected;
+
+    @Schema(description = "Rows skipped for missing data, known once the file has been read", example = "86")
+    long rowsInvalid;
+
+    @Schema(description = "Rows reaching the database per second", example = "2400.5")
+    double rowsPerSecond;
+
+    @Schema(description = "Estimated seconds until the job finishes", example = "3", nullable = true)
+    Long etaSeconds;
+
+    @Schema(description = "Why the job failed", nullable = true)
+    String error;
+
+    @Schema(description = "When the job was accepted")
+    Instant submittedAt;
+
+    @Schema(description = "When the job started running", nullable = true)
+    Instant startedAt;
+
+    @Schema(description = "When the job finished", nullable = true)
+    Instant finishedAt;
+}
@@ -0,0 +1,23 @@
+package com.exercise.swiftcode.api.admin.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@AllArgsConstructor
+@Builder
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class ReloadResponse {
+    @Schema(description = "Number of banks in the collection after the swap", example = "975")
+    long banks;
+
+    @Schema(description = "Number of banks in the collection it replaced", example = "970")
+    long previousBanks;
+
+    @Schema(description = "Duration of the reload in milliseconds", example = "1250")
+    long elapsedMillis;
+}
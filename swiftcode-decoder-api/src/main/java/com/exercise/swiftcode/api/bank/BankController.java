@@ -2,28 +2,58 @@ package com.exercise.swiftcode.api.bank;
 
 import com.exercise.swiftcode.api.bank.request.CreateBankRequest;
 import com.exercise.swiftcode.api.bank.response.BankListResponse;
+import com.exercise.swiftcode.api.bank.response.BankResponse;
 import com.exercise.swiftcode.api.bank.response.BanksByCountryResponse;
+import com.exercise.swiftcode.api.bank.response.BatchCreateResponse;
 import com.exercise.swiftcode.api.bank.response.MessageResponse;
 
 import com.exercise.swiftcode.config.exceptions.ErrorResponse;
+import com.exercise.swiftcode.service.bank.BankBatchService;
 import com.exercise.swiftcode.service.bank.BankService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/v1/swift-codes")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class BankController {
+    static final String DIRECTORY_VERSION_HEADER = "X-Directory-Version";
+
     private final BankService bankService;
+    private final BankBatchService bankBatchService;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter lineWriter;
 
-    public BankController(BankService bankService) {
+    @Value("${bank.service.stream.flush-rows}")
+    private int flushRows;
+
+    public BankController(BankService bankService, BankBatchService bankBatchService, ObjectMapper objectMapper) {
         this.bankService = bankService;
+        this.bankBatchService = bankBatchService;
+        this.objectMapper = objectMapper;
+        this.lineWriter = objectMapper.writerFor(BankResponse.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     @PostMapping()
@@ -45,6 +75,23 @@ public class BankController {
                 .body(messageResponse);
     }
 
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Add many banks",
+            description = "Adds up to the configured maximum of banks in one request. Each bank is validated and inserted on its own "
+                    + "merits and gets its own result: CREATED, DUPLICATE, INVALID or FAILED."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the result of each bank",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BatchCreateResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch, or a body that is not a list",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<BatchCreateResponse> createBanks(@RequestBody List<CreateBankRequest> requests) {
+        BatchCreateResponse response = bankBatchService.createBanks(requests);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("{swiftCode}")
     @Operation(
             summary = "Removes a bank",
@@ -70,32 +117,85 @@ public class BankController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved bank details",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BankListResponse.class))),
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BankListResponse.class)),
+                    headers = @Header(name = DIRECTORY_VERSION_HEADER, description = "Version of the in-memory directory, when enabled")),
             @ApiResponse(responseCode = "400", description = "Invalid input data",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Bank not found",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<BankListResponse> getBanksBySwiftCode(@PathVariable String swiftCode) {
+        ResponseEntity.BodyBuilder builder = okWithDirectoryVersion();
         BankListResponse response = bankService.getBankAndBranches(swiftCode);
-        return ResponseEntity.ok(response);
+        return builder.body(response);
     }
 
     @GetMapping("/country/{countryIso2}")
     @Operation(
             summary = "Get all SWIFT codes for a country",
-            description = "Returns all SWIFT codes for a given country ISO2 code."
+            description = "Returns all SWIFT codes for a given country ISO2 code. With 'limit' or 'after' the listing is paged "
+                    + "in SWIFT code order; pass the returned 'nextCursor' as 'after' to get the next page."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved SWIFT codes for the country",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BanksByCountryResponse.class))),
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BanksByCountryResponse.class)),
+                    headers = @Header(name = DIRECTORY_VERSION_HEADER, description = "Version of the in-memory directory, when enabled")),
             @ApiResponse(responseCode = "400", description = "Invalid input data",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "No banks found for the country",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<BanksByCountryResponse> getBanksByIsoCode(@PathVariable String countryIso2) {
-        BanksByCountryResponse response = bankService.getBanksByIsoCode(countryIso2);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<BanksByCountryResponse> getBanksByIsoCode(@PathVariable String countryIso2,
+                                                                    @RequestParam(required = false) Integer limit,
+                                                                    @RequestParam(required = false) String after) {
+        ResponseEntity.BodyBuilder builder = okWithDirectoryVersion();
+        BanksByCountryResponse response = limit == null && after == null
+                ? bankService.getBanksByIsoCode(countryIso2)
+                : bankService.getBanksPageByIsoCode(countryIso2, limit, after);
+        return builder.body(response);
+    }
+
+    @GetMapping(value = "/country/{countryIso2}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Stream all SWIFT codes for a country",
+            description = "Returns the SWIFT codes for a given country ISO2 code as newline-delimited JSON, one bank per line, "
+                    + "written as they are read. Selected with Accept: application/x-ndjson."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streaming SWIFT codes for the country",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = BankResponse.class)),
+                    headers = @Header(name = DIRECTORY_VERSION_HEADER, description = "Version of the in-memory directory, when enabled")),
+            @ApiResponse(responseCode = "400", description = "Invalid input data",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "No banks found for the country",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> streamBanksByIsoCode(@PathVariable String countryIso2) {
+        ResponseEntity.BodyBuilder builder = okWithDirectoryVersion();
+        Stream<BankResponse> banks = bankService.streamBanksByIsoCode(countryIso2);
+        return builder.contentType(MediaType.APPLICATION_NDJSON).body(out -> writeLines(banks, out));
+    }
+
+    // The first line is flushed at once, later ones every flushRows, so a client starts reading without a write per bank.
+    // A flushRows of zero or less leaves the rest to the flush on close.
+    private void writeLines(Stream<BankResponse> banks, OutputStream out) throws IOException {
+        try (banks; JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            int written = 0;
+            for (Iterator<BankResponse> it = banks.iterator(); it.hasNext(); ) {
+                lineWriter.writeValue(generator, it.next());
+                generator.writeRaw('\n');
+                if (++written == 1 || flushRows > 0 && written % flushRows == 0) {
+                    generator.flush();
+                }
+            }
+        }
+    }
+
+    // Read before the lookup, so the response reflects at least this version of the directory.
+    private ResponseEntity.BodyBuilder okWithDirectoryVersion() {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        bankService.directoryVersion().ifPresent(version -> builder.header(DIRECTORY_VERSION_HEADER, Long.toString(version)));
+        return builder;
     }
 }
\ No newline at end of file
@@ -2,19 +2,24 @@ package com.exercise.swiftcode.api.bank;
 
 import com.exercise.swiftcode.api.bank.request.CreateBankRequest;
 import com.exercise.swiftcode.config.exceptions.ValidationException;
+import com.exercise.swiftcode.domain.SwiftCode;
 import org.springframework.stereotype.Component;
 
 @Component
 public class BankValidator {
     private static final int SWIFT_CODE_LENGTH = 11;
     private static final int COUNTRY_ISO2_LENGTH = 2;
-    private static final String HEADQUARTER_SUFFIX_REGEX = "(?i).*xxx$";
+    private static final String HEADQUARTER_SUFFIX = "XXX";
+    private static final int HEADQUARTER_SUFFIX_OFFSET = SWIFT_CODE_LENGTH - HEADQUARTER_SUFFIX.length();
 
     public void validateCreateBankRequest(CreateBankRequest request) {
         if (request == null) {
             throw new ValidationException("CreateBankRequest cannot be null.");
         }
         validateSwiftCode(request.getSwiftCode());
+        if (request.getIsHeadquarter() == null) {
+            throw new ValidationException("The isHeadquarter flag must be provided.");
+        }
         validateHeadquarterSwiftCode(request.getSwiftCode(), request.getIsHeadquarter());
         validateBankName(request.getBankName());
         validateAddress(request.getAddress());
@@ -41,13 +46,13 @@ public class BankValidator {
     }
 
     private void validateSwiftCodeCharacters(String swiftCode) {
-        if (!swiftCode.matches("^[A-Za-z0-9]+$")) {
+        if (!SwiftCode.isValid(swiftCode)) {
             throw new ValidationException("SWIFT Code must contain only uppercase letters and numbers.");
         }
     }
 
     private void validateHeadquarterSwiftCode(String swiftCode, boolean isHeadquarter) {
-        if (isHeadquarter && !swiftCode.matches(HEADQUARTER_SUFFIX_REGEX)) {
+        if (isHeadquarter && !swiftCode.regionMatches(true, HEADQUARTER_SUFFIX_OFFSET, HEADQUARTER_SUFFIX, 0, HEADQUARTER_SUFFIX.length())) {
             throw new ValidationException("Headquarter SWIFT Codes must end with XXX.");
         }
     }
@@ -59,22 +64,51 @@ public class BankValidator {
         if (iso2.length() != COUNTRY_ISO2_LENGTH) {
             throw new ValidationException("Country ISO2 code must be exactly " + COUNTRY_ISO2_LENGTH + " characters long.");
         }
+        if (!isAsciiLetter(iso2.charAt(0)) || !isAsciiLetter(iso2.charAt(1))) {
+            throw new ValidationException("Country ISO2 code must contain only letters.");
+        }
+    }
+
+    public void validatePageLimit(int limit, int maxLimit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new ValidationException("Page limit must be between 1 and " + maxLimit + ".");
+        }
+    }
+
+    public void validateBatchSize(int size, int maxSize) {
+        if (size < 1 || size > maxSize) {
+            throw new ValidationException("A batch must contain between 1 and " + maxSize + " banks.");
+        }
+    }
+
+    // Same as trim().isEmpty() without the copy: only characters up to U+0020 count as blank, unlike isBlank().
+    private static boolean isEmptyWhenTrimmed(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
     }
 
     private void validateBankName(String bankName) {
-        if (bankName == null || bankName.trim().isEmpty()) {
+        if (bankName == null || isEmptyWhenTrimmed(bankName)) {
             throw new ValidationException("Bank name cannot be null or empty.");
         }
     }
 
     private void validateAddress(String address) {
-        if (address == null || address.trim().isEmpty()) {
+        if (address == null || isEmptyWhenTrimmed(address)) {
             throw new ValidationException("Address cannot be null or empty.");
         }
     }
 
     private void validateCountryName(String countryName) {
-        if (countryName == null || countryName.trim().isEmpty()) {
+        if (countryName == null || isEmptyWhenTrimmed(countryName)) {
             throw new ValidationException("Country name cannot be null or empty.");
         }
     }
@@ -0,0 +1,49 @@
+package com.exercise.swiftcode.api.bank;
+
+import com.exercise.swiftcode.api.bank.request.CreateBankRequest;
+import com.exercise.swiftcode.api.bank.response.BankListResponse;
+import com.exercise.swiftcode.api.bank.response.BanksByCountryResponse;
+import com.exercise.swiftcode.api.bank.response.MessageResponse;
+import com.exercise.swiftcode.service.bank.ReactiveBankService;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * The {@link BankController} contract on WebFlux, registered instead of it when the application
+ * runs as a reactive web application (the {@code reactive} profile).
+ */
+@RestController
+@RequestMapping("/v1/swift-codes")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBankController {
+    private final ReactiveBankService bankService;
+
+    public ReactiveBankController(ReactiveBankService bankService) {
+        this.bankService = bankService;
+    }
+
+    @PostMapping()
+    public Mono<ResponseEntity<MessageResponse>> createBank(@Valid @RequestBody CreateBankRequest request) {
+        return bankService.createBank(request)
+                .map(messageResponse -> ResponseEntity.status(HttpStatus.CREATED).body(messageResponse));
+    }
+
+    @DeleteMapping("{swiftCode}")
+    public Mono<ResponseEntity<MessageResponse>> deleteBank(@PathVariable String swiftCode) {
+        return bankService.deleteBank(swiftCode).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{swiftCode}")
+    public Mono<ResponseEntity<BankListResponse>> getBanksBySwiftCode(@PathVariable String swiftCode) {
+        return bankService.getBankAndBranches(swiftCode).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/country/{countryIso2}")
+    public Mono<ResponseEntity<BanksByCountryResponse>> getBanksByIsoCode(@PathVariable String countryIso2) {
+        return bankService.getBanksByIsoCode(countryIso2).map(ResponseEntity::ok);
+    }
+}
@@ -1,5 +1,6 @@
 package com.exercise.swiftcode.api.bank.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AccessLevel;
@@ -24,4 +25,12 @@ public class BanksByCountryResponse {
     @Schema(description = "List of banks in the country with their SWIFT codes")
     @JsonProperty("swiftCodes")
     List<BankResponse> branches;
+
+    @Schema(description = "Cursor for the next page, passed back as 'after'. Absent on the last page and on unpaged listings.")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String nextCursor;
+
+    public BanksByCountryResponse(String countryISO2, String countryName, List<BankResponse> branches) {
+        this(countryISO2, countryName, branches, null);
+    }
 }
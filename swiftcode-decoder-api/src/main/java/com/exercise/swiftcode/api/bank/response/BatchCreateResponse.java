@@ -0,0 +1,31 @@
+package com.exercise.swiftcode.api.bank.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Builder
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class BatchCreateResponse {
+    @Schema(description = "Number of banks created", example = "2")
+    int created;
+
+    @Schema(description = "Number of banks whose SWIFT code already exists or repeats within the batch", example = "1")
+    int duplicates;
+
+    @Schema(description = "Number of banks rejected by validation", example = "0")
+    int invalid;
+
+    @Schema(description = "Number of banks the database rejected for any other reason", example = "0")
+    int failed;
+
+    @Schema(description = "One result per bank, in request order")
+    List<BatchItemResult> results;
+}
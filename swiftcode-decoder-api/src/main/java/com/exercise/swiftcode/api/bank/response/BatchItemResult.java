@@ -0,0 +1,32 @@
+package com.exercise.swiftcode.api.bank.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@AllArgsConstructor
+@Builder
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult {
+    public enum Status {
+        CREATED, DUPLICATE, INVALID, FAILED
+    }
+
+    @Schema(description = "Position of the bank in the request", example = "0")
+    int index;
+
+    @Schema(description = "SWIFT code of the bank as sent", example = "BREXPLPWXXX")
+    String swiftCode;
+
+    @Schema(description = "Outcome for this bank", example = "CREATED")
+    Status status;
+
+    @Schema(description = "Why the bank was not created", example = "SWIFT Code already exists.")
+    String message;
+}
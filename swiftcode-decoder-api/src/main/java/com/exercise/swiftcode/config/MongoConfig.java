@@ -39,6 +39,11 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
     @Bean
     @Override
     public MongoClient mongoClient() {
+        return MongoClients.create(clientSettings());
+    }
+
+    // Shared with ReactiveMongoConfig, so both drivers connect the same way.
+    MongoClientSettings clientSettings() {
         String connectionString = String.format(
                 "mongodb://%s:%s@%s:%d/%s?authSource=%s",
                 mongoUser, mongoPassword, mongoHost, mongoPort, databaseName, authDatabase
@@ -46,15 +51,19 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
 
         logger.info("Using MongoDB connection: {}", connectionString);
 
-        MongoClientSettings mongoClientSettings = MongoClientSettings.builder()
+        return MongoClientSettings.builder()
                 .applyConnectionString(new ConnectionString(connectionString))
                 .build();
-
-        return MongoClients.create(mongoClientSettings);
     }
 
     @Override
     protected String getDatabaseName() {
         return databaseName;
     }
+
+    // Indexes are created by MongoIndexManager once the seeders have run, not at mapping time.
+    @Override
+    protected boolean autoIndexCreation() {
+        return false;
+    }
 }
\ No newline at end of file
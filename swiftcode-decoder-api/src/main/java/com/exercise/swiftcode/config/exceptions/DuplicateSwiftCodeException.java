@@ -1,11 +1,26 @@
 package com.exercise.swiftcode.config.exceptions;
 
+import com.exercise.swiftcode.persistence.entity.Bank;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.util.regex.Pattern;
+
 @ResponseStatus(HttpStatus.CONFLICT)
 public class DuplicateSwiftCodeException extends RuntimeException {
+    // Matches the index Mongo names in an E11000 message, with or without the default "_1" suffix.
+    private static final Pattern SWIFT_CODE_INDEX =
+            Pattern.compile("index: " + Pattern.quote(Bank.SWIFT_CODE_INDEX) + "(_1)?(\\s|$)");
+
     public DuplicateSwiftCodeException(String message) {
         super(message);
     }
-}
\ No newline at end of file
+
+    /**
+     * Whether a duplicate key error came from the unique SWIFT code index rather than another unique
+     * index such as {@code _id}.
+     */
+    public static boolean isSwiftCodeIndex(String duplicateKeyMessage) {
+        return duplicateKeyMessage != null && SWIFT_CODE_INDEX.matcher(duplicateKeyMessage).find();
+    }
+}
@@ -0,0 +1,11 @@
+package com.exercise.swiftcode.config.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ReloadInProgressException extends RuntimeException {
+    public ReloadInProgressException(String message) {
+        super(message);
+    }
+}
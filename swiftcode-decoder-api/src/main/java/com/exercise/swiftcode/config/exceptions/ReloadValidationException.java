@@ -0,0 +1,11 @@
+package com.exercise.swiftcode.config.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class ReloadValidationException extends RuntimeException {
+    public ReloadValidationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,148 @@
+package com.exercise.swiftcode.domain;
+
+/**
+ * An 11-character SWIFT code packed into a single {@code long} as a base-36 number, most significant
+ * character first. Digits map to 0-9 and letters to 10-35, so numeric order matches the
+ * lexicographic order of the upper-case codes, and all codes sharing an 8-character prefix form one
+ * contiguous range of values.
+ */
+public record SwiftCode(long value) implements Comparable<SwiftCode> {
+    public static final int LENGTH = 11;
+    public static final int PREFIX_LENGTH = 8;
+    public static final long INVALID = -1L;
+
+    private static final int RADIX = 36;
+    private static final int CASE_BIT = 0x20;
+    private static final long BRANCH_SPAN = (long) RADIX * RADIX * RADIX;
+    private static final long LOCATION_SPAN = (long) RADIX * RADIX;
+    private static final long COUNTRY_SPAN = (long) RADIX * RADIX;
+    private static final long HEADQUARTER_BRANCH = packPart("XXX");
+    private static final long MAX_VALUE = pow(RADIX, LENGTH) - 1;
+
+    public SwiftCode {
+        if (value < 0 || value > MAX_VALUE) {
+            throw new IllegalArgumentException("Packed SWIFT code out of range: " + value);
+        }
+    }
+
+    /**
+     * Packs an 11-character alphanumeric code in either case, or returns {@link #INVALID} when the
+     * input has the wrong length or contains any other character. Does not allocate.
+     */
+    public static long pack(CharSequence code) {
+        if (code == null || code.length() != LENGTH) {
+            return INVALID;
+        }
+        long value = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            int digit = digit(code.charAt(i));
+            if (digit < 0) {
+                return INVALID;
+            }
+            value = value * RADIX + digit;
+        }
+        return value;
+    }
+
+    public static boolean isValid(CharSequence code) {
+        return pack(code) != INVALID;
+    }
+
+    public static SwiftCode parse(CharSequence code) {
+        long value = pack(code);
+        if (value == INVALID) {
+            throw new IllegalArgumentException("Invalid SWIFT code: " + code);
+        }
+        return new SwiftCode(value);
+    }
+
+    public boolean isHeadquarter() {
+        return value % BRANCH_SPAN == HEADQUARTER_BRANCH;
+    }
+
+    public SwiftCode headquarter() {
+        return isHeadquarter() ? this : new SwiftCode(familyStart() + HEADQUARTER_BRANCH);
+    }
+
+    /**
+     * First packed value of the 8-character prefix family this code belongs to, inclusive.
+     */
+    public long familyStart() {
+        return value - value % BRANCH_SPAN;
+    }
+
+    /**
+     * Last packed value of the 8-character prefix family, exclusive.
+     */
+    public long familyEnd() {
+        return familyStart() + BRANCH_SPAN;
+    }
+
+    public boolean isSameFamily(SwiftCode other) {
+        return other.value >= familyStart() && other.value < familyEnd();
+    }
+
+    public String institution() {
+        return decode(value / (BRANCH_SPAN * LOCATION_SPAN * COUNTRY_SPAN), 4);
+    }
+
+    public String country() {
+        return decode(value / (BRANCH_SPAN * LOCATION_SPAN) % COUNTRY_SPAN, 2);
+    }
+
+    public String location() {
+        return decode(value / BRANCH_SPAN % LOCATION_SPAN, 2);
+    }
+
+    public String branch() {
+        return decode(value % BRANCH_SPAN, 3);
+    }
+
+    public String prefix() {
+        return decode(value / BRANCH_SPAN, PREFIX_LENGTH);
+    }
+
+    @Override
+    public int compareTo(SwiftCode other) {
+        return Long.compare(value, other.value);
+    }
+
+    @Override
+    public String toString() {
+        return decode(value, LENGTH);
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        int letter = (c & ~CASE_BIT) - 'A';
+        return letter >= 0 && letter < 26 ? letter + 10 : -1;
+    }
+
+    private static String decode(long packed, int length) {
+        char[] chars = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            int digit = (int) (packed % RADIX);
+            chars[i] = (char) (digit < 10 ? '0' + digit : 'A' + digit - 10);
+            packed /= RADIX;
+        }
+        return new String(chars);
+    }
+
+    private static long packPart(String part) {
+        long value = 0;
+        for (int i = 0; i < part.length(); i++) {
+            value = value * RADIX + digit(part.charAt(i));
+        }
+        return value;
+    }
+
+    private static long pow(long base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
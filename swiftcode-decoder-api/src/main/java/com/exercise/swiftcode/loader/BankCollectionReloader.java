@@ -0,0 +1,110 @@
+package com.exercise.swiftcode.loader;
+
+import com.exercise.swiftcode.config.exceptions.ReloadInProgressException;
+import com.exercise.swiftcode.config.exceptions.ReloadValidationException;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.persistence.index.MongoIndexManager;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.RenameCollectionOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Blue/green reload of {@code banks}. The Excel file is imported into a staging collection, which
+ * gets the entity's indexes and is checked before it replaces the live collection in a single
+ * {@code renameCollection}. Reads keep hitting the old collection until that rename, and a failure
+ * at any step leaves it untouched. Writes made to the live collection during a reload are lost at
+ * the swap.
+ */
+@Component
+public class BankCollectionReloader {
+    private static final Logger logger = LoggerFactory.getLogger(BankCollectionReloader.class);
+
+    static final String STAGING_SUFFIX = "_staging";
+
+    private final MongoTemplate mongoTemplate;
+    private final BankExcelDataLoader bankExcelDataLoader;
+    private final MongoIndexManager mongoIndexManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${loader.reload.min-ratio}")
+    private double minRatio;
+
+    public BankCollectionReloader(MongoTemplate mongoTemplate, BankExcelDataLoader bankExcelDataLoader,
+                                  MongoIndexManager mongoIndexManager, ApplicationEventPublisher eventPublisher) {
+        this.mongoTemplate = mongoTemplate;
+        this.bankExcelDataLoader = bankExcelDataLoader;
+        this.mongoIndexManager = mongoIndexManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public ReloadReport reload() throws Exception {
+        if (!running.compareAndSet(false, true)) {
+            throw new ReloadInProgressException("A bank reload is already running.");
+        }
+        String live = mongoTemplate.getCollectionName(Bank.class);
+        String staging = live + STAGING_SUFFIX;
+        long start = System.nanoTime();
+        boolean swapped = false;
+        try {
+            mongoTemplate.dropCollection(staging);
+            long[] rows = new long[1];
+            bankExcelDataLoader.readBanks(batch -> {
+                if (!batch.isEmpty()) {
+                    mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Bank.class, staging).insert(batch).execute();
+                    rows[0] += batch.size();
+                }
+            });
+            try {
+                mongoIndexManager.ensureIndexes(Bank.class, staging);
+            } catch (DataAccessException e) {
+                throw new ReloadValidationException("Staged banks do not satisfy the collection indexes: "
+                        + e.getMostSpecificCause().getMessage() + " Keeping the current collection.");
+            }
+
+            long staged = mongoTemplate.getCollection(staging).countDocuments();
+            long previous = mongoTemplate.collectionExists(live) ? mongoTemplate.getCollection(live).countDocuments() : 0;
+            validate(rows[0], staged, previous);
+
+            mongoTemplate.getCollection(staging).renameCollection(
+                    new MongoNamespace(mongoTemplate.getDb().getName(), live), new RenameCollectionOptions().dropTarget(true));
+            swapped = true;
+            eventPublisher.publishEvent(new BankCollectionSwappedEvent(live, staged));
+
+            ReloadReport report = new ReloadReport(staged, previous, Duration.ofNanos(System.nanoTime() - start));
+            logger.info("Swapped {} banks into '{}', replacing {}, in {} ms.", staged, live, previous, report.elapsed().toMillis());
+            return report;
+        } finally {
+            if (!swapped) {
+                mongoTemplate.dropCollection(staging);
+            }
+            running.set(false);
+        }
+    }
+
+    private void validate(long read, long staged, long previous) {
+        if (staged == 0) {
+            throw new ReloadValidationException("The reload read no valid banks. Keeping the current collection.");
+        }
+        if (staged != read) {
+            throw new ReloadValidationException("Staged " + staged + " of " + read + " banks read. Keeping the current collection.");
+        }
+        if (staged < previous * minRatio) {
+            throw new ReloadValidationException("Staged " + staged + " banks against " + previous
+                    + " live, below the minimum ratio of " + minRatio + ". Keeping the current collection.");
+        }
+    }
+
+    public record ReloadReport(long banks, long previousBanks, Duration elapsed) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.exercise.swiftcode.loader;
+
+/**
+ * Published synchronously right after a reload has renamed its staging collection over
+ * {@code banks}, so that anything holding bank data can drop it before serving another read.
+ */
+public record BankCollectionSwappedEvent(String collectionName, long banks) {
+}
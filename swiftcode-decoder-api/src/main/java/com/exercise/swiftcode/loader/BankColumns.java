@@ -0,0 +1,60 @@
+package com.exercise.swiftcode.loader;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The header row resolved once into the column index of each of the five bank fields, so data
+ * rows are read by position instead of through a header lookup per cell.
+ */
+final class BankColumns {
+    static final int SWIFT_CODE = 0;
+    static final int COUNTRY_ISO2 = 1;
+    static final int NAME = 2;
+    static final int ADDRESS = 3;
+    static final int COUNTRY_NAME = 4;
+    static final int FIELD_COUNT = 5;
+
+    private static final String[] HEADERS = {"SWIFT CODE", "COUNTRY ISO2 CODE", "NAME", "ADDRESS", "COUNTRY NAME"};
+
+    // Field to column, and column to field; -1 where there is none.
+    private final int[] columns;
+    private final int[] fields;
+
+    private BankColumns(int[] columns) {
+        this.columns = columns;
+        this.fields = new int[Arrays.stream(columns).max().orElse(-1) + 1];
+        Arrays.fill(fields, -1);
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            if (columns[field] >= 0) {
+                fields[columns[field]] = field;
+            }
+        }
+    }
+
+    static BankColumns of(Map<Integer, String> headerMapping) {
+        int[] columns = new int[FIELD_COUNT];
+        Arrays.fill(columns, -1);
+        // Ascending, so that when two columns share a header the rightmost one wins, as it always has.
+        new TreeMap<>(headerMapping).forEach((column, header) -> {
+            int field = Arrays.asList(HEADERS).indexOf(header);
+            if (field >= 0) {
+                columns[field] = column;
+            }
+        });
+        return new BankColumns(columns);
+    }
+
+    static String header(int field) {
+        return HEADERS[field];
+    }
+
+    int column(int field) {
+        return columns[field];
+    }
+
+    int field(int column) {
+        return column < fields.length ? fields[column] : -1;
+    }
+}
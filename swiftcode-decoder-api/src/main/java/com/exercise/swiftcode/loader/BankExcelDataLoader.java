@@ -2,50 +2,82 @@ package com.exercise.swiftcode.loader;
 
 import com.exercise.swiftcode.persistence.entity.Bank;
 import com.exercise.swiftcode.persistence.repository.BankRepository;
+import com.exercise.swiftcode.seeder.SeedingPhase;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.apache.poi.ss.usermodel.DataFormatter;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ResourceLoaderAware;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.function.Consumer;
+
+import static com.exercise.swiftcode.persistence.callback.BankBeforeConvertCallback.isHeadquarter;
+import static com.exercise.swiftcode.persistence.callback.BankBeforeConvertCallback.prefixOf;
 
 @Component
-public class BankExcelDataLoader implements CommandLineRunner, ResourceLoaderAware {
+public class BankExcelDataLoader implements SeedingPhase, ResourceLoaderAware {
 
     private static final Logger logger = LoggerFactory.getLogger(BankExcelDataLoader.class);
 
+    static final String BANK_KEY_FIELD = "SWIFT CODE";
+
     private final BankRepository bankRepository;
     private final MongoTemplate mongoTemplate;
+    private final PipelinedBankImporter pipelinedBankImporter;
+    private final DeltaImporter deltaImporter;
     private ResourceLoader resourceLoader;
 
-    private static final String HEADER_COUNTRY_ISO2 = "COUNTRY ISO2 CODE";
-    private static final String HEADER_SWIFT_CODE = "SWIFT CODE";
-    private static final String HEADER_NAME = "NAME";
-    private static final String HEADER_ADDRESS = "ADDRESS";
-    private static final String HEADER_COUNTRY_NAME = "COUNTRY NAME";
+    @Value("${loader.excel.location}")
+    private String excelLocation;
+
+    @Value("${loader.excel.streaming}")
+    private boolean streaming;
+
+    @Value("${loader.batch-size}")
+    private int batchSize;
+
+    @Value("${loader.incremental}")
+    private boolean incremental;
 
     @Autowired
-    public BankExcelDataLoader(BankRepository bankRepository, MongoTemplate mongoTemplate) {
+    public BankExcelDataLoader(BankRepository bankRepository, MongoTemplate mongoTemplate,
+                               PipelinedBankImporter pipelinedBankImporter, DeltaImporter deltaImporter) {
         this.bankRepository = bankRepository;
         this.mongoTemplate = mongoTemplate;
+        this.pipelinedBankImporter = pipelinedBankImporter;
+        this.deltaImporter = deltaImporter;
         logger.info("BankExcelDataLoader created");
     }
 
@@ -55,7 +87,18 @@ public class BankExcelDataLoader implements CommandLineRunner, ResourceLoaderAwa
     }
 
     @Override
-    public void run(String... args) throws Exception {
+    public String phaseName() {
+        return "banks";
+    }
+
+    @Override
+    public void run() throws Exception {
+        if (incremental) {
+            deltaImporter.importDelta(Bank.class, BANK_KEY_FIELD, Bank::getSwiftCode,
+                    BankExcelDataLoader::toUpdate, this::readBanks);
+            return;
+        }
+
         try {
             if (mongoTemplate.collectionExists("banks")) {
                 logger.info("Collection 'banks' already exists. Skipping Excel data load.");
@@ -66,10 +109,16 @@ public class BankExcelDataLoader implements CommandLineRunner, ResourceLoaderAwa
             throw e;
         }
 
-        Resource resource = resourceLoader.getResource("classpath:data/swift_codes.xlsx");
-        if (!resource.exists()) {
-            logger.error("Excel file not found at classpath:data/swift_codes.xlsx");
-            throw new FileNotFoundException("Excel file not found at classpath:data/swift_codes.xlsx");
+        Resource resource = excelResource();
+        if (streams()) {
+            PipelinedBankImporter.ImportReport report = pipelinedBankImporter.importBanks(
+                    batchConsumer -> streamBanksFromExcel(resource, batchConsumer));
+            if (report.rows() == 0) {
+                logger.warn("No valid bank records found in Excel file.");
+            } else {
+                logger.info("Successfully loaded {} bank records from Excel.", report.inserted());
+            }
+            return;
         }
 
         List<Bank> banks = loadBanksFromExcel(resource);
@@ -82,6 +131,49 @@ public class BankExcelDataLoader implements CommandLineRunner, ResourceLoaderAwa
         logger.info("Successfully loaded {} bank records from Excel.", banks.size());
     }
 
+    private Resource excelResource() throws FileNotFoundException {
+        Resource resource = resourceLoader.getResource(excelLocation);
+        if (!resource.exists()) {
+            logger.error("Excel file not found at {}", excelLocation);
+            throw new FileNotFoundException("Excel file not found at " + excelLocation);
+        }
+        return resource;
+    }
+
+    // CSV and NDJSON dumps have no DOM reader and are always streamed.
+    private boolean streams() {
+        return streaming || fileFormat() != ImportFormat.XLSX;
+    }
+
+    private ImportFormat fileFormat() {
+        return ImportFormat.of(excelLocation).orElse(ImportFormat.XLSX);
+    }
+
+    /**
+     * Reads the configured Excel file with the reader selected by {@code loader.excel.streaming},
+     * handing the valid banks to {@code batchConsumer} without writing them anywhere.
+     */
+    void readBanks(Consumer<List<Bank>> batchConsumer) throws Exception {
+        Resource resource = excelResource();
+        if (streams()) {
+            streamBanksFromExcel(resource, batchConsumer);
+        } else {
+            batchConsumer.accept(loadBanksFromExcel(resource));
+        }
+    }
+
+    // Every stored field of a bank, including the ones BankBeforeConvertCallback derives on save.
+    static Update toUpdate(Bank bank) {
+        return new Update()
+                .set("countryIso2Code", bank.getCountryIso2Code())
+                .set("swiftCode", bank.getSwiftCode())
+                .set("name", bank.getName())
+                .set("address", bank.getAddress())
+                .set("countryName", bank.getCountryName())
+                .set("swiftCodePrefix", prefixOf(bank.getSwiftCode()))
+                .set("isHeadquarter", isHeadquarter(bank.getSwiftCode()));
+    }
+
     protected List<Bank> loadBanksFromExcel(Resource resource) throws Exception {
         List<Bank> banks = new ArrayList<>();
         try (InputStream is = resource.getInputStream();
@@ -101,10 +193,12 @@ public class BankExcelDataLoader implements CommandLineRunner, ResourceLoaderAwa
             DataFormatter dataFormatter = new DataFormatter();
             Row headerRow = rowIterator.next();
             Map<Integer, String> headerMapping = createHeaderMapping(headerRow, dataFormatter);
+            BankColumns columns = BankColumns.of(headerMapping);
+            BankRow target = new BankRow();
 
             while (rowIterator.hasNext()) {
                 Row row = rowIterator.next();
-                Bank bank = processRow(row, headerMapping, dataFormatter);
+                Bank bank = processRow(row, columns, dataFormatter, target);
                 if (bank != null) {
                     banks.add(bank);
                 }
@@ -116,40 +210,122 @@ public class BankExcelDataLoader implements CommandLineRunner, ResourceLoaderAwa
         return banks;
     }
 
+    /**
+     * Reads the first sheet with POI's SAX event reader, or a .csv or .ndjson location with
+     * {@link MappedBankFileReader}, and hands rows to {@code batchConsumer} in batches of
+     * {@code loader.batch-size}, so heap use does not grow with the number of rows.
+     * Returns the number of banks handed over.
+     */
+    protected long streamBanksFromExcel(Resource resource, Consumer<List<Bank>> batchConsumer) throws Exception {
+        ImportFormat format = fileFormat();
+        Path tempFile = null;
+        try {
+            // OPCPackage buffers a whole stream in memory but reads a file lazily, and only a file can be
+            // memory-mapped, so jar resources are spooled to disk.
+            File file;
+            if (resource.isFile()) {
+                file = resource.getFile();
+            } else {
+                tempFile = Files.createTempFile("swift-codes", format.extension());
+                try (InputStream is = resource.getInputStream()) {
+                    Files.copy(is, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+                file = tempFile.toFile();
+            }
+
+            BankSheetHandler handler = new BankSheetHandler(batchSize, batchConsumer);
+            if (format != ImportFormat.XLSX) {
+                format.read(file.toPath(), handler);
+            } else if (!streamSheet(file, handler)) {
+                logger.warn("Excel file contains no sheets.");
+                return 0;
+            }
+            handler.flush();
+            if (!handler.hasHeader()) {
+                logger.warn("Excel file is empty.");
+            } else if (handler.getRejected() > 0) {
+                logger.warn("Rejected {} Excel rows with missing data.", handler.getRejected());
+            }
+            return handler.getLoaded();
+        } catch (Exception e) {
+            logger.error("Failed to read Excel file", e);
+            throw e;
+        } finally {
+            if (tempFile != null) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Feeds the rows of the first sheet of {@code file} to {@code handler}, without flushing it.
+     * Returns false when the workbook has no sheets.
+     */
+    static boolean streamSheet(File file, BankSheetHandler handler) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return false;
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        reader.getStylesTable(), new ReadOnlySharedStringsTable(pkg), handler, new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+            return true;
+        }
+    }
+
     protected Map<Integer, String> createHeaderMapping(Row headerRow, DataFormatter dataFormatter) {
         Map<Integer, String> headerMapping = new HashMap<>();
         for (Cell cell : headerRow) {
-            String headerName = dataFormatter.formatCellValue(cell);
-            if (!isNullOrEmpty(headerName)) {
-                headerMapping.put(cell.getColumnIndex(), headerName.trim().toUpperCase());
-            }
+            addHeader(headerMapping, cell.getColumnIndex(), dataFormatter.formatCellValue(cell));
         }
         return headerMapping;
     }
 
-    protected Bank processRow(Row row, Map<Integer, String> headerMapping, DataFormatter dataFormatter) {
-        Map<String, String> recordMap = new HashMap<>();
+    static void addHeader(Map<Integer, String> headerMapping, int columnIndex, String headerName) {
+        if (!isNullOrEmpty(headerName)) {
+            headerMapping.put(columnIndex, headerName.trim().toUpperCase());
+        }
+    }
 
-        for (Cell cell : row) {
-            String header = headerMapping.get(cell.getColumnIndex());
-            if (header != null) {
-                String cellValue = dataFormatter.formatCellValue(cell);
-                recordMap.put(header, cellValue.trim());
+    /**
+     * Reads the five bank fields of {@code row} by column index into {@code target}, which is
+     * cleared and reused for every row, and returns the bank or null when a field is missing.
+     */
+    protected Bank processRow(Row row, BankColumns columns, DataFormatter dataFormatter, BankRow target) {
+        target.clear();
+        for (int field = 0; field < BankColumns.FIELD_COUNT; field++) {
+            int column = columns.column(field);
+            Cell cell = column < 0 ? null : row.getCell(column);
+            if (cell != null) {
+                target.set(field, cellText(cell, dataFormatter).trim());
             }
         }
+        return toBank(target, row.getRowNum());
+    }
+
+    // DataFormatter returns a string cell's text unchanged, so plain strings skip it.
+    static String cellText(Cell cell, DataFormatter dataFormatter) {
+        return cell.getCellType() == CellType.STRING ? cell.getStringCellValue() : dataFormatter.formatCellValue(cell);
+    }
 
-        String countryIso2Code = recordMap.get(HEADER_COUNTRY_ISO2);
-        String swiftCode = recordMap.get(HEADER_SWIFT_CODE);
-        String name = recordMap.get(HEADER_NAME);
-        String address = recordMap.get(HEADER_ADDRESS);
-        String countryName = recordMap.get(HEADER_COUNTRY_NAME);
+    static Bank toBank(BankRow row, int rowNum) {
+        String countryIso2Code = row.get(BankColumns.COUNTRY_ISO2);
+        String swiftCode = row.get(BankColumns.SWIFT_CODE);
+        String name = row.get(BankColumns.NAME);
+        String address = row.get(BankColumns.ADDRESS);
+        String countryName = row.get(BankColumns.COUNTRY_NAME);
 
         if (isNullOrEmpty(swiftCode) ||
                 isNullOrEmpty(countryIso2Code) ||
                 isNullOrEmpty(name) ||
                 isNullOrEmpty(address) ||
                 isNullOrEmpty(countryName)) {
-            logger.warn("Skipping record due to missing data at row {}: {}", row.getRowNum(), recordMap);
+            logger.warn("Skipping record due to missing data at row {}: {}", rowNum, row);
             return null;
         }
 
@@ -163,7 +339,7 @@ public class BankExcelDataLoader implements CommandLineRunner, ResourceLoaderAwa
                 .build();
     }
 
-    private boolean isNullOrEmpty(String s) {
+    private static boolean isNullOrEmpty(String s) {
         return s == null || s.isEmpty();
     }
 }
\ No newline at end of file
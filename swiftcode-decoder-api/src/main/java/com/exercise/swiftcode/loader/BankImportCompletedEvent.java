@@ -0,0 +1,7 @@
+package com.exercise.swiftcode.loader;
+
+/**
+ * Published when a background import has finished writing to {@code banks}.
+ */
+public record BankImportCompletedEvent(String fileName, long rowsWritten) {
+}
@@ -0,0 +1,8 @@
+package com.exercise.swiftcode.loader;
+
+/**
+ * Published before a background import starts writing to {@code banks}. A
+ * {@link BankImportCompletedEvent} always follows, even when the import writes nothing or fails.
+ */
+public record BankImportStartedEvent(String fileName) {
+}
@@ -0,0 +1,35 @@
+package com.exercise.swiftcode.loader;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+/**
+ * Reusable holder for the field values of the row being read, indexed by the {@link BankColumns}
+ * field constants.
+ */
+final class BankRow {
+    private final String[] values = new String[BankColumns.FIELD_COUNT];
+
+    void clear() {
+        Arrays.fill(values, null);
+    }
+
+    void set(int field, String value) {
+        values[field] = value;
+    }
+
+    String get(int field) {
+        return values[field];
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        for (int field = 0; field < values.length; field++) {
+            if (values[field] != null) {
+                joiner.add(BankColumns.header(field) + "=" + values[field]);
+            }
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,139 @@
+package com.exercise.swiftcode.loader;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Receives row events for the bank sheet, from the XLSX SAX reader or from {@link MappedBankFileReader}.
+ * The first row is the header and is mapped exactly as
+ * {@link BankExcelDataLoader#createHeaderMapping} does; every later row is read into a reusable
+ * {@link BankRow}, goes through the same validation as {@link BankExcelDataLoader#processRow} and
+ * is handed on in fixed-size batches.
+ */
+class BankSheetHandler implements SheetContentsHandler {
+    private static final Logger logger = LoggerFactory.getLogger(BankSheetHandler.class);
+
+    private final int batchSize;
+    private final Consumer<List<Bank>> batchConsumer;
+
+    private final Map<Integer, String> headerMapping = new HashMap<>();
+    private final BankRow row = new BankRow();
+    private BankColumns columns;
+    private int rowNum;
+    private List<Bank> batch;
+    private long loaded;
+    private long rejected;
+    private String malformed;
+
+    BankSheetHandler(int batchSize, Consumer<List<Bank>> batchConsumer) {
+        this.batchSize = batchSize;
+        this.batchConsumer = batchConsumer;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void startRow(int rowNum) {
+        this.rowNum = rowNum;
+        row.clear();
+        malformed = null;
+    }
+
+    @Override
+    public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+        cell(columnOf(cellReference), formattedValue == null ? "" : formattedValue);
+    }
+
+    /**
+     * Whether {@link #cell(int, String)} would use a value in this column, so readers can skip
+     * decoding the others.
+     */
+    boolean accepts(int columnIndex) {
+        return columns == null || columns.field(columnIndex) >= 0;
+    }
+
+    void cell(int columnIndex, String value) {
+        if (columns == null) {
+            BankExcelDataLoader.addHeader(headerMapping, columnIndex, value);
+            return;
+        }
+        int field = columns.field(columnIndex);
+        if (field >= 0) {
+            row.set(field, value.trim());
+        }
+    }
+
+    /**
+     * Marks the current row as unusable, for a value the reader could not turn into a cell. The row
+     * is counted as rejected when it ends.
+     */
+    void rejectRow(String problem) {
+        malformed = problem;
+    }
+
+    @Override
+    public void endRow(int rowNum) {
+        if (columns == null) {
+            columns = BankColumns.of(headerMapping);
+            return;
+        }
+        if (malformed != null) {
+            logger.warn("Skipping malformed record at row {}: {}", this.rowNum, malformed);
+            rejected++;
+            return;
+        }
+        Bank bank = BankExcelDataLoader.toBank(row, this.rowNum);
+        if (bank == null) {
+            rejected++;
+            return;
+        }
+        batch.add(bank);
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Column index of an A1-style reference such as {@code "C12"}, without allocating.
+     */
+    static int columnOf(String cellReference) {
+        int column = 0;
+        for (int i = 0; i < cellReference.length(); i++) {
+            char c = cellReference.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        loaded += batch.size();
+        batchConsumer.accept(batch);
+        batch = new ArrayList<>(batchSize);
+    }
+
+    boolean hasHeader() {
+        return columns != null;
+    }
+
+    long getLoaded() {
+        return loaded;
+    }
+
+    long getRejected() {
+        return rejected;
+    }
+}
@@ -0,0 +1,185 @@
+package com.exercise.swiftcode.loader;
+
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Applies a full source to an existing collection by writing only the difference. Every document
+ * carries a hash of the content it was imported with; incoming rows whose hash matches are left
+ * alone, new and changed rows are upserted, and documents the source no longer contains are
+ * deleted, all as unordered bulk writes of {@code loader.batch-size}. The deletes are skipped when
+ * the source produced fewer rows than {@code loader.reload.min-ratio} of the stored ones, since an
+ * empty or misread source would otherwise wipe the collection.
+ */
+@Component
+public class DeltaImporter {
+    private static final Logger logger = LoggerFactory.getLogger(DeltaImporter.class);
+
+    public static final String CONTENT_HASH_FIELD = "CONTENT HASH";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${loader.batch-size}")
+    private int batchSize;
+
+    @Value("${loader.reload.min-ratio}")
+    private double minRatio;
+
+    public DeltaImporter(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @FunctionalInterface
+    public interface RowSource<T> {
+        /**
+         * Hands every row of the source to {@code batchConsumer}, in batches of any size.
+         */
+        void produce(Consumer<List<T>> batchConsumer) throws Exception;
+    }
+
+    /**
+     * @param keyField stored name of the field identifying a row, which must be unique
+     * @param keyOf    the value of {@code keyField} for a row
+     * @param toUpdate the fields to write for a row; its content hash is taken over this update
+     */
+    public <T> DeltaReport importDelta(Class<T> type, String keyField, Function<T, String> keyOf,
+                                       Function<T, Update> toUpdate, RowSource<T> source) throws Exception {
+        String collectionName = mongoTemplate.getCollectionName(type);
+        Map<String, String> storedHashes = readStoredHashes(collectionName, keyField);
+        Delta<T> delta = new Delta<>(type, keyField, keyOf, toUpdate, storedHashes);
+
+        int stored = storedHashes.size();
+        source.produce(delta::apply);
+        delta.flush();
+        if (stored > 0 && (delta.accepted == 0 || delta.accepted < stored * minRatio)) {
+            logger.warn("Delta import of '{}' produced {} rows against {} stored, below the minimum ratio of {}. "
+                    + "Keeping the {} stored rows it did not produce.", collectionName, delta.accepted, stored, minRatio,
+                    storedHashes.size());
+            delta.deletesSkipped = true;
+        } else {
+            delta.deleteRemaining();
+        }
+
+        DeltaReport report = delta.report();
+        logger.info("Delta import of '{}': {} inserted, {} updated, {} unchanged, {} deleted.",
+                collectionName, report.inserted(), report.updated(), report.unchanged(), report.deleted());
+        return report;
+    }
+
+    private Map<String, String> readStoredHashes(String collectionName, String keyField) {
+        Query query = new Query();
+        query.fields().include(keyField).include(CONTENT_HASH_FIELD).exclude("_id");
+        Map<String, String> storedHashes = new HashMap<>();
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, collectionName)) {
+            documents.forEach(document -> {
+                if (document.get(keyField) instanceof String key) {
+                    storedHashes.put(key, document.getString(CONTENT_HASH_FIELD));
+                }
+            });
+        }
+        return storedHashes;
+    }
+
+    static String contentHash(MessageDigest digest, Update update) {
+        byte[] content = update.getUpdateObject().toJson().getBytes(StandardCharsets.UTF_8);
+        return HexFormat.of().formatHex(digest.digest(content));
+    }
+
+    private final class Delta<T> {
+        private final Class<T> type;
+        private final String keyField;
+        private final Function<T, String> keyOf;
+        private final Function<T, Update> toUpdate;
+        // Whatever is still here once the source is exhausted has disappeared from it.
+        private final Map<String, String> storedHashes;
+        private final MessageDigest digest;
+        private BulkOperations pending;
+        private int pendingCount;
+        private long inserted;
+        private long updated;
+        private long unchanged;
+        private long deleted;
+        private long accepted;
+        private boolean deletesSkipped;
+
+        Delta(Class<T> type, String keyField, Function<T, String> keyOf, Function<T, Update> toUpdate,
+              Map<String, String> storedHashes) throws NoSuchAlgorithmException {
+            this.type = type;
+            this.keyField = keyField;
+            this.keyOf = keyOf;
+            this.toUpdate = toUpdate;
+            this.storedHashes = storedHashes;
+            this.digest = MessageDigest.getInstance("SHA-256");
+        }
+
+        void apply(List<T> rows) {
+            for (T row : rows) {
+                accepted++;
+                String key = keyOf.apply(row);
+                Update update = toUpdate.apply(row);
+                String hash = contentHash(digest, update);
+                if (hash.equals(storedHashes.remove(key))) {
+                    unchanged++;
+                    continue;
+                }
+                if (pending == null) {
+                    pending = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+                }
+                pending.upsert(Query.query(Criteria.where(keyField).is(key)), update.set(CONTENT_HASH_FIELD, hash));
+                if (++pendingCount >= batchSize) {
+                    flush();
+                }
+            }
+        }
+
+        void flush() {
+            if (pending == null) {
+                return;
+            }
+            BulkWriteResult result = pending.execute();
+            inserted += result.getUpserts().size();
+            updated += result.getMatchedCount();
+            pending = null;
+            pendingCount = 0;
+        }
+
+        void deleteRemaining() {
+            List<String> keys = new ArrayList<>(storedHashes.keySet());
+            for (int from = 0; from < keys.size(); from += batchSize) {
+                List<String> chunk = keys.subList(from, Math.min(from + batchSize, keys.size()));
+                deleted += mongoTemplate.remove(Query.query(Criteria.where(keyField).in(chunk)), type).getDeletedCount();
+            }
+        }
+
+        DeltaReport report() {
+            return new DeltaReport(inserted, updated, unchanged, deleted, deletesSkipped);
+        }
+    }
+
+    /**
+     * @param deletesSkipped whether rows missing from the source were kept because it produced too few rows
+     */
+    public record DeltaReport(long inserted, long updated, long unchanged, long deleted, boolean deletesSkipped) {
+    }
+}
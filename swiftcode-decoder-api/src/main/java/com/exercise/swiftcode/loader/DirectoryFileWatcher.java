@@ -0,0 +1,257 @@
+package com.exercise.swiftcode.loader;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.persistence.repository.BankRepository;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches {@code loader.watch.directory} and applies every directory file dropped there as a delta
+ * import, so the banks collection follows the file without a restart or a full reload. A file is
+ * imported once its events have been quiet for {@code loader.watch.debounce}, so a copy still in
+ * progress is not read half-written. The SHA-256 of every applied file is recorded in
+ * {@code directoryFileImports}, which keeps the same content from being applied twice, whether it
+ * is touched again, renamed, or seen by several instances sharing the directory.
+ */
+@Component
+@ConditionalOnProperty(name = "loader.watch.enabled", havingValue = "true")
+public class DirectoryFileWatcher implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(DirectoryFileWatcher.class);
+
+    static final String HISTORY_COLLECTION = "directoryFileImports";
+
+    private final DeltaImporter deltaImporter;
+    private final MongoTemplate mongoTemplate;
+    private final BankRepository bankRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path directory;
+    private final PathMatcher matcher;
+    private final Duration debounce;
+    // A single thread, so imports run one at a time in the order their files settled.
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("directory-import").daemon().factory());
+    private final Map<Path, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+    private WatchService watchService;
+
+    @Value("${loader.batch-size}")
+    private int batchSize;
+
+    @Value("${loader.reload.min-ratio}")
+    private double minRatio;
+
+    public DirectoryFileWatcher(DeltaImporter deltaImporter, MongoTemplate mongoTemplate, BankRepository bankRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${loader.watch.directory}") String directory,
+                                @Value("${loader.watch.pattern}") String pattern,
+                                @Value("${loader.watch.debounce}") Duration debounce) {
+        this.deltaImporter = deltaImporter;
+        this.mongoTemplate = mongoTemplate;
+        this.bankRepository = bankRepository;
+        this.eventPublisher = eventPublisher;
+        this.directory = Path.of(directory);
+        this.matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        this.debounce = debounce;
+    }
+
+    // After seeding, so a delta never races the initial load. Files dropped while the node was down are picked up too.
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        Thread.ofPlatform().name("directory-watcher").daemon().start(this::watch);
+        logger.info("Watching {} for directory files matching {}.", directory, matcher);
+        scanDirectory();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        scanDirectory();
+                    } else if (event.context() instanceof Path name) {
+                        fileChanged(directory.resolve(name));
+                    }
+                }
+                if (!key.reset()) {
+                    logger.error("Watched directory {} is no longer accessible. Stopped watching.", directory);
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.debug("Stopped watching {}.", directory);
+        }
+    }
+
+    private void scanDirectory() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            files.forEach(this::fileChanged);
+        } catch (IOException e) {
+            logger.error("Could not list watched directory {}.", directory, e);
+        }
+    }
+
+    /**
+     * Schedules {@code file} for import once no further event arrives for it within the debounce.
+     */
+    void fileChanged(Path file) {
+        if (!matcher.matches(file.getFileName()) || ImportFormat.of(file.toString()).isEmpty()) {
+            return;
+        }
+        pending.compute(file, (path, scheduled) -> {
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            Settle settle = new Settle(path);
+            // The task's own remove waits on this entry's lock, so it always sees its future set.
+            settle.future = scheduler.schedule(settle, debounce.toMillis(), TimeUnit.MILLISECONDS);
+            return settle.future;
+        });
+    }
+
+    // One scheduled import of a file. It only runs while it is still the latest one scheduled for the file.
+    private final class Settle implements Runnable {
+        private final Path file;
+        private volatile ScheduledFuture<?> future;
+
+        private Settle(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public void run() {
+            // An event that arrived as this fired scheduled a newer import, which stays pending and cancellable.
+            if (pending.remove(file, future)) {
+                settled(file);
+            }
+        }
+    }
+
+    private void settled(Path file) {
+        try {
+            apply(file);
+        } catch (Exception e) {
+            logger.error("Import of watched file {} failed.", file, e);
+        }
+    }
+
+    /**
+     * Applies {@code file} unless a file with the same content was applied before. Returns whether
+     * it was imported.
+     */
+    boolean apply(Path file) throws Exception {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        ImportFormat format = ImportFormat.of(file.toString()).orElseThrow();
+        String checksum = checksum(file);
+        if (!claim(checksum, file)) {
+            logger.info("Skipping {}: a file with checksum {} was already applied.", file, checksum);
+            return false;
+        }
+        try {
+            // An early reject for a truncated file, from its size alone. The delta's own count of parsed rows
+            // is what protects the deletes, since a file of the right size can still have a wrong header.
+            OptionalLong expected = format.expectedRows(file);
+            long live = bankRepository.count();
+            if (live > 0 && expected.isEmpty()) {
+                logger.warn("Skipping {}: its size is unknown, so it cannot be checked against {} live banks.", file, live);
+                release(checksum);
+                return false;
+            }
+            if (expected.isPresent() && expected.getAsLong() < live * minRatio) {
+                logger.warn("Skipping {}: it holds about {} banks against {} live, below the minimum ratio of {}.",
+                        file, expected.getAsLong(), live, minRatio);
+                release(checksum);
+                return false;
+            }
+            DeltaImporter.DeltaReport report = deltaImporter.importDelta(Bank.class, BankExcelDataLoader.BANK_KEY_FIELD,
+                    Bank::getSwiftCode, BankExcelDataLoader::toUpdate, batchConsumer -> {
+                        BankSheetHandler handler = new BankSheetHandler(batchSize, batchConsumer);
+                        format.read(file, handler);
+                        handler.flush();
+                    });
+            long written = report.inserted() + report.updated() + report.deleted();
+            if (written > 0) {
+                eventPublisher.publishEvent(new BankImportCompletedEvent(file.getFileName().toString(), written));
+            }
+            logger.info("Applied watched file {} with checksum {}.", file, checksum);
+            return true;
+        } catch (Exception e) {
+            // Lets a later event retry, for example once Mongo is reachable again.
+            release(checksum);
+            throw e;
+        }
+    }
+
+    // The checksum is the document id, so when several instances see the same file only one insert succeeds.
+    private boolean claim(String checksum, Path file) {
+        try {
+            mongoTemplate.insert(new Document("_id", checksum)
+                    .append("FILE NAME", file.getFileName().toString())
+                    .append("APPLIED AT", Instant.now()), HISTORY_COLLECTION);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private void release(String checksum) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(checksum)), HISTORY_COLLECTION);
+    }
+
+    static String checksum(Path file) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int read; (read = in.read(buffer)) > 0; ) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.exercise.swiftcode.loader;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * File types accepted by an import, chosen by extension. Both feed rows to a
+ * {@link BankSheetHandler}, so they share header mapping and validation with the startup loader.
+ */
+public enum ImportFormat {
+    XLSX(".xlsx") {
+        @Override
+        void read(Path file, BankSheetHandler handler) throws Exception {
+            BankExcelDataLoader.streamSheet(file.toFile(), handler);
+        }
+
+        // The <dimension> element at the start of the sheet gives its range without reading the rows.
+        @Override
+        OptionalLong expectedRows(Path file) throws Exception {
+            try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+                Iterator<InputStream> sheets = new XSSFReader(pkg).getSheetsData();
+                if (!sheets.hasNext()) {
+                    return OptionalLong.of(0);
+                }
+                try (InputStream sheet = sheets.next()) {
+                    XMLStreamReader xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheet);
+                    while (xml.hasNext()) {
+                        if (xml.next() != XMLStreamConstants.START_ELEMENT) {
+                            continue;
+                        }
+                        if ("dimension".equals(xml.getLocalName())) {
+                            return dataRows(xml.getAttributeValue(null, "ref"));
+                        }
+                        if ("sheetData".equals(xml.getLocalName())) {
+                            break;
+                        }
+                    }
+                }
+            }
+            return OptionalLong.empty();
+        }
+    },
+    CSV(".csv") {
+        @Override
+        void read(Path file, BankSheetHandler handler) throws Exception {
+            MappedBankFileReader.readCsv(file, handler);
+        }
+
+        // Counts line breaks, so quoted fields spanning lines make this an overestimate.
+        @Override
+        OptionalLong expectedRows(Path file) throws Exception {
+            return OptionalLong.of(Math.max(0, countLines(file) - 1));
+        }
+    },
+    NDJSON(".ndjson") {
+        @Override
+        void read(Path file, BankSheetHandler handler) throws Exception {
+            MappedBankFileReader.readNdjson(file, handler);
+        }
+
+        @Override
+        OptionalLong expectedRows(Path file) throws Exception {
+            return OptionalLong.of(countLines(file));
+        }
+    };
+
+    private final String extension;
+
+    ImportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static Optional<ImportFormat> of(String fileName) {
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        String lowerCase = fileName.toLowerCase(Locale.ROOT);
+        for (ImportFormat format : values()) {
+            if (lowerCase.endsWith(format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Feeds every row of {@code file}, header first, to {@code handler} without flushing it.
+     */
+    abstract void read(Path file, BankSheetHandler handler) throws Exception;
+
+    /**
+     * Number of data rows in {@code file}, read cheaply ahead of the import for its ETA.
+     */
+    abstract OptionalLong expectedRows(Path file) throws Exception;
+
+    static long countLines(Path file) throws IOException {
+        long lines = 0;
+        int last = '\n';
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int read; (read = in.read(buffer)) > 0; ) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        lines++;
+                    }
+                }
+                last = buffer[read - 1];
+            }
+        }
+        return last == '\n' ? lines : lines + 1;
+    }
+
+    // "A1:H1062" has 1061 rows below the header; a single cell such as "A1" has none.
+    static OptionalLong dataRows(String ref) {
+        if (ref == null) {
+            return OptionalLong.empty();
+        }
+        String last = ref.substring(ref.indexOf(':') + 1);
+        int digits = 0;
+        while (digits < last.length() && !Character.isDigit(last.charAt(digits))) {
+            digits++;
+        }
+        if (digits == last.length()) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(Math.max(0, Long.parseLong(last.substring(digits)) - 1));
+    }
+}
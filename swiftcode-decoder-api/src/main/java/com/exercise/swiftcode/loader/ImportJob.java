@@ -0,0 +1,161 @@
+package com.exercise.swiftcode.loader;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Progress of one background import. Counters are updated by the parsing thread and the writer
+ * threads while status requests read them, so every field is safe to read at any time.
+ */
+public final class ImportJob {
+    public enum State { QUEUED, RUNNING, SUCCEEDED, FAILED }
+
+    private final UUID id;
+    private final String fileName;
+    private final ImportFormat format;
+    private final Instant submittedAt = Instant.now();
+    private final LongAdder rowsParsed = new LongAdder();
+    private final LongAdder rowsWritten = new LongAdder();
+    private final LongAdder rowsRejected = new LongAdder();
+    private volatile State state = State.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile long startNanos;
+    private volatile long finishNanos;
+    private volatile long rowsInvalid;
+    private volatile OptionalLong expectedRows = OptionalLong.empty();
+    private volatile String error;
+
+    ImportJob(UUID id, String fileName, ImportFormat format) {
+        this.id = id;
+        this.fileName = fileName;
+        this.format = format;
+    }
+
+    void start(OptionalLong expectedRows) {
+        this.expectedRows = expectedRows;
+        this.startedAt = Instant.now();
+        this.startNanos = System.nanoTime();
+        this.state = State.RUNNING;
+    }
+
+    void parsed(long rows) {
+        rowsParsed.add(rows);
+    }
+
+    void written(long inserted, long rejected) {
+        rowsWritten.add(inserted);
+        rowsRejected.add(rejected);
+    }
+
+    void invalid(long rows) {
+        rowsInvalid = rows;
+    }
+
+    void succeed() {
+        finish(State.SUCCEEDED, null);
+    }
+
+    void fail(String error) {
+        finish(State.FAILED, error);
+    }
+
+    private void finish(State state, String error) {
+        this.error = error;
+        this.finishNanos = System.nanoTime();
+        this.finishedAt = Instant.now();
+        this.state = state;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public ImportFormat getFormat() {
+        return format;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getRowsParsed() {
+        return rowsParsed.sum();
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten.sum();
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected.sum();
+    }
+
+    public long getRowsInvalid() {
+        return rowsInvalid;
+    }
+
+    public OptionalLong getExpectedRows() {
+        return expectedRows;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isFinished() {
+        State current = state;
+        return current == State.SUCCEEDED || current == State.FAILED;
+    }
+
+    public Duration elapsed() {
+        if (state == State.QUEUED) {
+            return Duration.ZERO;
+        }
+        long end = isFinished() ? finishNanos : System.nanoTime();
+        return Duration.ofNanos(end - startNanos);
+    }
+
+    /**
+     * Rows that reached the database, inserted or rejected, per second since the job started.
+     */
+    public double rowsPerSecond() {
+        long nanos = elapsed().toNanos();
+        return nanos == 0 ? 0 : (getRowsWritten() + getRowsRejected()) * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * Time left at the current rate, when the file size in rows is known and writing has started.
+     */
+    public OptionalLong etaSeconds() {
+        if (isFinished()) {
+            return OptionalLong.of(0);
+        }
+        double rate = rowsPerSecond();
+        OptionalLong expected = expectedRows;
+        if (state != State.RUNNING || expected.isEmpty() || rate == 0) {
+            return OptionalLong.empty();
+        }
+        long remaining = Math.max(0, expected.getAsLong() - getRowsWritten() - getRowsRejected() - rowsInvalid);
+        return OptionalLong.of(Math.round(remaining / rate));
+    }
+}
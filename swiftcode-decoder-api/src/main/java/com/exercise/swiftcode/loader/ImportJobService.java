@@ -0,0 +1,149 @@
+package com.exercise.swiftcode.loader;
+
+import com.exercise.swiftcode.config.exceptions.ImportQueueFullException;
+import com.exercise.swiftcode.config.exceptions.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs uploaded directory files as background imports on a dedicated, bounded pool, so imports
+ * never occupy request threads and a burst of uploads is refused instead of queued without limit.
+ * Rows go through {@link PipelinedBankImporter} as unordered bulk inserts, so a SWIFT code that
+ * already exists is counted as rejected rather than overwritten.
+ */
+@Component
+public class ImportJobService implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobService.class);
+
+    private final PipelinedBankImporter pipelinedBankImporter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor executor;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final int retainedJobs;
+
+    @Value("${loader.batch-size}")
+    private int batchSize;
+
+    public ImportJobService(PipelinedBankImporter pipelinedBankImporter, ApplicationEventPublisher eventPublisher,
+                            @Value("${import.jobs.threads}") int threads,
+                            @Value("${import.jobs.queue-capacity}") int queueCapacity,
+                            @Value("${import.jobs.retained}") int retainedJobs) {
+        this.pipelinedBankImporter = pipelinedBankImporter;
+        this.eventPublisher = eventPublisher;
+        this.retainedJobs = retainedJobs;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), Thread.ofPlatform().name("bank-import-job-", 0).factory());
+    }
+
+    /**
+     * Copies {@code content} to a temporary file, since an upload does not outlive its request,
+     * and queues the import.
+     */
+    public ImportJob submit(String fileName, InputStream content) throws IOException {
+        ImportFormat format = ImportFormat.of(fileName).orElseThrow(() ->
+                new ValidationException("Unsupported import file '" + fileName + "'. Upload an .xlsx, .csv or .ndjson file."));
+        Path file = Files.createTempFile("bank-import-", format.extension());
+        ImportJob job = new ImportJob(UUID.randomUUID(), fileName, format);
+        try {
+            Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+            jobs.put(job.getId(), job);
+            executor.execute(() -> run(job, file));
+        } catch (IOException | RuntimeException e) {
+            jobs.remove(job.getId());
+            Files.deleteIfExists(file);
+            if (e instanceof RejectedExecutionException) {
+                throw new ImportQueueFullException("Too many imports are running or queued. Try again later.");
+            }
+            throw e;
+        }
+        logger.info("Queued import {} of '{}'.", job.getId(), fileName);
+        pruneFinishedJobs();
+        return job;
+    }
+
+    public Optional<ImportJob> find(UUID id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    void run(ImportJob job, Path file) {
+        eventPublisher.publishEvent(new BankImportStartedEvent(job.getFileName()));
+        try {
+            job.start(expectedRows(job.getFormat(), file));
+            PipelinedBankImporter.ImportReport report = pipelinedBankImporter.importBanks(batchConsumer -> {
+                BankSheetHandler handler = new BankSheetHandler(batchSize, batch -> {
+                    job.parsed(batch.size());
+                    batchConsumer.accept(batch);
+                });
+                job.getFormat().read(file, handler);
+                handler.flush();
+                job.invalid(handler.getRejected());
+                return handler.getLoaded();
+            }, job::written);
+            publishCompleted(job);
+            job.succeed();
+            logger.info("Import {} of '{}' finished: {} inserted, {} rejected, {} invalid rows.",
+                    job.getId(), job.getFileName(), report.inserted(), report.rejected(), job.getRowsInvalid());
+        } catch (Exception e) {
+            logger.error("Import {} of '{}' failed.", job.getId(), job.getFileName(), e);
+            publishCompleted(job);
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Could not delete import file {}.", file, e);
+            }
+        }
+    }
+
+    // Before the job reports a final state, so a client polling for it never reads stale responses. Published
+    // even when nothing was written, since the directory ignores save events while an import runs.
+    private void publishCompleted(ImportJob job) {
+        eventPublisher.publishEvent(new BankImportCompletedEvent(job.getFileName(), job.getRowsWritten()));
+    }
+
+    private static OptionalLong expectedRows(ImportFormat format, Path file) {
+        try {
+            return format.expectedRows(file);
+        } catch (Exception e) {
+            logger.warn("Could not estimate the size of import file {}; no ETA will be reported.", file, e);
+            return OptionalLong.empty();
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        int excess = jobs.size() - retainedJobs;
+        if (excess <= 0) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(ImportJob::isFinished)
+                .sorted(Comparator.comparing(ImportJob::getFinishedAt))
+                .limit(excess)
+                .forEach(job -> jobs.remove(job.getId()));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,436 @@
+package com.exercise.swiftcode.loader;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads CSV and NDJSON directory dumps straight from a memory-mapped file and hands them to a
+ * {@link BankSheetHandler} as row and cell events. The tokenizer works on bytes: no line is ever
+ * turned into a {@code String}, and only the cells of columns the handler maps are decoded.
+ * <p>
+ * CSV follows RFC 4180, the layout Excel writes with "CSV UTF-8": quoted fields may contain commas,
+ * doubled quotes and line breaks, and a leading byte order mark is skipped. NDJSON holds one object
+ * per line whose keys are the sheet's header names, such as {"SWIFT CODE": "BREXPLPWXXX", ...}.
+ * Other keys are skipped whatever they hold; a bank field holding an object or array rejects the row.
+ * <p>
+ * The file is mapped in windows of at most {@value #WINDOW_SIZE} bytes, so files beyond the 2 GB
+ * limit of a single mapping are read too, as long as no one record is larger than a window.
+ */
+final class MappedBankFileReader implements AutoCloseable {
+    static final int WINDOW_SIZE = 256 * 1024 * 1024;
+
+    private static final int REPLACEMENT_CHARACTER = 0xFFFD;
+    private static final byte[] BYTE_ORDER_MARK = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final byte[][] HEADERS = new byte[BankColumns.FIELD_COUNT][];
+
+    static {
+        for (int field = 0; field < BankColumns.FIELD_COUNT; field++) {
+            HEADERS[field] = BankColumns.header(field).getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long pos;
+    // Start of the record being read, which a remapped window must still contain.
+    private long recordStart;
+    private int line = 1;
+    private byte[] scratch = new byte[256];
+    private int scratchLength;
+
+    private MappedBankFileReader(Path file, int windowSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+    }
+
+    static void readCsv(Path file, BankSheetHandler handler) throws IOException {
+        readCsv(file, handler, WINDOW_SIZE);
+    }
+
+    static void readCsv(Path file, BankSheetHandler handler, int windowSize) throws IOException {
+        try (MappedBankFileReader reader = new MappedBankFileReader(file, windowSize)) {
+            reader.csv(handler);
+        }
+    }
+
+    static void readNdjson(Path file, BankSheetHandler handler) throws IOException {
+        readNdjson(file, handler, WINDOW_SIZE);
+    }
+
+    static void readNdjson(Path file, BankSheetHandler handler, int windowSize) throws IOException {
+        try (MappedBankFileReader reader = new MappedBankFileReader(file, windowSize)) {
+            reader.ndjson(handler);
+        }
+    }
+
+    private void csv(BankSheetHandler handler) throws IOException {
+        skipByteOrderMark();
+        int rowNum = 0;
+        while (true) {
+            int c = next();
+            while (c == '\r' || c == '\n') {
+                c = next();
+            }
+            if (c < 0) {
+                return;
+            }
+            recordStart = pos - 1;
+            handler.startRow(rowNum);
+            int column = 0;
+            while (true) {
+                boolean wanted = handler.accepts(column);
+                scratchLength = 0;
+                if (c == '"') {
+                    c = quotedCsvField(wanted);
+                } else {
+                    while (c >= 0 && c != ',' && c != '\r' && c != '\n') {
+                        if (wanted) {
+                            append(c);
+                        }
+                        c = next();
+                    }
+                }
+                if (wanted) {
+                    handler.cell(column, decode());
+                }
+                if (c != ',') {
+                    break;
+                }
+                column++;
+                c = next();
+            }
+            handler.endRow(rowNum++);
+            recordStart = pos;
+        }
+    }
+
+    // Reads from just after the opening quote and returns the byte that ends the field.
+    private int quotedCsvField(boolean wanted) throws IOException {
+        while (true) {
+            int c = next();
+            if (c < 0) {
+                return c;
+            }
+            if (c == '"') {
+                c = next();
+                if (c != '"') {
+                    // As Excel does, text after the closing quote is kept up to the delimiter.
+                    while (c >= 0 && c != ',' && c != '\r' && c != '\n') {
+                        if (wanted) {
+                            append(c);
+                        }
+                        c = next();
+                    }
+                    return c;
+                }
+            }
+            if (wanted) {
+                append(c);
+            }
+        }
+    }
+
+    private void ndjson(BankSheetHandler handler) throws IOException {
+        handler.startRow(0);
+        for (int field = 0; field < BankColumns.FIELD_COUNT; field++) {
+            handler.cell(field, BankColumns.header(field));
+        }
+        handler.endRow(0);
+
+        skipByteOrderMark();
+        int rowNum = 1;
+        while (true) {
+            int c = skipWhitespace();
+            if (c < 0) {
+                return;
+            }
+            recordStart = pos - 1;
+            expect(c, '{');
+            handler.startRow(rowNum);
+            c = skipInlineWhitespace();
+            if (c != '}') {
+                while (true) {
+                    expect(c, '"');
+                    int field = jsonKey();
+                    expect(skipInlineWhitespace(), ':');
+                    c = skipInlineWhitespace();
+                    boolean wanted = field >= 0 && handler.accepts(field);
+                    scratchLength = 0;
+                    if (c == '"') {
+                        jsonString(wanted);
+                        c = skipInlineWhitespace();
+                    } else if (c == '{' || c == '[') {
+                        // Only unknown keys may hold nested values; a bank field must be a string or a literal.
+                        if (wanted) {
+                            handler.rejectRow(BankColumns.header(field) + " is an object or array");
+                            wanted = false;
+                        }
+                        skipJsonContainer();
+                        c = skipInlineWhitespace();
+                    } else {
+                        c = jsonLiteral(c);
+                        // A null leaves the field missing, like an empty cell.
+                        if (isNull()) {
+                            wanted = false;
+                        }
+                    }
+                    if (wanted) {
+                        handler.cell(field, decode());
+                    }
+                    if (c != ',') {
+                        break;
+                    }
+                    c = skipInlineWhitespace();
+                }
+            }
+            expect(c, '}');
+            c = skipInlineWhitespace();
+            if (c >= 0 && c != '\n') {
+                throw malformed("expected a line break after the object");
+            }
+            line++;
+            handler.endRow(rowNum++);
+            recordStart = pos;
+        }
+    }
+
+    // Reads a key from just after its opening quote and returns the field it names, or -1.
+    private int jsonKey() throws IOException {
+        scratchLength = 0;
+        jsonString(true);
+        int from = 0;
+        int to = scratchLength;
+        while (from < to && scratch[from] == ' ') {
+            from++;
+        }
+        while (to > from && scratch[to - 1] == ' ') {
+            to--;
+        }
+        for (int field = 0; field < HEADERS.length; field++) {
+            if (equalsIgnoreAsciiCase(HEADERS[field], scratch, from, to)) {
+                return field;
+            }
+        }
+        return -1;
+    }
+
+    private void jsonString(boolean wanted) throws IOException {
+        while (true) {
+            int c = next();
+            if (c < 0 || c == '\n') {
+                throw malformed("unterminated string");
+            }
+            if (c == '"') {
+                return;
+            }
+            if (c == '\\') {
+                c = next();
+                switch (c) {
+                    case '"', '\\', '/' -> { }
+                    case 'b' -> c = '\b';
+                    case 'f' -> c = '\f';
+                    case 'n' -> c = '\n';
+                    case 'r' -> c = '\r';
+                    case 't' -> c = '\t';
+                    case 'u' -> {
+                        int codePoint = unicodeEscape();
+                        if (wanted) {
+                            appendCodePoint(codePoint);
+                        }
+                        continue;
+                    }
+                    default -> throw malformed("invalid escape");
+                }
+            }
+            if (wanted) {
+                append(c);
+            }
+        }
+    }
+
+    // Reads the four digits of a \\u escape, and the low half that must follow a high surrogate.
+    private int unicodeEscape() throws IOException {
+        int codeUnit = hexQuad();
+        if (!Character.isHighSurrogate((char) codeUnit)) {
+            return Character.isLowSurrogate((char) codeUnit) ? REPLACEMENT_CHARACTER : codeUnit;
+        }
+        if (next() != '\\' || next() != 'u') {
+            throw malformed("unpaired surrogate");
+        }
+        int low = hexQuad();
+        if (!Character.isLowSurrogate((char) low)) {
+            throw malformed("unpaired surrogate");
+        }
+        return Character.toCodePoint((char) codeUnit, (char) low);
+    }
+
+    private int hexQuad() throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(next(), 16);
+            if (digit < 0) {
+                throw malformed("invalid \\u escape");
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    // Numbers and true, false or null, kept as their text; returns the byte after the literal.
+    private int jsonLiteral(int c) throws IOException {
+        while (c >= 0 && c != ',' && c != '}' && c != ' ' && c != '\t' && c != '\r' && c != '\n') {
+            append(c);
+            c = next();
+        }
+        if (scratchLength == 0) {
+            throw malformed("expected a value");
+        }
+        return c == ' ' || c == '\t' || c == '\r' ? skipInlineWhitespace() : c;
+    }
+
+    private boolean isNull() {
+        return scratchLength == 4 && scratch[0] == 'n' && scratch[1] == 'u' && scratch[2] == 'l' && scratch[3] == 'l';
+    }
+
+    // Skips a nested object or array, from just after its opening bracket.
+    private void skipJsonContainer() throws IOException {
+        int depth = 1;
+        while (depth > 0) {
+            int c = next();
+            if (c < 0 || c == '\n') {
+                throw malformed("unterminated object or array");
+            }
+            if (c == '"') {
+                jsonString(false);
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+        }
+    }
+
+    private int skipWhitespace() throws IOException {
+        int c = next();
+        while (c == ' ' || c == '\t' || c == '\r' || c == '\n') {
+            if (c == '\n') {
+                line++;
+            }
+            c = next();
+        }
+        return c;
+    }
+
+    private int skipInlineWhitespace() throws IOException {
+        int c = next();
+        while (c == ' ' || c == '\t' || c == '\r') {
+            c = next();
+        }
+        return c;
+    }
+
+    private void expect(int c, char expected) throws IOException {
+        if (c != expected) {
+            throw malformed("expected '" + expected + "'");
+        }
+    }
+
+    private IOException malformed(String problem) {
+        return new IOException("Malformed NDJSON at line " + line + ": " + problem + ".");
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        for (byte b : BYTE_ORDER_MARK) {
+            if (pos >= size || byteAt(pos) != b) {
+                pos = 0;
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private int next() throws IOException {
+        if (pos >= size) {
+            pos++;
+            return -1;
+        }
+        return byteAt(pos++) & 0xFF;
+    }
+
+    private byte byteAt(long position) throws IOException {
+        long offset = position - windowStart;
+        if (window == null || offset >= window.limit()) {
+            remap(position);
+            offset = position - windowStart;
+        }
+        return window.get((int) offset);
+    }
+
+    private void remap(long position) throws IOException {
+        long start = Math.min(recordStart, position);
+        if (position - start >= windowSize) {
+            throw new IOException("A record starting at byte " + start + " is longer than " + windowSize + " bytes.");
+        }
+        windowStart = start;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, size - start));
+    }
+
+    private void append(int b) {
+        if (scratchLength == scratch.length) {
+            scratch = Arrays.copyOf(scratch, scratchLength * 2);
+        }
+        scratch[scratchLength++] = (byte) b;
+    }
+
+    private void appendCodePoint(int codePoint) {
+        if (codePoint < 0x80) {
+            append(codePoint);
+        } else if (codePoint < 0x800) {
+            append(0xC0 | codePoint >> 6);
+            append(0x80 | codePoint & 0x3F);
+        } else if (codePoint < 0x10000) {
+            append(0xE0 | codePoint >> 12);
+            append(0x80 | codePoint >> 6 & 0x3F);
+            append(0x80 | codePoint & 0x3F);
+        } else {
+            append(0xF0 | codePoint >> 18);
+            append(0x80 | codePoint >> 12 & 0x3F);
+            append(0x80 | codePoint >> 6 & 0x3F);
+            append(0x80 | codePoint & 0x3F);
+        }
+    }
+
+    private String decode() {
+        return new String(scratch, 0, scratchLength, StandardCharsets.UTF_8);
+    }
+
+    private static boolean equalsIgnoreAsciiCase(byte[] upperCase, byte[] bytes, int from, int to) {
+        if (to - from != upperCase.length) {
+            return false;
+        }
+        for (int i = 0; i < upperCase.length; i++) {
+            int b = bytes[from + i];
+            if (b >= 'a' && b <= 'z') {
+                b -= 'a' - 'A';
+            }
+            if (b != upperCase[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
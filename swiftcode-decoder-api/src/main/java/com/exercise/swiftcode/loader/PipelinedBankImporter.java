@@ -0,0 +1,216 @@
+package com.exercise.swiftcode.loader;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Overlaps parsing with writing. The calling thread runs the {@link BatchSource} and puts batches
+ * on a bounded queue, so a slow database pushes back on the parser instead of filling the heap.
+ * Writer threads take batches off the queue and insert each one as an unordered bulk write, where
+ * a rejected document, such as a duplicate SWIFT code, does not stop the rest of its batch.
+ */
+@Component
+public class PipelinedBankImporter {
+    private static final Logger logger = LoggerFactory.getLogger(PipelinedBankImporter.class);
+
+    private static final long POLL_MILLIS = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final int writerThreads;
+    private final int queueCapacity;
+
+    public PipelinedBankImporter(MongoTemplate mongoTemplate,
+                                 @Value("${loader.pipeline.writer-threads}") int writerThreads,
+                                 @Value("${loader.pipeline.queue-capacity}") int queueCapacity) {
+        this.mongoTemplate = mongoTemplate;
+        this.writerThreads = writerThreads;
+        this.queueCapacity = queueCapacity;
+    }
+
+    @FunctionalInterface
+    public interface BatchSource {
+        /**
+         * Hands every batch to {@code batchConsumer} and returns the number of rows it read.
+         */
+        long produce(Consumer<List<Bank>> batchConsumer) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface WriteListener {
+        /**
+         * Called on a writer thread after each batch, with the documents it inserted and rejected.
+         */
+        void batchWritten(long inserted, long rejected);
+    }
+
+    public ImportReport importBanks(BatchSource source) throws Exception {
+        return importBanks(source, (inserted, rejected) -> {
+        });
+    }
+
+    public ImportReport importBanks(BatchSource source, WriteListener writeListener) throws Exception {
+        Pipeline pipeline = new Pipeline(writeListener);
+        long start = System.nanoTime();
+        ExecutorService writers = Executors.newFixedThreadPool(writerThreads,
+                Thread.ofPlatform().name("bank-import-writer-", 0).factory());
+        try {
+            List<Future<?>> running = new ArrayList<>(writerThreads);
+            for (int i = 0; i < writerThreads; i++) {
+                running.add(writers.submit(pipeline::drain));
+            }
+            long rows;
+            try {
+                rows = source.produce(pipeline::put);
+            } catch (Exception e) {
+                pipeline.abort(e);
+                throw e;
+            } finally {
+                pipeline.producerDone = true;
+            }
+            for (Future<?> writer : running) {
+                writer.get();
+            }
+            pipeline.rethrowFailure();
+
+            ImportReport report = pipeline.report(rows, Duration.ofNanos(System.nanoTime() - start));
+            logger.info("Imported {} of {} bank rows in {} ms ({} rows/s), {} rejected. Batch latency over {} batches: avg {} ms, p99 {} ms, max {} ms.",
+                    report.inserted(), report.rows(), report.elapsed().toMillis(), Math.round(report.rowsPerSecond()),
+                    report.rejected(), report.batches(), report.averageBatchMillis(), report.p99BatchMillis(), report.maxBatchMillis());
+            return report;
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    private final class Pipeline {
+        private final WriteListener writeListener;
+        private final BlockingQueue<List<Bank>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicReference<Exception> failure = new AtomicReference<>();
+        private final LongAdder inserted = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final ConcurrentLinkedQueue<Long> batchNanos = new ConcurrentLinkedQueue<>();
+        private volatile boolean producerDone;
+
+        Pipeline(WriteListener writeListener) {
+            this.writeListener = writeListener;
+        }
+
+        void put(List<Bank> batch) {
+            try {
+                while (!queue.offer(batch, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    rethrowFailure();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while queueing a bank batch.", e);
+            }
+        }
+
+        void drain() {
+            try {
+                while (failure.get() == null) {
+                    List<Bank> batch = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (batch != null) {
+                        write(batch);
+                    } else if (producerDone && queue.isEmpty()) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                abort(e);
+            }
+        }
+
+        private void write(List<Bank> batch) {
+            long start = System.nanoTime();
+            BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Bank.class);
+            bulkOps.insert(batch);
+            int batchInserted;
+            int batchRejected = 0;
+            try {
+                batchInserted = bulkOps.execute().getInsertedCount();
+            } catch (BulkOperationException e) {
+                batchInserted = e.getResult().getInsertedCount();
+                batchRejected = e.getErrors().size();
+                logger.warn("Rejected {} of {} bank rows in a batch, first error: {}",
+                        batchRejected, batch.size(), e.getErrors().getFirst().getMessage());
+            }
+            inserted.add(batchInserted);
+            rejected.add(batchRejected);
+            batchNanos.add(System.nanoTime() - start);
+            writeListener.batchWritten(batchInserted, batchRejected);
+        }
+
+        void abort(Exception e) {
+            failure.compareAndSet(null, e);
+        }
+
+        void rethrowFailure() {
+            Exception e = failure.get();
+            if (e instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e != null) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        ImportReport report(long rows, Duration elapsed) {
+            long[] latencies = batchNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+            return new ImportReport(rows, inserted.sum(), rejected.sum(), elapsed, latencies);
+        }
+    }
+
+    /**
+     * Outcome of one import. {@code rows} counts what the source read; rows it rejected itself are
+     * not part of {@code rejected}, which counts documents the database refused.
+     */
+    public record ImportReport(long rows, long inserted, long rejected, Duration elapsed, long[] batchNanos) {
+        public int batches() {
+            return batchNanos.length;
+        }
+
+        public double rowsPerSecond() {
+            long nanos = Math.max(1, elapsed.toNanos());
+            return rows * 1_000_000_000.0 / nanos;
+        }
+
+        public long averageBatchMillis() {
+            long total = 0;
+            for (long nanos : batchNanos) {
+                total += nanos;
+            }
+            return batchNanos.length == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(total / batchNanos.length);
+        }
+
+        public long p99BatchMillis() {
+            return batchNanos.length == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(batchNanos[(int) Math.ceil(batchNanos.length * 0.99) - 1]);
+        }
+
+        public long maxBatchMillis() {
+            return batchNanos.length == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(batchNanos[batchNanos.length - 1]);
+        }
+    }
+}
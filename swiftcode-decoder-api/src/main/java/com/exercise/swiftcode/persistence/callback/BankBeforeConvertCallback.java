@@ -0,0 +1,31 @@
+package com.exercise.swiftcode.persistence.callback;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BankBeforeConvertCallback implements BeforeConvertCallback<Bank> {
+    private static final String HEADQUARTER_SUFFIX = "XXX";
+    private static final int SWIFT_PREFIX_LENGTH = 8;
+
+    @Override
+    public Bank onBeforeConvert(Bank bank, String collection) {
+        String swiftCode = bank.getSwiftCode();
+        if (swiftCode == null) {
+            return bank;
+        }
+        return bank.toBuilder()
+                .swiftCodePrefix(prefixOf(swiftCode))
+                .isHeadquarter(isHeadquarter(swiftCode))
+                .build();
+    }
+
+    public static String prefixOf(String swiftCode) {
+        return swiftCode.length() >= SWIFT_PREFIX_LENGTH ? swiftCode.substring(0, SWIFT_PREFIX_LENGTH) : swiftCode;
+    }
+
+    public static boolean isHeadquarter(String swiftCode) {
+        return swiftCode.endsWith(HEADQUARTER_SUFFIX);
+    }
+}
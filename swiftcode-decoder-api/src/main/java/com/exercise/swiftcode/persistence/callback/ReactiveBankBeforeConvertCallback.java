@@ -0,0 +1,24 @@
+package com.exercise.swiftcode.persistence.callback;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import org.reactivestreams.Publisher;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeConvertCallback;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Derives the same fields as {@link BankBeforeConvertCallback} for banks saved through the reactive driver.
+ */
+@Component
+public class ReactiveBankBeforeConvertCallback implements ReactiveBeforeConvertCallback<Bank> {
+    private final BankBeforeConvertCallback delegate;
+
+    public ReactiveBankBeforeConvertCallback(BankBeforeConvertCallback delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Publisher<Bank> onBeforeConvert(Bank bank, String collection) {
+        return Mono.just(delegate.onBeforeConvert(bank, collection));
+    }
+}
@@ -6,21 +6,32 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.experimental.FieldDefaults;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 @Document(collection = "banks")
+@CompoundIndexes({
+        @CompoundIndex(def = "{'SWIFT CODE PREFIX': 1, 'IS HEADQUARTER': 1}"),
+        // Serves whole-country listings by its prefix and keyset pages as a range scan.
+        @CompoundIndex(def = "{'COUNTRY ISO2 CODE': 1, 'SWIFT CODE': 1}")
+})
 @Data
 @AllArgsConstructor
 @Builder(toBuilder = true)
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 public class Bank {
+    public static final String SWIFT_CODE_INDEX = "SWIFT CODE";
+
     @Id
     String id;
 
     @Field("COUNTRY ISO2 CODE")
     String countryIso2Code;
 
+    @Indexed(name = SWIFT_CODE_INDEX, unique = true)
     @Field("SWIFT CODE")
     String swiftCode;
 
@@ -32,4 +43,10 @@ public class Bank {
 
     @Field("COUNTRY NAME")
     String countryName;
+
+    @Field("SWIFT CODE PREFIX")
+    String swiftCodePrefix;
+
+    @Field("IS HEADQUARTER")
+    Boolean isHeadquarter;
 }
\ No newline at end of file
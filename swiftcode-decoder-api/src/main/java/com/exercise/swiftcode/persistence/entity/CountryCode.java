@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.experimental.FieldDefaults;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -21,6 +22,7 @@ public class CountryCode {
     @Field("COUNTRYNAME")
     String countryName;
 
+    @Indexed(unique = true)
     @Field("COUNTRYISO2CODE")
     String countryIso2Code;
 }
\ No newline at end of file
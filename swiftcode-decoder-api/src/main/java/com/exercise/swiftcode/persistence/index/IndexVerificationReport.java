@@ -0,0 +1,19 @@
+package com.exercise.swiftcode.persistence.index;
+
+import java.util.List;
+import java.util.Map;
+
+public record IndexVerificationReport(Map<String, List<String>> missing, Map<String, List<String>> unexpected) {
+    public IndexVerificationReport {
+        missing = Map.copyOf(missing);
+        unexpected = Map.copyOf(unexpected);
+    }
+
+    public boolean isComplete() {
+        return missing.isEmpty();
+    }
+
+    public boolean hasDrift() {
+        return !missing.isEmpty() || !unexpected.isEmpty();
+    }
+}
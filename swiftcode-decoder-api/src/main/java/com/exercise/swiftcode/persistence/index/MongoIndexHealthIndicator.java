@@ -0,0 +1,27 @@
+package com.exercise.swiftcode.persistence.index;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MongoIndexHealthIndicator implements HealthIndicator {
+    private final MongoIndexManager mongoIndexManager;
+
+    public MongoIndexHealthIndicator(MongoIndexManager mongoIndexManager) {
+        this.mongoIndexManager = mongoIndexManager;
+    }
+
+    @Override
+    public Health health() {
+        IndexVerificationReport report = mongoIndexManager.verify();
+        Health.Builder builder = report.isComplete() ? Health.up() : Health.down();
+        if (!report.missing().isEmpty()) {
+            builder.withDetail("missing", report.missing());
+        }
+        if (!report.unexpected().isEmpty()) {
+            builder.withDetail("unexpected", report.unexpected());
+        }
+        return builder.build();
+    }
+}
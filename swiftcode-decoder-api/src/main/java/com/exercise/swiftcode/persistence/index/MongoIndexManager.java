@@ -0,0 +1,131 @@
+package com.exercise.swiftcode.persistence.index;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.persistence.entity.CountryCode;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+public class MongoIndexManager {
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexManager.class);
+
+    static final List<Class<?>> INDEXED_ENTITIES = List.of(Bank.class, CountryCode.class);
+    private static final String ID_INDEX_NAME = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+    private final IndexResolver indexResolver;
+
+    public MongoIndexManager(MongoTemplate mongoTemplate, MongoMappingContext mongoMappingContext) {
+        this.mongoTemplate = mongoTemplate;
+        this.indexResolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+    }
+
+    // Creating an index creates the collection, so this must run after the seeders have checked for it.
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        for (Class<?> entityType : INDEXED_ENTITIES) {
+            IndexOperations indexOps = mongoTemplate.indexOps(entityType);
+            for (IndexDefinition definition : indexResolver.resolveIndexFor(entityType)) {
+                try {
+                    String name = indexOps.ensureIndex(definition);
+                    logger.info("Ensured index '{}' on collection '{}'", name, mongoTemplate.getCollectionName(entityType));
+                } catch (DataAccessException ex) {
+                    logger.error("Failed to create index {} on collection '{}'",
+                            describe(definition), mongoTemplate.getCollectionName(entityType), ex);
+                }
+            }
+        }
+
+        IndexVerificationReport report = verify();
+        if (!report.isComplete()) {
+            logger.error("Expected MongoDB indexes are missing: {}", report.missing());
+        }
+        if (!report.unexpected().isEmpty()) {
+            logger.warn("Unexpected MongoDB indexes found: {}", report.unexpected());
+        }
+    }
+
+    /**
+     * Creates the indexes of {@code entityType} on another collection, such as a staging copy.
+     * Unlike {@link #ensureIndexes()}, a failure is thrown rather than logged.
+     */
+    public List<String> ensureIndexes(Class<?> entityType, String collectionName) {
+        IndexOperations indexOps = mongoTemplate.indexOps(collectionName, entityType);
+        List<String> names = new ArrayList<>();
+        for (IndexDefinition definition : indexResolver.resolveIndexFor(entityType)) {
+            names.add(indexOps.ensureIndex(definition));
+        }
+        logger.info("Ensured indexes {} on collection '{}'", names, collectionName);
+        return names;
+    }
+
+    public IndexVerificationReport verify() {
+        Map<String, List<String>> missing = new LinkedHashMap<>();
+        Map<String, List<String>> unexpected = new LinkedHashMap<>();
+
+        for (Class<?> entityType : INDEXED_ENTITIES) {
+            String collection = mongoTemplate.getCollectionName(entityType);
+            List<String> expected = new ArrayList<>();
+            for (IndexDefinition definition : indexResolver.resolveIndexFor(entityType)) {
+                expected.add(describe(definition));
+            }
+
+            List<String> existing = mongoTemplate.indexOps(entityType).getIndexInfo().stream()
+                    .filter(info -> !ID_INDEX_NAME.equals(info.getName()))
+                    .map(MongoIndexManager::describe)
+                    .toList();
+
+            List<String> absent = expected.stream().filter(index -> !existing.contains(index)).toList();
+            List<String> extra = existing.stream().filter(index -> !expected.contains(index)).toList();
+            if (!absent.isEmpty()) {
+                missing.put(collection, absent);
+            }
+            if (!extra.isEmpty()) {
+                unexpected.put(collection, extra);
+            }
+        }
+        return new IndexVerificationReport(missing, unexpected);
+    }
+
+    static String describe(IndexDefinition definition) {
+        Document keys = definition.getIndexKeys();
+        String fields = keys.entrySet().stream()
+                .map(entry -> entry.getKey() + ": " + entry.getValue())
+                .collect(Collectors.joining(", ", "{", "}"));
+        return Boolean.TRUE.equals(definition.getIndexOptions().get("unique")) ? fields + " unique" : fields;
+    }
+
+    static String describe(IndexInfo info) {
+        String fields = info.getIndexFields().stream()
+                .map(MongoIndexManager::describe)
+                .collect(Collectors.joining(", ", "{", "}"));
+        return info.isUnique() ? fields + " unique" : fields;
+    }
+
+    private static String describe(IndexField field) {
+        if (field.getDirection() == null) {
+            return field.getKey() + ": " + (field.isGeo() ? "2d" : "text");
+        }
+        return field.getKey() + ": " + (field.getDirection() == Sort.Direction.ASC ? 1 : -1);
+    }
+}
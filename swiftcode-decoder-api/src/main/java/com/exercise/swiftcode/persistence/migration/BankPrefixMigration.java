@@ -0,0 +1,74 @@
+package com.exercise.swiftcode.persistence.migration;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.exercise.swiftcode.persistence.callback.BankBeforeConvertCallback.isHeadquarter;
+import static com.exercise.swiftcode.persistence.callback.BankBeforeConvertCallback.prefixOf;
+
+@Component
+public class BankPrefixMigration {
+    private static final Logger logger = LoggerFactory.getLogger(BankPrefixMigration.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${migration.batch-size}")
+    private int batchSize;
+
+    public BankPrefixMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // A listener returning a value would have it published as an event, so the count stays in backfill().
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void migrate() {
+        backfill();
+    }
+
+    // Each batch is a separate unordered bulk write, so the collection stays readable and writable throughout.
+    long backfill() {
+        Query pending = new Query(Criteria.where("swiftCodePrefix").exists(false)).limit(batchSize);
+        pending.fields().include("swiftCode");
+
+        long migrated = 0;
+        List<Bank> batch;
+        while (!(batch = mongoTemplate.find(pending, Bank.class)).isEmpty()) {
+            BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Bank.class);
+            for (Bank bank : batch) {
+                String swiftCode = bank.getSwiftCode();
+                bulkOps.updateOne(
+                        Query.query(Criteria.where("id").is(bank.getId())),
+                        new Update()
+                                .set("swiftCodePrefix", swiftCode != null ? prefixOf(swiftCode) : null)
+                                .set("isHeadquarter", swiftCode != null && isHeadquarter(swiftCode)));
+            }
+            int modified = bulkOps.execute().getModifiedCount();
+            migrated += modified;
+            logger.info("Back-filled SWIFT code prefix on {} bank records ({} so far).", modified, migrated);
+            if (modified == 0) {
+                logger.warn("Prefix migration made no progress on a batch of {} records. Stopping.", batch.size());
+                break;
+            }
+        }
+
+        if (migrated > 0) {
+            logger.info("SWIFT code prefix migration finished. {} bank records updated.", migrated);
+        }
+        return migrated;
+    }
+}
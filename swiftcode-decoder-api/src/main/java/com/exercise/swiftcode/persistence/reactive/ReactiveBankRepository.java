@@ -0,0 +1,14 @@
+package com.exercise.swiftcode.persistence.reactive;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBankRepository extends ReactiveMongoRepository<Bank, String> {
+    Mono<Void> deleteBySwiftCode(String swiftCode);
+    Mono<Long> deleteBySwiftCodePrefix(String swiftCodePrefix);
+    Flux<Bank> findBySwiftCodePrefix(String swiftCodePrefix);
+    Mono<Bank> findBySwiftCode(String swiftCode);
+    Flux<Bank> findByCountryIso2Code(String countryISO2);
+}
@@ -0,0 +1,9 @@
+package com.exercise.swiftcode.persistence.reactive;
+
+import com.exercise.swiftcode.persistence.entity.CountryCode;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCountryCodeRepository extends ReactiveMongoRepository<CountryCode, String> {
+    Mono<CountryCode> findByCountryIso2Code(String iso2Code);
+}
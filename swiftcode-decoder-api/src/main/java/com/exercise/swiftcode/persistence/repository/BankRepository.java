@@ -1,16 +1,22 @@
 package com.exercise.swiftcode.persistence.repository;
 
 import com.exercise.swiftcode.persistence.entity.Bank;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BankRepository extends MongoRepository<Bank, String> {
     boolean existsBySwiftCode(String swiftCode);
     void deleteBySwiftCode(String swiftCode);
-    void deleteBySwiftCodeStartingWith(String prefix);
-    List<Bank> findBySwiftCodeStartingWith(String swiftCodePrefix);
+    long deleteBySwiftCodePrefix(String swiftCodePrefix);
+    List<Bank> findBySwiftCodePrefix(String swiftCodePrefix);
     Optional<Bank> findBySwiftCode(String swiftCode);
     List<Bank> findByCountryIso2Code(String countryISO2);
+    List<Bank> findByCountryIso2CodeOrderBySwiftCodeAsc(String countryISO2, Limit limit);
+    List<Bank> findByCountryIso2CodeAndSwiftCodeGreaterThanOrderBySwiftCodeAsc(String countryISO2, String swiftCode, Limit limit);
+    // Backed by a cursor, so the caller must close it.
+    Stream<Bank> streamByCountryIso2Code(String countryISO2);
 }
\ No newline at end of file
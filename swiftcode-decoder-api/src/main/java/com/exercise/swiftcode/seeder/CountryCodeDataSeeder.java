@@ -1,12 +1,14 @@
 package com.exercise.swiftcode.seeder;
 
+import com.exercise.swiftcode.loader.DeltaImporter;
 import com.exercise.swiftcode.persistence.entity.CountryCode;
 import com.exercise.swiftcode.persistence.repository.CountryCodeRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -14,20 +16,38 @@ import java.util.List;
 import java.util.Locale;
 
 @Component
-public class CountryCodeDataSeeder implements CommandLineRunner {
+public class CountryCodeDataSeeder implements SeedingPhase {
     private static final Logger logger = LoggerFactory.getLogger(CountryCodeDataSeeder.class);
 
+    static final String COUNTRY_KEY_FIELD = "COUNTRYISO2CODE";
+
     private final CountryCodeRepository countryRepository;
     private final MongoTemplate mongoTemplate;
+    private final DeltaImporter deltaImporter;
+
+    @Value("${loader.incremental}")
+    private boolean incremental;
 
-    public CountryCodeDataSeeder(CountryCodeRepository countryRepository, MongoTemplate mongoTemplate) {
+    public CountryCodeDataSeeder(CountryCodeRepository countryRepository, MongoTemplate mongoTemplate, DeltaImporter deltaImporter) {
         this.countryRepository = countryRepository;
         this.mongoTemplate = mongoTemplate;
+        this.deltaImporter = deltaImporter;
         logger.info("CountryCsvDataLoader created");
     }
 
     @Override
-    public void run(String... args) throws Exception {
+    public String phaseName() {
+        return "countries";
+    }
+
+    @Override
+    public void run() throws Exception {
+        if (incremental) {
+            deltaImporter.importDelta(CountryCode.class, COUNTRY_KEY_FIELD, CountryCode::getCountryIso2Code,
+                    CountryCodeDataSeeder::toUpdate, batchConsumer -> batchConsumer.accept(loadCountriesFromLocale()));
+            return;
+        }
+
         try {
             if (mongoTemplate.collectionExists("country_codes")) {
                 logger.info("Collection 'country_codes' already exists. Skipping country data load from Locale.");
@@ -75,6 +95,12 @@ public class CountryCodeDataSeeder implements CommandLineRunner {
         return countries;
     }
 
+    static Update toUpdate(CountryCode country) {
+        return new Update()
+                .set("countryName", country.getCountryName())
+                .set("countryIso2Code", country.getCountryIso2Code());
+    }
+
     protected boolean isNullOrEmpty(String s) {
         return s == null || s.isEmpty();
     }
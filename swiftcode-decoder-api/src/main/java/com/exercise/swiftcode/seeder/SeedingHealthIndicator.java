@@ -0,0 +1,25 @@
+package com.exercise.swiftcode.seeder;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class SeedingHealthIndicator implements HealthIndicator {
+    private final StartupSeeder startupSeeder;
+
+    public SeedingHealthIndicator(StartupSeeder startupSeeder) {
+        this.startupSeeder = startupSeeder;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = startupSeeder.isComplete() ? Health.up() : Health.down();
+        startupSeeder.statuses().forEach((phase, status) -> builder.withDetail(phase, Map.of(
+                "state", status.state(),
+                "elapsedMillis", status.elapsed().toMillis())));
+        return builder.build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.exercise.swiftcode.seeder;
+
+/**
+ * A step that fills a collection before the application serves traffic. Every phase runs once at
+ * startup, concurrently with the others, through {@link StartupSeeder}.
+ */
+public interface SeedingPhase {
+    /**
+     * Short name used in logs, the {@code seeding} health details and the {@code startup.seeding} timer.
+     */
+    String phaseName();
+
+    void run() throws Exception;
+}
@@ -0,0 +1,147 @@
+package com.exercise.swiftcode.seeder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs every {@link SeedingPhase} concurrently on a startup pool, so startup waits for the slowest
+ * phase rather than for all of them in turn. Startup still blocks until every phase is done, since
+ * index creation, migrations and the in-memory registries read the seeded collections on
+ * {@code ApplicationReadyEvent}. Meanwhile the web server is already up: liveness reports UP while
+ * the {@code seeding} readiness contributor reports DOWN with the state of each phase.
+ */
+@Component
+public class StartupSeeder implements CommandLineRunner {
+    private static final Logger logger = LoggerFactory.getLogger(StartupSeeder.class);
+
+    static final String TIMER_NAME = "startup.seeding";
+
+    public enum State { PENDING, RUNNING, SUCCEEDED, FAILED }
+
+    public record PhaseStatus(State state, Duration elapsed) {
+    }
+
+    private final List<SeedingPhase> phases;
+    private final MeterRegistry meterRegistry;
+    private final int threads;
+    private final Map<String, PhaseStatus> statuses = new LinkedHashMap<>();
+    // System.nanoTime() at which each running phase started.
+    private final Map<String, Long> runningSince = new LinkedHashMap<>();
+
+    public StartupSeeder(List<SeedingPhase> phases, MeterRegistry meterRegistry,
+                         @Value("${startup.seeding.threads}") int threads) {
+        this.phases = phases;
+        this.meterRegistry = meterRegistry;
+        this.threads = threads;
+        phases.forEach(phase -> statuses.put(phase.phaseName(), new PhaseStatus(State.PENDING, Duration.ZERO)));
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        long start = System.nanoTime();
+        List<Future<?>> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, phases.size())),
+                Thread.ofPlatform().name("startup-seeding-", 0).factory());
+        try {
+            for (SeedingPhase phase : phases) {
+                results.add(executor.submit(() -> {
+                    runPhase(phase);
+                    return null;
+                }));
+            }
+            Exception failure = null;
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException e) {
+                    if (failure == null && e.getCause() instanceof Exception cause) {
+                        failure = cause;
+                    } else if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            meterRegistry.timer(TIMER_NAME, "phase", "total", "outcome", failure == null ? "success" : "failure").record(elapsed);
+            if (failure != null) {
+                logger.error("Startup seeding failed after {} ms ({}).", elapsed.toMillis(), summary());
+                throw failure;
+            }
+            logger.info("Startup seeding finished in {} ms ({}).", elapsed.toMillis(), summary());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void runPhase(SeedingPhase phase) throws Exception {
+        String name = phase.phaseName();
+        long start = System.nanoTime();
+        started(name, start);
+        logger.info("Seeding phase '{}' started.", name);
+        boolean succeeded = false;
+        try {
+            phase.run();
+            succeeded = true;
+        } finally {
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            finished(name, new PhaseStatus(succeeded ? State.SUCCEEDED : State.FAILED, elapsed));
+            Timer.builder(TIMER_NAME)
+                    .description("Time spent seeding collections at startup")
+                    .tag("phase", name)
+                    .tag("outcome", succeeded ? "success" : "failure")
+                    .register(meterRegistry)
+                    .record(elapsed);
+            logger.info("Seeding phase '{}' {} in {} ms.", name, succeeded ? "finished" : "failed", elapsed.toMillis());
+        }
+    }
+
+    private synchronized void started(String name, long start) {
+        statuses.put(name, new PhaseStatus(State.RUNNING, Duration.ZERO));
+        runningSince.put(name, start);
+    }
+
+    private synchronized void finished(String name, PhaseStatus status) {
+        statuses.put(name, status);
+        runningSince.remove(name);
+    }
+
+    private String summary() {
+        StringJoiner summary = new StringJoiner(", ");
+        statuses().forEach((name, status) ->
+                summary.add(name + " " + status.state().name().toLowerCase() + " in " + status.elapsed().toMillis() + " ms"));
+        return summary.toString();
+    }
+
+    /**
+     * State of every phase; a running phase reports the time it has taken so far.
+     */
+    public synchronized Map<String, PhaseStatus> statuses() {
+        long now = System.nanoTime();
+        Map<String, PhaseStatus> snapshot = new LinkedHashMap<>();
+        statuses.forEach((name, status) -> {
+            Long start = runningSince.get(name);
+            snapshot.put(name, start == null ? status : new PhaseStatus(status.state(), Duration.ofNanos(now - start)));
+        });
+        return snapshot;
+    }
+
+    public synchronized boolean isComplete() {
+        return statuses.values().stream().allMatch(status -> status.state() == State.SUCCEEDED);
+    }
+}
@@ -0,0 +1,154 @@
+package com.exercise.swiftcode.service.bank;
+
+import com.exercise.swiftcode.api.bank.BankMapper;
+import com.exercise.swiftcode.api.bank.BankValidator;
+import com.exercise.swiftcode.api.bank.request.CreateBankRequest;
+import com.exercise.swiftcode.api.bank.response.BatchCreateResponse;
+import com.exercise.swiftcode.api.bank.response.BatchItemResult;
+import com.exercise.swiftcode.config.exceptions.CountryCodeNotFoundException;
+import com.exercise.swiftcode.config.exceptions.DuplicateSwiftCodeException;
+import com.exercise.swiftcode.config.exceptions.ValidationException;
+import com.exercise.swiftcode.loader.BankImportCompletedEvent;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.service.country.CountryCodeRegistry;
+import com.exercise.swiftcode.service.directory.BankLookup;
+import com.mongodb.bulk.BulkWriteError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates many banks in one request. Every bank is validated before anything is written, the valid
+ * ones go to Mongo in a single unordered bulk insert, and each bank gets its own result, so one bad
+ * or duplicate bank never costs the others theirs.
+ */
+@Service
+public class BankBatchService {
+    private static final Logger logger = LoggerFactory.getLogger(BankBatchService.class);
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final BankMapper bankMapper;
+    private final BankValidator bankValidator;
+    private final CountryCodeRegistry countryCodeRegistry;
+    private final BankResponseCache bankResponseCache;
+    private final BankLookup bankLookup;
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${bank.service.batch.max-size}")
+    private int maxBatchSize;
+
+    public BankBatchService(BankMapper bankMapper, BankValidator bankValidator, CountryCodeRegistry countryCodeRegistry,
+                            BankResponseCache bankResponseCache, BankLookup bankLookup, MongoTemplate mongoTemplate,
+                            ApplicationEventPublisher eventPublisher) {
+        this.bankMapper = bankMapper;
+        this.bankValidator = bankValidator;
+        this.countryCodeRegistry = countryCodeRegistry;
+        this.bankResponseCache = bankResponseCache;
+        this.bankLookup = bankLookup;
+        this.mongoTemplate = mongoTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public BatchCreateResponse createBanks(List<CreateBankRequest> requests) {
+        logger.info("Attempting to create a batch of {} banks", requests == null ? 0 : requests.size());
+        bankValidator.validateBatchSize(requests == null ? 0 : requests.size(), maxBatchSize);
+
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Bank> banks = new ArrayList<>(requests.size());
+        List<Integer> positions = new ArrayList<>(requests.size());
+        Set<String> swiftCodes = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateBankRequest request = requests.get(i);
+            try {
+                bankValidator.validateCreateBankRequest(request);
+                CreateBankRequest normalizedRequest = BankService.normalizeRequest(request);
+                countryCodeRegistry.findByCountryIso2Code(normalizedRequest.getCountryISO2())
+                        .orElseThrow(() -> BankService.countryNotFound(normalizedRequest.getCountryISO2()));
+                if (!swiftCodes.add(normalizedRequest.getSwiftCode())) {
+                    results[i] = result(i, request, BatchItemResult.Status.DUPLICATE, "SWIFT Code appears earlier in the batch.");
+                    continue;
+                }
+                banks.add(bankMapper.toBank(normalizedRequest));
+                positions.add(i);
+            } catch (ValidationException | CountryCodeNotFoundException e) {
+                results[i] = result(i, request, BatchItemResult.Status.INVALID, e.getMessage());
+            }
+        }
+
+        if (!banks.isEmpty()) {
+            insert(banks, positions, requests, results);
+        }
+        return summarize(results);
+    }
+
+    // Duplicates are rejected by the unique SWIFT code index; unordered, the other inserts go ahead.
+    private void insert(List<Bank> banks, List<Integer> positions, List<CreateBankRequest> requests,
+                        BatchItemResult[] results) {
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Bank.class);
+        bulkOps.insert(banks);
+        List<BulkWriteError> errors = List.of();
+        try {
+            bulkOps.execute();
+        } catch (BulkOperationException e) {
+            errors = e.getErrors();
+            logger.warn("Rejected {} of {} banks in a batch, first error: {}",
+                    errors.size(), banks.size(), errors.getFirst().getMessage());
+        }
+
+        boolean[] rejected = new boolean[banks.size()];
+        for (BulkWriteError error : errors) {
+            int i = positions.get(error.getIndex());
+            rejected[error.getIndex()] = true;
+            results[i] = error.getCode() == DUPLICATE_KEY && DuplicateSwiftCodeException.isSwiftCodeIndex(error.getMessage())
+                    ? result(i, requests.get(i), BatchItemResult.Status.DUPLICATE, "SWIFT Code already exists.")
+                    : result(i, requests.get(i), BatchItemResult.Status.FAILED, error.getMessage());
+        }
+        int created = 0;
+        for (int j = 0; j < banks.size(); j++) {
+            if (!rejected[j]) {
+                int i = positions.get(j);
+                results[i] = result(i, requests.get(i), BatchItemResult.Status.CREATED, null);
+                created++;
+            }
+        }
+
+        if (errors.isEmpty()) {
+            // Every insert raised a save event and the directory merges them, so one wait covers the batch.
+            bankLookup.awaitWrites();
+            banks.forEach(bankResponseCache::evict);
+        } else if (created > 0) {
+            // A partly rejected bulk insert raises no save events, so the directory is told the way an import tells it.
+            eventPublisher.publishEvent(new BankImportCompletedEvent("batch request", created));
+        }
+    }
+
+    private static BatchItemResult result(int index, CreateBankRequest request, BatchItemResult.Status status, String message) {
+        return new BatchItemResult(index, request != null ? request.getSwiftCode() : null, status, message);
+    }
+
+    private static BatchCreateResponse summarize(BatchItemResult[] results) {
+        int[] counts = new int[BatchItemResult.Status.values().length];
+        for (BatchItemResult result : results) {
+            counts[result.getStatus().ordinal()]++;
+        }
+        logger.info("Created {} of {} banks in a batch", counts[BatchItemResult.Status.CREATED.ordinal()], results.length);
+        return new BatchCreateResponse(
+                counts[BatchItemResult.Status.CREATED.ordinal()],
+                counts[BatchItemResult.Status.DUPLICATE.ordinal()],
+                counts[BatchItemResult.Status.INVALID.ordinal()],
+                counts[BatchItemResult.Status.FAILED.ordinal()],
+                Arrays.asList(results));
+    }
+}
@@ -0,0 +1,87 @@
+package com.exercise.swiftcode.service.bank;
+
+import com.exercise.swiftcode.api.bank.response.BankListResponse;
+import com.exercise.swiftcode.api.bank.response.BanksByCountryResponse;
+import com.exercise.swiftcode.domain.SwiftCode;
+import com.exercise.swiftcode.loader.BankCollectionSwappedEvent;
+import com.exercise.swiftcode.loader.BankImportCompletedEvent;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Read-through cache for the two read endpoints. Entries are keyed by the normalized SWIFT code or
+ * country ISO2 code. Writes evict exactly the entries whose responses they change.
+ */
+@Component
+public class BankResponseCache {
+    private final Cache<SwiftCode, BankListResponse> bySwiftCode;
+    private final Cache<String, BanksByCountryResponse> byCountry;
+    private final boolean enabled;
+
+    public BankResponseCache(@Value("${cache.banks.maximum-size}") long maximumSize,
+                             @Value("${cache.banks.expire-after-write}") Duration expireAfterWrite,
+                             MeterRegistry meterRegistry) {
+        this.enabled = maximumSize > 0;
+        this.bySwiftCode = CaffeineCacheMetrics.monitor(meterRegistry, newCache(maximumSize, expireAfterWrite), "banks.bySwiftCode");
+        this.byCountry = CaffeineCacheMetrics.monitor(meterRegistry, newCache(maximumSize, expireAfterWrite), "banks.byCountry");
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maximumSize, Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    // Exceptions thrown by the loader propagate and nothing is cached, so not-found lookups are never stored.
+    // A cache of size zero calls the loader directly: Caffeine would still run concurrent loads of one key one at a
+    // time under a map lock, only to discard every result.
+    public BankListResponse getBankAndBranches(SwiftCode swiftCode, Function<SwiftCode, BankListResponse> loader) {
+        return enabled ? bySwiftCode.get(swiftCode, loader) : loader.apply(swiftCode);
+    }
+
+    public BanksByCountryResponse getBanksByCountry(String countryIso2, Function<String, BanksByCountryResponse> loader) {
+        return enabled ? byCountry.get(countryIso2, loader) : loader.apply(countryIso2);
+    }
+
+    /**
+     * Evicts every response that includes the given bank: its own entry, its headquarter's branch
+     * list and its country listing. Codes that do not parse can never have been looked up, so only
+     * the country listing is evicted for them.
+     */
+    public void evict(Bank bank) {
+        long packed = SwiftCode.pack(bank.getSwiftCode());
+        if (packed != SwiftCode.INVALID) {
+            SwiftCode swiftCode = new SwiftCode(packed);
+            bySwiftCode.invalidate(swiftCode);
+            bySwiftCode.invalidate(swiftCode.headquarter());
+        }
+        byCountry.invalidate(bank.getCountryIso2Code());
+    }
+
+    public void evictAll() {
+        bySwiftCode.invalidateAll();
+        byCountry.invalidateAll();
+    }
+
+    @EventListener
+    public void onCollectionSwapped(BankCollectionSwappedEvent event) {
+        evictAll();
+    }
+
+    // An import can touch any country listing and branch list, so per-bank eviction is not worth it.
+    @EventListener
+    public void onImportCompleted(BankImportCompletedEvent event) {
+        evictAll();
+    }
+}
@@ -9,17 +9,27 @@ import com.exercise.swiftcode.api.bank.response.BanksByCountryResponse;
 import com.exercise.swiftcode.api.bank.response.MessageResponse;
 import com.exercise.swiftcode.config.exceptions.BankNotFoundException;
 import com.exercise.swiftcode.config.exceptions.CountryCodeNotFoundException;
-import com.exercise.swiftcode.config.exceptions.DuplicateSwiftCodeException;
+import com.exercise.swiftcode.domain.SwiftCode;
 import com.exercise.swiftcode.persistence.entity.Bank;
 import com.exercise.swiftcode.persistence.entity.CountryCode;
 import com.exercise.swiftcode.persistence.repository.BankRepository;
-import com.exercise.swiftcode.persistence.repository.CountryCodeRepository;
+import com.exercise.swiftcode.service.country.CountryCodeRegistry;
+import com.exercise.swiftcode.service.directory.BankLookup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Service
 public class BankService {
@@ -27,17 +37,30 @@ public class BankService {
 
     private final BankMapper bankMapper;
     private final BankRepository bankRepository;
-    private final CountryCodeRepository countryCodeRepository;
     private final BankValidator bankValidator;
+    private final CountryCodeRegistry countryCodeRegistry;
+    private final BankResponseCache bankResponseCache;
+    private final BankLookup bankLookup;
 
-    private static final String HEADQUARTER_SUFFIX = "XXX";
-    private static final int SWIFT_PREFIX_LENGTH = 8;
+    @Value("${bank.service.fan-out.enabled}")
+    private boolean fanOut;
 
-    public BankService(BankMapper bankMapper, BankRepository bankRepository, CountryCodeRepository countryCodeRepository, BankValidator bankValidator) {
+    @Value("${bank.service.fan-out.timeout}")
+    private Duration fanOutTimeout;
+
+    @Value("${bank.service.page.default-limit}")
+    private int defaultPageLimit;
+
+    @Value("${bank.service.page.max-limit}")
+    private int maxPageLimit;
+
+    public BankService(BankMapper bankMapper, BankRepository bankRepository, BankValidator bankValidator, CountryCodeRegistry countryCodeRegistry, BankResponseCache bankResponseCache, BankLookup bankLookup) {
         this.bankMapper = bankMapper;
         this.bankRepository = bankRepository;
-        this.countryCodeRepository = countryCodeRepository;
         this.bankValidator = bankValidator;
+        this.countryCodeRegistry = countryCodeRegistry;
+        this.bankResponseCache = bankResponseCache;
+        this.bankLookup = bankLookup;
     }
 
     public MessageResponse createBank(CreateBankRequest request) {
@@ -46,15 +69,14 @@ public class BankService {
 
         CreateBankRequest normalizedRequest = normalizeRequest(request);
 
-        if (bankRepository.existsBySwiftCode(normalizedRequest.getSwiftCode())) {
-            throw new DuplicateSwiftCodeException("SWIFT Code already exists.");
-        }
-
-        countryCodeRepository.findByCountryIso2Code(normalizedRequest.getCountryISO2())
-                .orElseThrow(() -> new CountryCodeNotFoundException("Country ISO2 code '" + normalizedRequest.getCountryISO2() + "' does not exist."));
+        countryCodeRegistry.findByCountryIso2Code(normalizedRequest.getCountryISO2())
+                .orElseThrow(() -> countryNotFound(normalizedRequest.getCountryISO2()));
 
+        // Duplicates are rejected by the unique SWIFT code index and surface as DuplicateKeyException.
         Bank bank = bankMapper.toBank(normalizedRequest);
-        bankRepository.save(bank);
+        bankRepository.insert(bank);
+        bankLookup.awaitWrites();
+        bankResponseCache.evict(bank);
 
         return new MessageResponse("Bank successfully created.");
     }
@@ -63,19 +85,28 @@ public class BankService {
         logger.info("Attempting to delete bank with SWIFT Code: {}", swiftCode);
         bankValidator.validateDeleteBankRequest(swiftCode);
 
-        String normalizedSwiftCode = swiftCode.toUpperCase();
-        if (!bankRepository.existsBySwiftCode(normalizedSwiftCode)) {
+        SwiftCode code = SwiftCode.parse(swiftCode);
+        String normalizedSwiftCode = code.toString();
+        boolean isHeadquarter = code.isHeadquarter();
+        String prefix = code.prefix();
+
+        // The documents are read rather than just counted so the cache knows which countries the delete touches.
+        List<Bank> deletedBanks = isHeadquarter
+                ? bankRepository.findBySwiftCodePrefix(prefix)
+                : bankRepository.findBySwiftCode(normalizedSwiftCode).map(List::of).orElse(List.of());
+        if (deletedBanks.stream().noneMatch(bank -> normalizedSwiftCode.equals(bank.getSwiftCode()))) {
             throw new BankNotFoundException("Bank with SWIFT Code '" + normalizedSwiftCode + "' not found.");
         }
 
-        if (normalizedSwiftCode.endsWith(HEADQUARTER_SUFFIX)) {
-            String prefix = normalizedSwiftCode.substring(0, SWIFT_PREFIX_LENGTH);
-            bankRepository.deleteBySwiftCodeStartingWith(prefix);
+        if (isHeadquarter) {
+            bankRepository.deleteBySwiftCodePrefix(prefix);
             logger.info("Successfully deleted headquarters and all associated branches with prefix: {}", prefix);
         } else {
             bankRepository.deleteBySwiftCode(normalizedSwiftCode);
             logger.info("Successfully deleted bank with SWIFT Code: {}", normalizedSwiftCode);
         }
+        bankLookup.awaitWrites();
+        deletedBanks.forEach(bankResponseCache::evict);
         return new MessageResponse("Bank successfully deleted.");
     }
 
@@ -83,20 +114,43 @@ public class BankService {
         logger.info("Attempting to get banks with SWIFT Code: {}", swiftCode);
         bankValidator.validateSwiftCode(swiftCode);
 
-        String normalizedSwiftCode = swiftCode.toUpperCase();
-        Bank bank = bankRepository.findBySwiftCode(normalizedSwiftCode)
-                .orElseThrow(() -> new BankNotFoundException("Bank with SWIFT Code '" + normalizedSwiftCode + "' not found."));
+        return bankResponseCache.getBankAndBranches(SwiftCode.parse(swiftCode), this::loadBankAndBranches);
+    }
 
-        boolean isHeadquarter = normalizedSwiftCode.endsWith(HEADQUARTER_SUFFIX);
-        BankResponse bankResponse = bankMapper.toBankResponse(bank);
+    private BankListResponse loadBankAndBranches(SwiftCode code) {
+        // The prefix query returns the headquarter together with its branches in a single round trip.
+        List<Bank> banks = code.isHeadquarter()
+                ? bankLookup.findFamily(code)
+                : bankLookup.findBySwiftCode(code).map(List::of).orElse(List.of());
+        return toBankAndBranches(code, banks, bankMapper);
+    }
 
-        List<BankResponse> branchResponses = isHeadquarter
-                ? bankRepository.findBySwiftCodeStartingWith(normalizedSwiftCode.substring(0, SWIFT_PREFIX_LENGTH))
-                .stream()
-                .filter(b -> !b.getSwiftCode().endsWith(HEADQUARTER_SUFFIX))
-                .map(bankMapper::toBankResponseNullCountryName)
-                .toList()
-                : new ArrayList<>();
+    /**
+     * Builds the response for {@code code} from the bank it names or, for a headquarter, from its
+     * whole family. Shared with {@link ReactiveBankService}, so both stacks answer alike.
+     */
+    static BankListResponse toBankAndBranches(SwiftCode code, List<Bank> banks, BankMapper bankMapper) {
+        String normalizedSwiftCode = code.toString();
+        boolean isHeadquarter = code.isHeadquarter();
+
+        Bank bank = null;
+        List<BankResponse> branchResponses = new ArrayList<>();
+        if (isHeadquarter) {
+            for (Bank candidate : banks) {
+                if (normalizedSwiftCode.equals(candidate.getSwiftCode())) {
+                    bank = candidate;
+                } else {
+                    branchResponses.add(bankMapper.toBankResponseNullCountryName(candidate));
+                }
+            }
+        } else if (!banks.isEmpty()) {
+            bank = banks.get(0);
+        }
+        if (bank == null) {
+            throw new BankNotFoundException("Bank with SWIFT Code '" + normalizedSwiftCode + "' not found.");
+        }
+
+        BankResponse bankResponse = bankMapper.toBankResponse(bank);
 
         return new BankListResponse(
                 bankResponse.getAddress(),
@@ -109,16 +163,93 @@ public class BankService {
         );
     }
 
-
     public BanksByCountryResponse getBanksByIsoCode(String countryISO2) {
         logger.info("Attempting to get bank with country ISO2: {}", countryISO2);
         bankValidator.validateCountryIso2Length(countryISO2);
 
+        return bankResponseCache.getBanksByCountry(countryISO2.toUpperCase(), this::loadBanksByIsoCode);
+    }
+
+    private BanksByCountryResponse loadBanksByIsoCode(String normalizedIso2Code) {
+        CountryCode country;
+        List<Bank> banks;
+        // A fresh registry answers from memory, so only a reload from Mongo is worth running beside the banks.
+        if (fanOut && countryCodeRegistry.isStale()) {
+            Subtasks.Both<Optional<CountryCode>, List<Bank>> lookups = Subtasks.both(
+                    () -> countryCodeRegistry.findByCountryIso2Code(normalizedIso2Code),
+                    () -> bankLookup.findByCountryIso2Code(normalizedIso2Code),
+                    fanOutTimeout);
+            country = lookups.first().orElseThrow(() -> countryNotFound(normalizedIso2Code));
+            banks = lookups.second();
+        } else {
+            country = countryCodeRegistry.findByCountryIso2Code(normalizedIso2Code)
+                    .orElseThrow(() -> countryNotFound(normalizedIso2Code));
+            banks = bankLookup.findByCountryIso2Code(normalizedIso2Code);
+        }
+        return toBanksByCountry(normalizedIso2Code, country, banks, bankMapper);
+    }
+
+    /**
+     * One page of the country listing in SWIFT code order, starting after the position in
+     * {@code after} or from the first bank. Each page is a range scan of the country and SWIFT code
+     * index in Mongo, or a binary search over the country's rows in the in-memory directory, so a
+     * deep page costs the same as the first. Pages are not cached.
+     */
+    public BanksByCountryResponse getBanksPageByIsoCode(String countryISO2, Integer limit, String after) {
+        logger.info("Attempting to get a page of banks with country ISO2: {}", countryISO2);
+        bankValidator.validateCountryIso2Length(countryISO2);
+        int pageSize = limit != null ? limit : defaultPageLimit;
+        bankValidator.validatePageLimit(pageSize, maxPageLimit);
+
+        String normalizedIso2Code = countryISO2.toUpperCase();
+        String afterSwiftCode = after != null ? CountryPageCursor.decode(after, normalizedIso2Code) : null;
+        CountryCode country = countryCodeRegistry.findByCountryIso2Code(normalizedIso2Code)
+                .orElseThrow(() -> countryNotFound(normalizedIso2Code));
+
+        // One row more than the page tells whether another page follows, without a count.
+        List<Bank> banks = bankLookup.findPageByCountryIso2Code(normalizedIso2Code, afterSwiftCode, pageSize + 1);
+        if (banks.isEmpty() && afterSwiftCode == null) {
+            throw new BankNotFoundException("No banks found for country code '" + normalizedIso2Code + "'.");
+        }
+        boolean hasNextPage = banks.size() > pageSize;
+        List<Bank> page = hasNextPage ? banks.subList(0, pageSize) : banks;
+        String nextCursor = hasNextPage
+                ? CountryPageCursor.encode(normalizedIso2Code, page.get(page.size() - 1).getSwiftCode())
+                : null;
+
+        List<BankResponse> bankResponses = page.stream()
+                .map(bankMapper::toBankResponseNullCountryName)
+                .toList();
+        return new BanksByCountryResponse(normalizedIso2Code, country.getCountryName(), bankResponses, nextCursor);
+    }
+
+    /**
+     * The banks of {@code countryISO2} as they come off the cursor, each with its country name since
+     * there is no envelope to carry it. Everything that can fail with an error response fails before
+     * this returns, so the caller can commit the response once it has the stream. The stream must
+     * be closed.
+     */
+    public Stream<BankResponse> streamBanksByIsoCode(String countryISO2) {
+        logger.info("Attempting to stream banks with country ISO2: {}", countryISO2);
+        bankValidator.validateCountryIso2Length(countryISO2);
+
         String normalizedIso2Code = countryISO2.toUpperCase();
-        CountryCode country = countryCodeRepository.findByCountryIso2Code(normalizedIso2Code)
-                .orElseThrow(() -> new CountryCodeNotFoundException("Country ISO2 code '" + normalizedIso2Code + "' does not exist."));
+        countryCodeRegistry.findByCountryIso2Code(normalizedIso2Code)
+                .orElseThrow(() -> countryNotFound(normalizedIso2Code));
 
-        List<Bank> banks = bankRepository.findByCountryIso2Code(normalizedIso2Code);
+        Stream<Bank> banks = bankLookup.streamByCountryIso2Code(normalizedIso2Code);
+        Iterator<Bank> cursor = banks.iterator();
+        if (!cursor.hasNext()) {
+            banks.close();
+            throw new BankNotFoundException("No banks found for country code '" + normalizedIso2Code + "'.");
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(banks::close)
+                .map(bankMapper::toBankResponse);
+    }
+
+    static BanksByCountryResponse toBanksByCountry(String normalizedIso2Code, CountryCode country, List<Bank> banks,
+                                                   BankMapper bankMapper) {
         if (banks.isEmpty()) {
             throw new BankNotFoundException("No banks found for country code '" + normalizedIso2Code + "'.");
         }
@@ -130,7 +261,15 @@ public class BankService {
         return new BanksByCountryResponse(normalizedIso2Code, country.getCountryName(), bankResponses);
     }
 
-    private CreateBankRequest normalizeRequest(CreateBankRequest request) {
+    static CountryCodeNotFoundException countryNotFound(String iso2Code) {
+        return new CountryCodeNotFoundException("Country ISO2 code '" + iso2Code + "' does not exist.");
+    }
+
+    public OptionalLong directoryVersion() {
+        return bankLookup.version();
+    }
+
+    static CreateBankRequest normalizeRequest(CreateBankRequest request) {
         return  request.toBuilder()
             .countryISO2(request.getCountryISO2().toUpperCase())
             .countryName(request.getCountryName().toUpperCase())
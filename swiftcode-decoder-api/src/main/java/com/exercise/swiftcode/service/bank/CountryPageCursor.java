@@ -0,0 +1,51 @@
+package com.exercise.swiftcode.service.bank;
+
+import com.exercise.swiftcode.config.exceptions.ValidationException;
+import com.exercise.swiftcode.domain.SwiftCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque position in a country listing: the country and the last SWIFT code of the page, so the
+ * next page resumes after it whatever was inserted or deleted in between. Clients pass it back
+ * unchanged; its layout is free to change.
+ */
+final class CountryPageCursor {
+    private static final char SEPARATOR = ':';
+
+    private CountryPageCursor() {
+    }
+
+    static String encode(String countryIso2, String lastSwiftCode) {
+        byte[] position = (countryIso2 + SEPARATOR + lastSwiftCode).getBytes(StandardCharsets.US_ASCII);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position);
+    }
+
+    /**
+     * Returns the SWIFT code the page ends on.
+     *
+     * @throws ValidationException when the cursor is malformed or belongs to another country
+     */
+    static String decode(String cursor, String countryIso2) {
+        String position;
+        try {
+            position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        int separator = position.indexOf(SEPARATOR);
+        if (separator < 0 || !position.substring(0, separator).equals(countryIso2)) {
+            throw invalid();
+        }
+        String swiftCode = position.substring(separator + 1);
+        if (!SwiftCode.isValid(swiftCode)) {
+            throw invalid();
+        }
+        return swiftCode;
+    }
+
+    private static ValidationException invalid() {
+        return new ValidationException("Invalid page cursor.");
+    }
+}
@@ -0,0 +1,102 @@
+package com.exercise.swiftcode.service.bank;
+
+import com.exercise.swiftcode.api.bank.BankMapper;
+import com.exercise.swiftcode.api.bank.BankValidator;
+import com.exercise.swiftcode.api.bank.request.CreateBankRequest;
+import com.exercise.swiftcode.api.bank.response.BankListResponse;
+import com.exercise.swiftcode.api.bank.response.BanksByCountryResponse;
+import com.exercise.swiftcode.api.bank.response.MessageResponse;
+import com.exercise.swiftcode.config.exceptions.BankNotFoundException;
+import com.exercise.swiftcode.domain.SwiftCode;
+import com.exercise.swiftcode.persistence.entity.CountryCode;
+import com.exercise.swiftcode.persistence.reactive.ReactiveBankRepository;
+import com.exercise.swiftcode.persistence.reactive.ReactiveCountryCodeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link BankService} for the WebFlux stack, reading through the reactive driver so no request
+ * holds a thread while Mongo answers. Validation and response assembly are shared with the servlet
+ * stack; the response cache and the in-memory directory are not used.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBankService {
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveBankService.class);
+
+    private final BankMapper bankMapper;
+    private final BankValidator bankValidator;
+    private final ReactiveBankRepository bankRepository;
+    private final ReactiveCountryCodeRepository countryCodeRepository;
+
+    public ReactiveBankService(BankMapper bankMapper, BankValidator bankValidator, ReactiveBankRepository bankRepository,
+                               ReactiveCountryCodeRepository countryCodeRepository) {
+        this.bankMapper = bankMapper;
+        this.bankValidator = bankValidator;
+        this.bankRepository = bankRepository;
+        this.countryCodeRepository = countryCodeRepository;
+    }
+
+    public Mono<MessageResponse> createBank(CreateBankRequest request) {
+        return Mono.fromCallable(() -> {
+                    logger.info("Attempting to create bank with {}", request);
+                    bankValidator.validateCreateBankRequest(request);
+                    return BankService.normalizeRequest(request);
+                })
+                .flatMap(normalizedRequest -> countryCodeRepository.findByCountryIso2Code(normalizedRequest.getCountryISO2())
+                        .switchIfEmpty(Mono.error(() -> BankService.countryNotFound(normalizedRequest.getCountryISO2())))
+                        // Duplicates are rejected by the unique SWIFT code index and surface as DuplicateKeyException.
+                        .flatMap(country -> bankRepository.insert(bankMapper.toBank(normalizedRequest))))
+                .thenReturn(new MessageResponse("Bank successfully created."));
+    }
+
+    public Mono<MessageResponse> deleteBank(String swiftCode) {
+        return Mono.fromCallable(() -> {
+                    logger.info("Attempting to delete bank with SWIFT Code: {}", swiftCode);
+                    bankValidator.validateDeleteBankRequest(swiftCode);
+                    return SwiftCode.parse(swiftCode);
+                })
+                .flatMap(code -> bankRepository.findBySwiftCode(code.toString())
+                        .switchIfEmpty(Mono.error(() -> new BankNotFoundException("Bank with SWIFT Code '" + code + "' not found.")))
+                        .flatMap(bank -> code.isHeadquarter()
+                                ? bankRepository.deleteBySwiftCodePrefix(code.prefix())
+                                        .doOnSuccess(deleted -> logger.info("Successfully deleted headquarters and all associated branches with prefix: {}", code.prefix()))
+                                        .then()
+                                : bankRepository.deleteBySwiftCode(code.toString())
+                                        .doOnSuccess(deleted -> logger.info("Successfully deleted bank with SWIFT Code: {}", code))))
+                .thenReturn(new MessageResponse("Bank successfully deleted."));
+    }
+
+    public Mono<BankListResponse> getBankAndBranches(String swiftCode) {
+        return Mono.fromCallable(() -> {
+                    logger.info("Attempting to get banks with SWIFT Code: {}", swiftCode);
+                    bankValidator.validateSwiftCode(swiftCode);
+                    return SwiftCode.parse(swiftCode);
+                })
+                .flatMap(code -> (code.isHeadquarter()
+                        ? bankRepository.findBySwiftCodePrefix(code.prefix()).collectList()
+                        : bankRepository.findBySwiftCode(code.toString()).map(List::of).defaultIfEmpty(List.of()))
+                        .map(banks -> BankService.toBankAndBranches(code, banks, bankMapper)));
+    }
+
+    // The country and its banks are read concurrently on the same connection pool, without a thread each.
+    public Mono<BanksByCountryResponse> getBanksByIsoCode(String countryISO2) {
+        return Mono.fromCallable(() -> {
+                    logger.info("Attempting to get bank with country ISO2: {}", countryISO2);
+                    bankValidator.validateCountryIso2Length(countryISO2);
+                    return countryISO2.toUpperCase();
+                })
+                .flatMap(iso2Code -> Mono.zip(
+                                countryCodeRepository.findByCountryIso2Code(iso2Code).map(Optional::of).defaultIfEmpty(Optional.<CountryCode>empty()),
+                                bankRepository.findByCountryIso2Code(iso2Code).collectList())
+                        .map(lookups -> BankService.toBanksByCountry(iso2Code,
+                                lookups.getT1().orElseThrow(() -> BankService.countryNotFound(iso2Code)),
+                                lookups.getT2(), bankMapper)));
+    }
+}
@@ -0,0 +1,65 @@
+package com.exercise.swiftcode.service.bank;
+
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent reads of one request concurrently, each on its own virtual thread. The
+ * first failure, the deadline passing, or the calling thread being interrupted cancels whatever is
+ * still running, so no subtask is left working for a request that has already been answered.
+ * StructuredTaskScope gives the same shape but is a preview API in Java 21.
+ */
+final class Subtasks {
+    private Subtasks() {
+    }
+
+    record Both<A, B>(A first, B second) {
+    }
+
+    /**
+     * @throws QueryTimeoutException when both have not finished within {@code timeout}
+     */
+    @SuppressWarnings("unchecked")
+    static <A, B> Both<A, B> both(Supplier<A> first, Supplier<B> second, Duration timeout) {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            CompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+            Future<Object> firstResult = completion.submit(first::get);
+            Future<Object> secondResult = completion.submit(second::get);
+            long deadline = System.nanoTime() + timeout.toNanos();
+            for (int finished = 0; finished < 2; finished++) {
+                Future<Object> next = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    throw new QueryTimeoutException("Lookups did not finish within " + timeout.toMillis() + " ms.");
+                }
+                // Surfaces a failure as soon as it happens rather than after the other subtask.
+                next.get();
+            }
+            return new Both<>((A) firstResult.resultNow(), (B) secondResult.resultNow());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for lookups.");
+        } finally {
+            // Interrupts stragglers without waiting for them, so a timeout is not stretched by a call that ignores it.
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.exercise.swiftcode.service.country;
+
+import com.exercise.swiftcode.persistence.entity.CountryCode;
+import com.exercise.swiftcode.persistence.repository.CountryCodeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Immutable in-memory copy of {@code country_codes}, stored in a flat array with one slot per
+ * possible pair of ISO2 letters. Any write to the collection marks the table stale and the next
+ * lookup rebuilds it.
+ */
+@Component
+public class CountryCodeRegistry extends AbstractMongoEventListener<CountryCode> {
+    private static final Logger logger = LoggerFactory.getLogger(CountryCodeRegistry.class);
+
+    private static final int LETTERS = 26;
+    private static final int CASE_BIT = 0x20;
+
+    private final CountryCodeRepository countryCodeRepository;
+
+    private volatile CountryCode[] table = new CountryCode[LETTERS * LETTERS];
+    private volatile boolean stale = true;
+    // Not synchronized: a virtual thread blocked on Mongo inside a monitor pins its carrier thread on Java 21.
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public CountryCodeRegistry(CountryCodeRepository countryCodeRepository) {
+        this.countryCodeRepository = countryCodeRepository;
+    }
+
+    public Optional<CountryCode> findByCountryIso2Code(String iso2Code) {
+        if (stale) {
+            refreshIfStale();
+        }
+        int slot = slotOf(iso2Code);
+        return slot < 0 ? Optional.empty() : Optional.ofNullable(table[slot]);
+    }
+
+    /**
+     * Whether the next lookup reloads the table from Mongo. Otherwise a lookup is a plain array read.
+     */
+    public boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * Maps a two-letter code, in either case, to its table slot, or returns -1 when the input is
+     * not exactly two ASCII letters.
+     */
+    public static int slotOf(String iso2Code) {
+        if (iso2Code == null || iso2Code.length() != 2) {
+            return -1;
+        }
+        int first = letterIndex(iso2Code.charAt(0));
+        int second = letterIndex(iso2Code.charAt(1));
+        return (first | second) < 0 ? -1 : first * LETTERS + second;
+    }
+
+    private static int letterIndex(char c) {
+        int index = (c & ~CASE_BIT) - 'A';
+        return index >= 0 && index < LETTERS ? index : -1;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            load();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void load() {
+        // Cleared before reading so that a write racing with the load marks the table stale again.
+        stale = false;
+        Iterable<CountryCode> countries;
+        try {
+            countries = countryCodeRepository.findAll();
+        } catch (RuntimeException e) {
+            // The table was not replaced, so the next lookup has to try again.
+            stale = true;
+            throw e;
+        }
+        CountryCode[] loaded = new CountryCode[LETTERS * LETTERS];
+        int count = 0;
+        for (CountryCode country : countries) {
+            int slot = slotOf(country.getCountryIso2Code());
+            if (slot < 0) {
+                logger.warn("Skipping country with invalid ISO2 code '{}'.", country.getCountryIso2Code());
+                continue;
+            }
+            loaded[slot] = country;
+            count++;
+        }
+        table = loaded;
+        logger.info("Loaded {} country codes into the registry.", count);
+    }
+
+    private void refreshIfStale() {
+        refreshLock.lock();
+        try {
+            if (stale) {
+                load();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<CountryCode> event) {
+        stale = true;
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<CountryCode> event) {
+        stale = true;
+    }
+}
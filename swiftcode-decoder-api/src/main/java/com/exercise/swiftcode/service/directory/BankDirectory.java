@@ -0,0 +1,296 @@
+package com.exercise.swiftcode.service.directory;
+
+import com.exercise.swiftcode.domain.SwiftCode;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.service.country.CountryCodeRegistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable columnar copy of the bank directory. Rows are sorted by packed SWIFT code, so an exact
+ * lookup is a binary search and a headquarter family is one contiguous run of rows. A second index
+ * groups row numbers by country, with one offset per ISO2 slot, and keeps the order the banks were
+ * loaded in so country listings match what Mongo returns. A third shares those offsets but keeps
+ * each country's rows in code order, so a page of a country is a binary search and a slice.
+ */
+public final class BankDirectory {
+    private static final int COUNTRY_SLOTS = 26 * 26;
+
+    private final long[] codes;
+    private final String[] swiftCodes;
+    private final String[] names;
+    private final String[] addresses;
+    private final String[] countryIso2Codes;
+    private final String[] countryNames;
+    private final int[] loadOrder;
+    private final int[] countryRows;
+    private final int[] countryRowsByCode;
+    private final int[] countryOffsets;
+
+    private BankDirectory(long[] codes, String[] swiftCodes, String[] names, String[] addresses,
+                          String[] countryIso2Codes, String[] countryNames, int[] loadOrder) {
+        this.codes = codes;
+        this.swiftCodes = swiftCodes;
+        this.names = names;
+        this.addresses = addresses;
+        this.countryIso2Codes = countryIso2Codes;
+        this.countryNames = countryNames;
+        this.loadOrder = loadOrder;
+
+        int[] countryCounts = new int[COUNTRY_SLOTS + 1];
+        for (String countryIso2Code : countryIso2Codes) {
+            int slot = CountryCodeRegistry.slotOf(countryIso2Code);
+            if (slot >= 0) {
+                countryCounts[slot + 1]++;
+            }
+        }
+        countryOffsets = new int[COUNTRY_SLOTS + 1];
+        for (int slot = 0; slot < COUNTRY_SLOTS; slot++) {
+            countryOffsets[slot + 1] = countryOffsets[slot] + countryCounts[slot + 1];
+        }
+        countryRows = new int[countryOffsets[COUNTRY_SLOTS]];
+        countryRowsByCode = new int[countryRows.length];
+        int[] next = Arrays.copyOf(countryOffsets, COUNTRY_SLOTS);
+        for (int row : loadOrder) {
+            int slot = CountryCodeRegistry.slotOf(countryIso2Codes[row]);
+            if (slot >= 0) {
+                countryRows[next[slot]++] = row;
+            }
+        }
+        next = Arrays.copyOf(countryOffsets, COUNTRY_SLOTS);
+        for (int row = 0; row < countryIso2Codes.length; row++) {
+            int slot = CountryCodeRegistry.slotOf(countryIso2Codes[row]);
+            if (slot >= 0) {
+                countryRowsByCode[next[slot]++] = row;
+            }
+        }
+    }
+
+    /**
+     * Builds a directory from the given banks. Banks whose SWIFT code does not parse cannot be
+     * addressed by any lookup and are left out. When a code repeats, the last bank wins.
+     */
+    public static BankDirectory of(Collection<Bank> banks) {
+        Map<Long, Bank> unique = new LinkedHashMap<>();
+        for (Bank bank : banks) {
+            long packed = SwiftCode.pack(bank.getSwiftCode());
+            if (packed != SwiftCode.INVALID) {
+                unique.put(packed, bank);
+            }
+        }
+        List<Bank> sorted = new ArrayList<>(unique.values());
+        sorted.sort(Comparator.comparingLong(bank -> SwiftCode.pack(bank.getSwiftCode())));
+        Columns columns = new Columns(sorted.size());
+        for (Bank bank : sorted) {
+            columns.add(SwiftCode.pack(bank.getSwiftCode()), bank);
+        }
+        int[] loadOrder = new int[columns.size];
+        int position = 0;
+        for (long packed : unique.keySet()) {
+            loadOrder[position++] = Arrays.binarySearch(columns.codes, packed);
+        }
+        return columns.toDirectory(loadOrder);
+    }
+
+    /**
+     * Returns a copy with the given changes applied, keyed by packed SWIFT code. A null value
+     * removes the bank. Replaced banks keep their place in load order and new ones are appended.
+     * Only the changes are sorted; the rows are merged with them in one pass in code order.
+     */
+    public BankDirectory with(Map<Long, Bank> changes) {
+        long[] keys = new long[changes.size()];
+        int k = 0;
+        for (long packed : changes.keySet()) {
+            keys[k++] = packed;
+        }
+        Arrays.sort(keys);
+
+        Columns columns = new Columns(codes.length + keys.length);
+        int[] movedTo = new int[codes.length];
+        int[] insertedAt = new int[keys.length];
+        Arrays.fill(insertedAt, -1);
+        int row = 0;
+        int key = 0;
+        while (row < codes.length || key < keys.length) {
+            long code = row < codes.length ? codes[row] : Long.MAX_VALUE;
+            long change = key < keys.length ? keys[key] : Long.MAX_VALUE;
+            if (code < change) {
+                movedTo[row] = columns.size;
+                columns.copy(this, row++);
+                continue;
+            }
+            Bank bank = changes.get(change);
+            if (code == change) {
+                movedTo[row++] = bank != null ? columns.size : -1;
+            } else if (bank != null) {
+                insertedAt[key] = columns.size;
+            }
+            if (bank != null) {
+                columns.add(change, bank);
+            }
+            key++;
+        }
+
+        int[] mergedLoadOrder = new int[columns.size];
+        int position = 0;
+        for (int previous : loadOrder) {
+            if (movedTo[previous] >= 0) {
+                mergedLoadOrder[position++] = movedTo[previous];
+            }
+        }
+        for (long packed : changes.keySet()) {
+            int inserted = insertedAt[Arrays.binarySearch(keys, packed)];
+            if (inserted >= 0) {
+                mergedLoadOrder[position++] = inserted;
+            }
+        }
+        return columns.toDirectory(mergedLoadOrder);
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    /**
+     * Row of the bank at {@code position} in load order.
+     */
+    int rowInLoadOrder(int position) {
+        return loadOrder[position];
+    }
+
+    long codeAt(int row) {
+        return codes[row];
+    }
+
+    public int indexOf(SwiftCode swiftCode) {
+        int row = Arrays.binarySearch(codes, swiftCode.value());
+        return row >= 0 ? row : -1;
+    }
+
+    public Bank bankAt(int row) {
+        return Bank.builder()
+                .swiftCode(swiftCodes[row])
+                .name(names[row])
+                .address(addresses[row])
+                .countryIso2Code(countryIso2Codes[row])
+                .countryName(countryNames[row])
+                .build();
+    }
+
+    public List<Bank> family(SwiftCode swiftCode) {
+        int from = lowerBound(swiftCode.familyStart());
+        int to = lowerBound(swiftCode.familyEnd());
+        List<Bank> banks = new ArrayList<>(to - from);
+        for (int row = from; row < to; row++) {
+            banks.add(bankAt(row));
+        }
+        return banks;
+    }
+
+    public List<Bank> byCountry(String countryIso2) {
+        int slot = CountryCodeRegistry.slotOf(countryIso2);
+        if (slot < 0) {
+            return List.of();
+        }
+        int from = countryOffsets[slot];
+        int to = countryOffsets[slot + 1];
+        List<Bank> banks = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            banks.add(bankAt(countryRows[i]));
+        }
+        return banks;
+    }
+
+    /**
+     * Up to {@code limit} banks of the country in SWIFT code order, starting after {@code after} or
+     * from the first when it is null.
+     */
+    public List<Bank> pageByCountry(String countryIso2, String after, int limit) {
+        int slot = CountryCodeRegistry.slotOf(countryIso2);
+        if (slot < 0) {
+            return List.of();
+        }
+        int from = countryOffsets[slot];
+        int to = countryOffsets[slot + 1];
+        if (after != null) {
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                if (swiftCodes[countryRowsByCode[mid]].compareTo(after) <= 0) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+            to = countryOffsets[slot + 1];
+        }
+        int end = (int) Math.min(to, (long) from + limit);
+        List<Bank> banks = new ArrayList<>(end - from);
+        for (int i = from; i < end; i++) {
+            banks.add(bankAt(countryRowsByCode[i]));
+        }
+        return banks;
+    }
+
+    private int lowerBound(long value) {
+        int row = Arrays.binarySearch(codes, value);
+        return row >= 0 ? row : -row - 1;
+    }
+
+    // Rows in code order, appended by of() and with() and trimmed to size when done.
+    private static final class Columns {
+        private long[] codes;
+        private String[] swiftCodes;
+        private String[] names;
+        private String[] addresses;
+        private String[] countryIso2Codes;
+        private String[] countryNames;
+        private int size;
+
+        private Columns(int capacity) {
+            codes = new long[capacity];
+            swiftCodes = new String[capacity];
+            names = new String[capacity];
+            addresses = new String[capacity];
+            countryIso2Codes = new String[capacity];
+            countryNames = new String[capacity];
+        }
+
+        private void add(long packed, Bank bank) {
+            codes[size] = packed;
+            swiftCodes[size] = bank.getSwiftCode();
+            names[size] = bank.getName();
+            addresses[size] = bank.getAddress();
+            countryIso2Codes[size] = bank.getCountryIso2Code();
+            countryNames[size] = bank.getCountryName();
+            size++;
+        }
+
+        private void copy(BankDirectory from, int row) {
+            codes[size] = from.codes[row];
+            swiftCodes[size] = from.swiftCodes[row];
+            names[size] = from.names[row];
+            addresses[size] = from.addresses[row];
+            countryIso2Codes[size] = from.countryIso2Codes[row];
+            countryNames[size] = from.countryNames[row];
+            size++;
+        }
+
+        private BankDirectory toDirectory(int[] loadOrder) {
+            if (size < codes.length) {
+                codes = Arrays.copyOf(codes, size);
+                swiftCodes = Arrays.copyOf(swiftCodes, size);
+                names = Arrays.copyOf(names, size);
+                addresses = Arrays.copyOf(addresses, size);
+                countryIso2Codes = Arrays.copyOf(countryIso2Codes, size);
+                countryNames = Arrays.copyOf(countryNames, size);
+            }
+            return new BankDirectory(codes, swiftCodes, names, addresses, countryIso2Codes, countryNames, loadOrder);
+        }
+    }
+}
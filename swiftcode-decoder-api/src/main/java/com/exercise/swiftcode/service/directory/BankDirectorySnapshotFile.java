@@ -0,0 +1,201 @@
+package com.exercise.swiftcode.service.directory;
+
+import com.exercise.swiftcode.domain.SwiftCode;
+import com.exercise.swiftcode.persistence.entity.Bank;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary copy of a {@link BankDirectory}, so a node can fill its directory from local disk in
+ * milliseconds instead of reading every bank from Mongo. Layout, big-endian:
+ * <pre>
+ * int    magic "SWBD"
+ * short  format version
+ * int    country count, then per country: string ISO2 code, string name
+ * int    bank count, then per bank in load order:
+ *        long   packed SWIFT code
+ *        int    country index, or -1
+ *        string name, string address
+ * long   CRC-32 of everything before it
+ * </pre>
+ * A string is an int byte length, or -1 for null, followed by its UTF-8 bytes. Country code and
+ * name pairs are stored once and referenced by index, since thousands of banks share each one.
+ */
+public final class BankDirectorySnapshotFile {
+    private static final int MAGIC = 0x53574244;
+    private static final short FORMAT_VERSION = 1;
+    private static final int CHECKSUM_LENGTH = Long.BYTES;
+    // A country is two strings and a bank a code, an index and two strings, each string at least its length.
+    private static final int MIN_COUNTRY_LENGTH = 2 * Integer.BYTES;
+    private static final int MIN_BANK_LENGTH = Long.BYTES + 3 * Integer.BYTES;
+
+    private BankDirectorySnapshotFile() {
+    }
+
+    /**
+     * Writes {@code directory} to a temporary file beside {@code file} and moves it into place, so
+     * readers never see a partly written snapshot.
+     */
+    public static void write(BankDirectory directory, Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            CRC32 checksum = new CRC32();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Files.newOutputStream(temp), checksum), 64 * 1024))) {
+                writeBody(directory, out);
+                out.flush();
+                // Taken before the checksum itself goes through the stream, so it covers the body only.
+                out.writeLong(checksum.getValue());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeBody(BankDirectory directory, DataOutputStream out) throws IOException {
+        int size = directory.size();
+        Map<List<String>, Integer> countryIndexes = new HashMap<>();
+        List<List<String>> countries = new ArrayList<>();
+        int[] countryOfRow = new int[size];
+        for (int row = 0; row < size; row++) {
+            Bank bank = directory.bankAt(row);
+            if (bank.getCountryIso2Code() == null && bank.getCountryName() == null) {
+                countryOfRow[row] = -1;
+                continue;
+            }
+            List<String> country = Arrays.asList(bank.getCountryIso2Code(), bank.getCountryName());
+            countryOfRow[row] = countryIndexes.computeIfAbsent(country, key -> {
+                countries.add(key);
+                return countries.size() - 1;
+            });
+        }
+
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeInt(countries.size());
+        for (List<String> country : countries) {
+            writeString(out, country.get(0));
+            writeString(out, country.get(1));
+        }
+        out.writeInt(size);
+        for (int position = 0; position < size; position++) {
+            int row = directory.rowInLoadOrder(position);
+            Bank bank = directory.bankAt(row);
+            out.writeLong(directory.codeAt(row));
+            out.writeInt(countryOfRow[row]);
+            writeString(out, bank.getName());
+            writeString(out, bank.getAddress());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Maps {@code file} and rebuilds the directory it holds. SWIFT codes come back in upper case,
+     * as they are stored packed.
+     *
+     * @throws IOException when the file is unreadable, of another format version, or corrupt
+     */
+    public static BankDirectory read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < CHECKSUM_LENGTH || length > Integer.MAX_VALUE) {
+                throw new IOException("Bank snapshot " + file + " has an invalid length of " + length + " bytes.");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            int bodyLength = (int) length - CHECKSUM_LENGTH;
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.slice(0, bodyLength));
+            if (checksum.getValue() != buffer.getLong(bodyLength)) {
+                throw new IOException("Bank snapshot " + file + " is corrupt: checksum mismatch.");
+            }
+            return readBody(buffer.slice(0, bodyLength), file);
+        }
+    }
+
+    private static BankDirectory readBody(ByteBuffer buffer, Path file) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("File " + file + " is not a bank snapshot.");
+            }
+            short version = buffer.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Bank snapshot " + file + " has format version " + version + ", expected " + FORMAT_VERSION + ".");
+            }
+            int countryCount = count(buffer, MIN_COUNTRY_LENGTH);
+            String[] countryIso2Codes = new String[countryCount];
+            String[] countryNames = new String[countryCount];
+            for (int i = 0; i < countryCount; i++) {
+                countryIso2Codes[i] = readString(buffer);
+                countryNames[i] = readString(buffer);
+            }
+            int size = count(buffer, MIN_BANK_LENGTH);
+            List<Bank> banks = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                long code = buffer.getLong();
+                int country = buffer.getInt();
+                banks.add(Bank.builder()
+                        .swiftCode(new SwiftCode(code).toString())
+                        .countryIso2Code(country < 0 ? null : countryIso2Codes[country])
+                        .countryName(country < 0 ? null : countryNames[country])
+                        .name(readString(buffer))
+                        .address(readString(buffer))
+                        .build());
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Bank snapshot " + file + " has " + buffer.remaining() + " unexpected trailing bytes.");
+            }
+            return BankDirectory.of(banks);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | NegativeArraySizeException e) {
+            throw new IOException("Bank snapshot " + file + " is corrupt.", e);
+        }
+    }
+
+    // Rejects counts the remaining bytes cannot hold before anything is allocated for them.
+    private static int count(ByteBuffer buffer, int minEntryLength) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / minEntryLength) {
+            throw new IllegalArgumentException("Invalid entry count " + count);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,58 @@
+package com.exercise.swiftcode.service.directory;
+
+import com.exercise.swiftcode.domain.SwiftCode;
+import com.exercise.swiftcode.persistence.entity.Bank;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+/**
+ * Read side used by the GET endpoints. Mongo stays the system of record for writes whichever
+ * implementation is active.
+ */
+public interface BankLookup {
+    Optional<Bank> findBySwiftCode(SwiftCode swiftCode);
+
+    /**
+     * Returns every bank sharing the code's 8-character prefix, the headquarter included.
+     */
+    List<Bank> findFamily(SwiftCode swiftCode);
+
+    List<Bank> findByCountryIso2Code(String countryIso2);
+
+    /**
+     * Same banks as {@link #findByCountryIso2Code}, produced one at a time. The stream must be closed.
+     */
+    default Stream<Bank> streamByCountryIso2Code(String countryIso2) {
+        return findByCountryIso2Code(countryIso2).stream();
+    }
+
+    /**
+     * Up to {@code limit} banks of the country ordered by SWIFT code, starting after {@code after}
+     * or from the first when it is null. This default sorts the whole country on every page.
+     */
+    default List<Bank> findPageByCountryIso2Code(String countryIso2, String after, int limit) {
+        return findByCountryIso2Code(countryIso2).stream()
+                .filter(bank -> after == null || bank.getSwiftCode().compareTo(after) > 0)
+                .sorted(Comparator.comparing(Bank::getSwiftCode))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Waits until the reads reflect the writes this thread has made to {@code banks}, so a caller
+     * can clear its caches without them refilling from older data.
+     */
+    default void awaitWrites() {
+    }
+
+    /**
+     * Version of the data being served, when the implementation keeps one.
+     */
+    default OptionalLong version() {
+        return OptionalLong.empty();
+    }
+}
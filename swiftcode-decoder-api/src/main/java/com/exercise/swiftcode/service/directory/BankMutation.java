@@ -0,0 +1,28 @@
+package com.exercise.swiftcode.service.directory;
+
+import com.exercise.swiftcode.domain.SwiftCode;
+import com.exercise.swiftcode.persistence.entity.Bank;
+
+/**
+ * A change to apply to the in-memory directory, mirroring a write already made to {@code banks}.
+ */
+public sealed interface BankMutation {
+    record Upsert(Bank bank) implements BankMutation {
+    }
+
+    record Remove(SwiftCode swiftCode) implements BankMutation {
+    }
+
+    /**
+     * Removes every bank sharing the code's 8-character prefix.
+     */
+    record RemoveFamily(SwiftCode swiftCode) implements BankMutation {
+    }
+
+    /**
+     * Replaces the whole directory with a fresh load from Mongo, for writes that cannot be mapped
+     * to individual codes.
+     */
+    record Reload() implements BankMutation {
+    }
+}
@@ -0,0 +1,8 @@
+package com.exercise.swiftcode.service.directory;
+
+/**
+ * One published state of the in-memory directory. The version increases by one with every batch
+ * of mutations the writer applies.
+ */
+public record BankSnapshot(long version, BankDirectory directory) {
+}
@@ -0,0 +1,136 @@
+package com.exercise.swiftcode.service.directory;
+
+import com.exercise.swiftcode.domain.SwiftCode;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Publishes immutable {@link BankSnapshot}s through an atomic reference, so readers never lock.
+ * Mutations are queued and applied by a single writer thread, which drains everything pending
+ * into one batch, builds the next directory and swaps it in with the version incremented once.
+ */
+public class BankSnapshotStore implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(BankSnapshotStore.class);
+
+    private final AtomicReference<BankSnapshot> current;
+    private final BlockingQueue<PendingMutation> queue = new LinkedBlockingQueue<>();
+    private final Supplier<? extends Collection<Bank>> loader;
+    private final int maxBatchSize;
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    public BankSnapshotStore(Supplier<? extends Collection<Bank>> loader, int maxBatchSize) {
+        this(loader, maxBatchSize, BankDirectory.of(List.of()));
+    }
+
+    /**
+     * Starts from {@code initial} at version 0, such as a directory restored from disk, until the
+     * first mutation is applied.
+     */
+    public BankSnapshotStore(Supplier<? extends Collection<Bank>> loader, int maxBatchSize, BankDirectory initial) {
+        this.current = new AtomicReference<>(new BankSnapshot(0, initial));
+        this.loader = loader;
+        this.maxBatchSize = maxBatchSize;
+        this.writer = Thread.ofPlatform().name("bank-snapshot-writer").daemon().start(this::run);
+    }
+
+    public BankSnapshot current() {
+        return current.get();
+    }
+
+    /**
+     * Queues a mutation. The returned future completes with the first snapshot that contains it.
+     */
+    public CompletableFuture<BankSnapshot> submit(BankMutation mutation) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Bank snapshot store is closed."));
+        }
+        PendingMutation pending = new PendingMutation(mutation, new CompletableFuture<>());
+        queue.add(pending);
+        return pending.published();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        writer.interrupt();
+    }
+
+    private void run() {
+        List<PendingMutation> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            queue.drainTo(batch, maxBatchSize - 1);
+            publish(batch);
+            batch.clear();
+        }
+        PendingMutation pending;
+        while ((pending = queue.poll()) != null) {
+            pending.published().completeExceptionally(new IllegalStateException("Bank snapshot store is closed."));
+        }
+    }
+
+    private void publish(List<PendingMutation> batch) {
+        BankSnapshot previous = current.get();
+        BankSnapshot next;
+        try {
+            next = new BankSnapshot(previous.version() + 1, apply(previous.directory(), batch));
+        } catch (RuntimeException e) {
+            logger.error("Failed to apply {} mutations to the bank directory.", batch.size(), e);
+            batch.forEach(pending -> pending.published().completeExceptionally(e));
+            return;
+        }
+        current.set(next);
+        batch.forEach(pending -> pending.published().complete(next));
+    }
+
+    private BankDirectory apply(BankDirectory base, List<PendingMutation> batch) {
+        BankDirectory directory = base;
+        // Keyed by packed code in arrival order; a null value removes the bank.
+        Map<Long, Bank> changes = new LinkedHashMap<>();
+        for (PendingMutation pending : batch) {
+            switch (pending.mutation()) {
+                case BankMutation.Upsert upsert -> {
+                    long packed = SwiftCode.pack(upsert.bank().getSwiftCode());
+                    if (packed != SwiftCode.INVALID) {
+                        changes.put(packed, upsert.bank());
+                    }
+                }
+                case BankMutation.Remove remove -> changes.put(remove.swiftCode().value(), null);
+                case BankMutation.RemoveFamily removeFamily -> {
+                    SwiftCode swiftCode = removeFamily.swiftCode();
+                    changes.replaceAll((packed, bank) -> swiftCode.isSameFamily(new SwiftCode(packed)) ? null : bank);
+                    for (Bank bank : directory.family(swiftCode)) {
+                        changes.put(SwiftCode.pack(bank.getSwiftCode()), null);
+                    }
+                }
+                case BankMutation.Reload reload -> {
+                    directory = BankDirectory.of(loader.get());
+                    changes.clear();
+                }
+            }
+        }
+        return changes.isEmpty() ? directory : directory.with(changes);
+    }
+
+    private record PendingMutation(BankMutation mutation, CompletableFuture<BankSnapshot> published) {
+    }
+}
@@ -0,0 +1,252 @@
+package com.exercise.swiftcode.service.directory;
+
+import com.exercise.swiftcode.domain.SwiftCode;
+import com.exercise.swiftcode.loader.BankCollectionSwappedEvent;
+import com.exercise.swiftcode.loader.BankImportCompletedEvent;
+import com.exercise.swiftcode.loader.BankImportStartedEvent;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.persistence.repository.BankRepository;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.MongoMappingEvent;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves reads from the snapshot published by a {@link BankSnapshotStore}. Writes to {@code banks}
+ * are forwarded to the store as mutations without waiting, so a bulk insert queues all of its rows
+ * and the store folds them into a few rebuilds. A writer that needs to read its own writes calls
+ * {@link #awaitWrites()} once it is done, which waits, up to {@code directory.in-memory.write-timeout},
+ * for the last snapshot it queued.
+ * Save events are ignored while a background import runs, and the reload on its completion picks up
+ * its rows together with anything else written meanwhile.
+ * <p>
+ * When {@code directory.snapshot.location} is set, the directory is also saved there after every
+ * full load, and a node starting up fills its directory from that file before Mongo is read.
+ */
+@Component
+@ConditionalOnProperty(name = "directory.in-memory.enabled", havingValue = "true")
+public class InMemoryBankLookup extends AbstractMongoEventListener<Bank> implements BankLookup, AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryBankLookup.class);
+
+    private static final String BANKS_COLLECTION = "banks";
+    private static final String HEADQUARTER_SUFFIX = "XXX";
+
+    private final BankSnapshotStore store;
+    private final Path snapshotFile;
+    private final Duration writeTimeout;
+    // Completes once the last mutation this thread queued is published. Holds no snapshot.
+    private final ThreadLocal<CompletableFuture<?>> queuedWrites = new ThreadLocal<>();
+
+    // Writes made before startup completes, such as the initial Excel import, are covered by the full load.
+    private volatile boolean tracking;
+    // Inserts made while an import runs are covered by the reload when it completes.
+    private final AtomicInteger runningImports = new AtomicInteger();
+
+    public InMemoryBankLookup(BankRepository bankRepository,
+                              @Value("${directory.in-memory.max-batch-size}") int maxBatchSize,
+                              @Value("${directory.snapshot.location}") String snapshotLocation,
+                              @Value("${directory.in-memory.write-timeout}") Duration writeTimeout) {
+        this.writeTimeout = writeTimeout;
+        this.snapshotFile = snapshotLocation.isBlank() ? null : Path.of(snapshotLocation);
+        this.store = new BankSnapshotStore(bankRepository::findAll, maxBatchSize, restore(snapshotFile));
+    }
+
+    // A missing or unreadable file only costs the warm start; the Mongo load on startup still runs.
+    private static BankDirectory restore(Path snapshotFile) {
+        if (snapshotFile == null || !Files.exists(snapshotFile)) {
+            return BankDirectory.of(List.of());
+        }
+        long start = System.nanoTime();
+        try {
+            BankDirectory directory = BankDirectorySnapshotFile.read(snapshotFile);
+            logger.info("Restored {} banks from snapshot {} in {} ms.", directory.size(), snapshotFile,
+                    Duration.ofNanos(System.nanoTime() - start).toMillis());
+            return directory;
+        } catch (IOException e) {
+            logger.warn("Could not restore the bank directory from {}; starting empty.", snapshotFile, e);
+            return BankDirectory.of(List.of());
+        }
+    }
+
+    @Override
+    public Optional<Bank> findBySwiftCode(SwiftCode swiftCode) {
+        BankDirectory directory = store.current().directory();
+        int row = directory.indexOf(swiftCode);
+        return row < 0 ? Optional.empty() : Optional.of(directory.bankAt(row));
+    }
+
+    @Override
+    public List<Bank> findFamily(SwiftCode swiftCode) {
+        return store.current().directory().family(swiftCode);
+    }
+
+    @Override
+    public List<Bank> findByCountryIso2Code(String countryIso2) {
+        return store.current().directory().byCountry(countryIso2);
+    }
+
+    @Override
+    public List<Bank> findPageByCountryIso2Code(String countryIso2, String after, int limit) {
+        return store.current().directory().pageByCountry(countryIso2, after, limit);
+    }
+
+    @Override
+    public void awaitWrites() {
+        CompletableFuture<?> queued = queuedWrites.get();
+        if (queued == null) {
+            return;
+        }
+        queuedWrites.remove();
+        try {
+            queued.get(writeTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("In-memory directory did not publish a write within {}; reads may briefly miss it.", writeTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Logged where the mutation failed.
+        }
+    }
+
+    @Override
+    public OptionalLong version() {
+        return OptionalLong.of(store.current().version());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        tracking = true;
+        BankSnapshot snapshot = reload();
+        if (snapshot != null) {
+            logger.info("Loaded {} banks into the in-memory directory at version {}.", snapshot.directory().size(), snapshot.version());
+        }
+    }
+
+    // Runs before the response cache is cleared, so the cache cannot refill from the old directory.
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onCollectionSwapped(BankCollectionSwappedEvent event) {
+        if (tracking) {
+            reload();
+        }
+    }
+
+    // Otherwise each bulk insert of the import would rebuild the directory once per batch of save events.
+    @EventListener
+    public void onImportStarted(BankImportStartedEvent event) {
+        runningImports.incrementAndGet();
+    }
+
+    // A bulk insert that rejects some rows raises no save events for the rows it did insert. Completions
+    // without a start, such as a batch request's, leave the count at zero.
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onImportCompleted(BankImportCompletedEvent event) {
+        runningImports.getAndUpdate(running -> Math.max(0, running - 1));
+        if (tracking) {
+            reload();
+        }
+    }
+
+    private BankSnapshot reload() {
+        BankSnapshot snapshot = apply(new BankMutation.Reload());
+        if (snapshot != null && snapshotFile != null) {
+            try {
+                BankDirectorySnapshotFile.write(snapshot.directory(), snapshotFile);
+                logger.info("Saved {} banks to snapshot {}.", snapshot.directory().size(), snapshotFile);
+            } catch (IOException e) {
+                logger.warn("Could not save the bank directory to {}.", snapshotFile, e);
+            }
+        }
+        return snapshot;
+    }
+
+    // Events from other collections, such as a reload's staging copy, are not part of the directory.
+    @Override
+    public void onAfterSave(AfterSaveEvent<Bank> event) {
+        if (tracking && runningImports.get() == 0 && BANKS_COLLECTION.equals(event.getCollectionName())) {
+            queue(new BankMutation.Upsert(event.getSource()));
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Bank> event) {
+        if (tracking && BANKS_COLLECTION.equals(event.getCollectionName())) {
+            queue(toMutation(event.getSource()));
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(MongoMappingEvent<?> event) {
+        // Repository deleteAll() removes by collection name, so its event carries no domain type.
+        if (tracking && event instanceof AfterDeleteEvent<?> delete && delete.getType() == null
+                && BANKS_COLLECTION.equals(delete.getCollectionName())) {
+            queue(new BankMutation.Reload());
+        }
+        super.onApplicationEvent(event);
+    }
+
+    /**
+     * Maps the query of a delete to the codes it removed. Anything other than the two repository
+     * deletes used by the service falls back to a full reload.
+     */
+    static BankMutation toMutation(Document deleteQuery) {
+        if (deleteQuery.size() == 1) {
+            if (deleteQuery.get("swiftCode") instanceof String swiftCode && SwiftCode.isValid(swiftCode)) {
+                return new BankMutation.Remove(SwiftCode.parse(swiftCode));
+            }
+            if (deleteQuery.get("swiftCodePrefix") instanceof String prefix && SwiftCode.isValid(prefix + HEADQUARTER_SUFFIX)) {
+                return new BankMutation.RemoveFamily(SwiftCode.parse(prefix + HEADQUARTER_SUFFIX));
+            }
+        }
+        return new BankMutation.Reload();
+    }
+
+    private void queue(BankMutation mutation) {
+        queuedWrites.set(store.submit(mutation).handle((snapshot, e) -> {
+            if (e != null) {
+                logger.error("In-memory directory could not apply {}.", mutation, e);
+            }
+            return null;
+        }));
+    }
+
+    private BankSnapshot apply(BankMutation mutation) {
+        try {
+            return store.submit(mutation).join();
+        } catch (CompletionException e) {
+            // Mongo already holds the write, so failing the caller would not undo it.
+            logger.error("In-memory directory could not apply {}.", mutation, e.getCause());
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        store.close();
+    }
+}
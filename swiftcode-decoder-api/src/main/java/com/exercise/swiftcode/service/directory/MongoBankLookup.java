@@ -0,0 +1,49 @@
+package com.exercise.swiftcode.service.directory;
+
+import com.exercise.swiftcode.domain.SwiftCode;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.persistence.repository.BankRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Component
+@ConditionalOnProperty(name = "directory.in-memory.enabled", havingValue = "false", matchIfMissing = true)
+public class MongoBankLookup implements BankLookup {
+    private final BankRepository bankRepository;
+
+    public MongoBankLookup(BankRepository bankRepository) {
+        this.bankRepository = bankRepository;
+    }
+
+    @Override
+    public Optional<Bank> findBySwiftCode(SwiftCode swiftCode) {
+        return bankRepository.findBySwiftCode(swiftCode.toString());
+    }
+
+    @Override
+    public List<Bank> findFamily(SwiftCode swiftCode) {
+        return bankRepository.findBySwiftCodePrefix(swiftCode.prefix());
+    }
+
+    @Override
+    public List<Bank> findByCountryIso2Code(String countryIso2) {
+        return bankRepository.findByCountryIso2Code(countryIso2);
+    }
+
+    @Override
+    public List<Bank> findPageByCountryIso2Code(String countryIso2, String after, int limit) {
+        return after == null
+                ? bankRepository.findByCountryIso2CodeOrderBySwiftCodeAsc(countryIso2, Limit.of(limit))
+                : bankRepository.findByCountryIso2CodeAndSwiftCodeGreaterThanOrderBySwiftCodeAsc(countryIso2, after, Limit.of(limit));
+    }
+
+    @Override
+    public Stream<Bank> streamByCountryIso2Code(String countryIso2) {
+        return bankRepository.streamByCountryIso2Code(countryIso2);
+    }
+}
@@ -0,0 +1,152 @@
+package com.exercise.swiftcode.api.admin;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.persistence.repository.BankRepository;
+import com.exercise.swiftcode.service.bank.BankResponseCache;
+import com.exercise.swiftcode.service.directory.BankLookup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"admin.enabled=true", "admin.token=test-token", "directory.in-memory.enabled=true"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class AdminControllerIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private BankResponseCache bankResponseCache;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private BankLookup bankLookup;
+
+    private static final String RELOAD_URL = "/v1/admin/banks/reload";
+    private static final String IMPORTS_URL = "/v1/admin/imports";
+    private static final String BANK_SWIFTCODE_HQ = "TESTUS33XXX";
+
+    @BeforeEach
+    void setUp() {
+        bankRepository.deleteAll();
+        bankResponseCache.evictAll();
+        bankRepository.save(Bank.builder()
+                .swiftCode(BANK_SWIFTCODE_HQ)
+                .name("Bank Name")
+                .address("Bank Address")
+                .countryIso2Code("US")
+                .countryName("UNITED STATES")
+                .build());
+        bankLookup.awaitWrites();
+    }
+
+    @Test
+    void reloadBanks_withoutToken_returnsForbiddenAndKeepsCollection() throws Exception {
+        // When & Then
+        mockMvc.perform(post(RELOAD_URL))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value("Admin token missing or invalid."));
+        mockMvc.perform(post(RELOAD_URL).header(AdminController.ADMIN_TOKEN_HEADER, "wrong"))
+                .andExpect(status().isForbidden());
+        assertEquals(1, bankRepository.count());
+    }
+
+    @Test
+    void startImport_withoutToken_returnsForbidden() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "banks.csv", "text/csv", "US,TESTUS33ABC".getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        mockMvc.perform(multipart(IMPORTS_URL).file(file))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value("Admin token missing or invalid."));
+    }
+
+    @Test
+    void reloadBanks_swapsInExcelDataAndInvalidatesReads() throws Exception {
+        // Given
+        mockMvc.perform(get("/v1/swift-codes/{swiftCode}", BANK_SWIFTCODE_HQ))
+                .andExpect(status().isOk());
+
+        // When
+        mockMvc.perform(post(RELOAD_URL).header(AdminController.ADMIN_TOKEN_HEADER, "test-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.previousBanks").value(1));
+
+        // Then
+        mockMvc.perform(get("/v1/swift-codes/{swiftCode}", BANK_SWIFTCODE_HQ))
+                .andExpect(status().isNotFound());
+        assertTrue(bankRepository.count() > 1);
+        assertFalse(mongoTemplate.collectionExists("banks_staging"));
+        assertFalse(mongoTemplate.indexOps(Bank.class).getIndexInfo().isEmpty());
+    }
+
+    @Test
+    void startImport_csvUpload_runsInBackgroundAndReportsProgress() throws Exception {
+        // Given
+        String csv = "COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE\r\n"
+                + "US,TESTUS33ABC,BIC11,Bank Name,\"Branch Address, NY\",NEW YORK,UNITED STATES,America/New_York\r\n"
+                + "US,TESTUS33XXX,BIC11,Bank Name,Bank Address,NEW YORK,UNITED STATES,America/New_York\r\n";
+        MockMultipartFile file = new MockMultipartFile("file", "banks.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        // When
+        MvcResult accepted = mockMvc.perform(multipart(IMPORTS_URL).file(file).header(AdminController.ADMIN_TOKEN_HEADER, "test-token"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn();
+        String location = accepted.getResponse().getHeader("Location");
+        for (int i = 0; i < 100 && !mockMvc.perform(get(location).header(AdminController.ADMIN_TOKEN_HEADER, "test-token"))
+                .andReturn().getResponse().getContentAsString().contains("SUCCEEDED"); i++) {
+            Thread.sleep(50);
+        }
+
+        // Then
+        mockMvc.perform(get(location).header(AdminController.ADMIN_TOKEN_HEADER, "test-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.expectedRows").value(2))
+                .andExpect(jsonPath("$.rowsParsed").value(2))
+                .andExpect(jsonPath("$.rowsRejected").value(1));
+        assertEquals(2, bankRepository.count());
+        mockMvc.perform(get("/v1/swift-codes/{swiftCode}", "TESTUS33ABC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.address").value("Branch Address, NY"));
+    }
+
+    @Test
+    void startImport_unsupportedFile_returnsBadRequest() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "banks.txt", "text/plain", new byte[0]);
+
+        // When & Then
+        mockMvc.perform(multipart(IMPORTS_URL).file(file).header(AdminController.ADMIN_TOKEN_HEADER, "test-token"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(IMPORTS_URL + "/{id}", "00000000-0000-0000-0000-000000000000")
+                        .header(AdminController.ADMIN_TOKEN_HEADER, "test-token"))
+                .andExpect(status().isNotFound());
+    }
+}
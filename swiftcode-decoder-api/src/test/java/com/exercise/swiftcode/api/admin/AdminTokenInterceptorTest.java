@@ -0,0 +1,54 @@
+package com.exercise.swiftcode.api.admin;
+
+import com.exercise.swiftcode.config.exceptions.AdminAccessDeniedException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class AdminTokenInterceptorTest {
+    private final HttpServletResponse response = mock(HttpServletResponse.class);
+
+    @Test
+    void preHandle_missingOrWrongToken_refusesWithoutReadingTheBody() {
+        // Given
+        AdminTokenInterceptor interceptor = new AdminTokenInterceptor("test-token");
+        HttpServletRequest missing = mock(HttpServletRequest.class);
+        HttpServletRequest wrong = mock(HttpServletRequest.class);
+        when(wrong.getHeader(AdminController.ADMIN_TOKEN_HEADER)).thenReturn("wrong");
+
+        // When & Then
+        assertThrows(AdminAccessDeniedException.class, () -> interceptor.preHandle(missing, response, new Object()));
+        assertThrows(AdminAccessDeniedException.class, () -> interceptor.preHandle(wrong, response, new Object()));
+        verify(missing).getHeader(AdminController.ADMIN_TOKEN_HEADER);
+        verifyNoMoreInteractions(missing);
+    }
+
+    @Test
+    void preHandle_noTokenConfigured_refusesEveryRequest() {
+        // Given
+        AdminTokenInterceptor interceptor = new AdminTokenInterceptor("");
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getHeader(AdminController.ADMIN_TOKEN_HEADER)).thenReturn("");
+
+        // When & Then
+        assertThrows(AdminAccessDeniedException.class, () -> interceptor.preHandle(request, response, new Object()));
+    }
+
+    @Test
+    void preHandle_matchingToken_letsRequestThrough() {
+        // Given
+        AdminTokenInterceptor interceptor = new AdminTokenInterceptor("test-token");
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getHeader(AdminController.ADMIN_TOKEN_HEADER)).thenReturn("test-token");
+
+        // When & Then
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+    }
+}
@@ -5,6 +5,7 @@ import com.exercise.swiftcode.persistence.entity.Bank;
 import com.exercise.swiftcode.persistence.entity.CountryCode;
 import com.exercise.swiftcode.persistence.repository.BankRepository;
 import com.exercise.swiftcode.persistence.repository.CountryCodeRepository;
+import com.exercise.swiftcode.service.bank.BankResponseCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,9 +14,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -35,6 +41,12 @@ public class BankControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private BankResponseCache bankResponseCache;
+
+    @Autowired
+    private BankController bankController;
+
     private static final String BASE_URL = "/v1/swift-codes";
     private static final String BANK_SWIFTCODE_HQ = "TESTUS33XXX";
     private static final String BANK_SWIFTCODE_BRANCH = "TESTUS33ABC";
@@ -47,6 +59,7 @@ public class BankControllerIntegrationTest {
     void setUp() {
         bankRepository.deleteAll();
         countryCodeRepository.deleteAll();
+        bankResponseCache.evictAll();
 
         CountryCode country = CountryCode.builder()
             .countryIso2Code(BANK_COUNTRY_CODE)
@@ -154,6 +167,44 @@ public class BankControllerIntegrationTest {
             .andExpect(jsonPath("$.message").value(containsString("Bank name cannot be blank")));
     }
 
+    @Test
+    void createBanks_givenMixedBatch_whenPost_thenReportsEachBank() throws Exception {
+        // Given
+        bankRepository.save(createDefaultBank());
+        List<CreateBankRequest> requests = List.of(
+                createDefaultCreateBankRequest(),
+                createDefaultCreateBankRequest().toBuilder().swiftCode(BANK_SWIFTCODE_BRANCH).isHeadquarter(false).build(),
+                createDefaultCreateBankRequest().toBuilder().swiftCode("SHORT").build(),
+                createDefaultCreateBankRequest().toBuilder().swiftCode(BANK_SWIFTCODE_BRANCH).isHeadquarter(false).build());
+
+        // When & Then
+        mockMvc.perform(post(BASE_URL + "/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(requests)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(1))
+            .andExpect(jsonPath("$.duplicates").value(2))
+            .andExpect(jsonPath("$.invalid").value(1))
+            .andExpect(jsonPath("$.results[0].status").value("DUPLICATE"))
+            .andExpect(jsonPath("$.results[0].message").value("SWIFT Code already exists."))
+            .andExpect(jsonPath("$.results[1].status").value("CREATED"))
+            .andExpect(jsonPath("$.results[1].message").doesNotExist())
+            .andExpect(jsonPath("$.results[2].status").value("INVALID"))
+            .andExpect(jsonPath("$.results[2].message").value("SWIFT Code must be exactly 11 characters long."))
+            .andExpect(jsonPath("$.results[3].status").value("DUPLICATE"));
+        assertEquals(2, bankRepository.count());
+    }
+
+    @Test
+    void createBanks_givenEmptyBatch_whenPost_thenReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post(BASE_URL + "/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[]"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("A batch must contain between 1 and 1000 banks."));
+    }
+
     @Test
     void deleteBank_givenExistingBank_whenDelete_thenReturnsOk() throws Exception {
         // Given
@@ -300,4 +351,109 @@ public class BankControllerIntegrationTest {
             .andExpect(status().isBadRequest())
             .andExpect(jsonPath("$.message").value("Country ISO2 code must be exactly 2 characters long."));
     }
+
+    @Test
+    void streamBanksByIsoCode_givenExistingBanks_whenGetNdjson_thenWritesOneBankPerLine() throws Exception {
+        // Given
+        Bank bank1 = createDefaultBank();
+        Bank bank2 = createDefaultBank().toBuilder()
+                .swiftCode(BANK_SWIFTCODE_BRANCH)
+                .build();
+        bankRepository.save(bank1);
+        bankRepository.save(bank2);
+
+        // When
+        MvcResult result = mockMvc.perform(get(BASE_URL + "/country/{countryIso2}", BANK_COUNTRY_CODE)
+                .accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(BANK_SWIFTCODE_HQ, objectMapper.readTree(lines[0]).get("swiftCode").asText());
+        assertEquals(BANK_COUNTRY_NAME, objectMapper.readTree(lines[0]).get("countryName").asText());
+        assertEquals(BANK_SWIFTCODE_BRANCH, objectMapper.readTree(lines[1]).get("swiftCode").asText());
+    }
+
+    @Test
+    void streamBanksByIsoCode_givenZeroFlushRows_whenGetNdjson_thenStillWritesEveryBank() throws Exception {
+        // Given
+        bankRepository.save(createDefaultBank());
+        bankRepository.save(createDefaultBank().toBuilder().swiftCode(BANK_SWIFTCODE_BRANCH).build());
+        Object flushRows = ReflectionTestUtils.getField(bankController, "flushRows");
+        ReflectionTestUtils.setField(bankController, "flushRows", 0);
+
+        try {
+            // When
+            MvcResult result = mockMvc.perform(get(BASE_URL + "/country/{countryIso2}", BANK_COUNTRY_CODE)
+                    .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            // Then
+            String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+            assertEquals(2, body.split("\n").length);
+        } finally {
+            ReflectionTestUtils.setField(bankController, "flushRows", flushRows);
+        }
+    }
+
+    @Test
+    void streamBanksByIsoCode_givenInvalidCountryCode_whenGetNdjson_thenReturnsNotFound() throws Exception {
+        // When & Then
+        mockMvc.perform(get(BASE_URL + "/country/{countryIso2}", "XX")
+                .accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("Country ISO2 code 'XX' does not exist."));
+    }
+
+    @Test
+    void getBanksByIsoCode_givenLimit_whenFollowingCursors_thenReturnsEveryBankOnce() throws Exception {
+        // Given
+        bankRepository.save(createDefaultBank());
+        bankRepository.save(createDefaultBank().toBuilder().swiftCode(BANK_SWIFTCODE_BRANCH).build());
+        bankRepository.save(createDefaultBank().toBuilder().swiftCode("TESTUS33AAA").build());
+
+        // When
+        String firstPage = mockMvc.perform(get(BASE_URL + "/country/{countryIso2}", BANK_COUNTRY_CODE).param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.swiftCodes.length()").value(2))
+            .andExpect(jsonPath("$.swiftCodes[0].swiftCode").value("TESTUS33AAA"))
+            .andExpect(jsonPath("$.swiftCodes[1].swiftCode").value(BANK_SWIFTCODE_BRANCH))
+            .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        // Then
+        mockMvc.perform(get(BASE_URL + "/country/{countryIso2}", BANK_COUNTRY_CODE)
+                .param("limit", "2")
+                .param("after", nextCursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.swiftCodes.length()").value(1))
+            .andExpect(jsonPath("$.swiftCodes[0].swiftCode").value(BANK_SWIFTCODE_HQ))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getBanksByIsoCode_givenInvalidCursor_whenGet_thenReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get(BASE_URL + "/country/{countryIso2}", BANK_COUNTRY_CODE).param("after", "garbage"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Invalid page cursor."));
+    }
+
+    @Test
+    void getBanksByIsoCode_givenNonNumericLimit_whenGet_thenReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get(BASE_URL + "/country/{countryIso2}", BANK_COUNTRY_CODE).param("limit", "many"))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.message").value("Invalid value for parameter 'limit'."));
+    }
 }
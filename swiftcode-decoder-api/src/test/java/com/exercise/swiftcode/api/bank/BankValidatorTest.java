@@ -112,6 +112,30 @@ public class BankValidatorTest {
                 .hasMessage("Bank name cannot be null or empty.");
     }
 
+    @Test
+    void validateCreateBankRequest_whenBankNameIsControlCharacters_throwsValidationException() {
+        // Given
+        CreateBankRequest request = validRequest.toBuilder()
+                .bankName(" \t\n")
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> bankValidator.validateCreateBankRequest(request))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Bank name cannot be null or empty.");
+    }
+
+    @Test
+    void validateCreateBankRequest_whenBankNameIsUnicodeWhitespace_passesAsTrimDoes() {
+        // Given
+        CreateBankRequest request = validRequest.toBuilder()
+                .bankName("\u2003\u3000")
+                .build();
+
+        // When & Then
+        bankValidator.validateCreateBankRequest(request);
+    }
+
     @Test
     void validateCreateBankRequest_whenAddressIsNull_throwsValidationException() {
         // Given
@@ -157,6 +181,16 @@ public class BankValidatorTest {
                 .hasMessage("Country ISO2 code must be exactly 2 characters long.");
     }
 
+    @Test
+    void validateCountryIso2Length_whenCountryIso2HasNonLetters_throwsValidationException() {
+        // When & Then
+        assertThatThrownBy(() -> bankValidator.validateCountryIso2Length("P1"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Country ISO2 code must contain only letters.");
+        assertThatThrownBy(() -> bankValidator.validateCountryIso2Length("\u0141A"))
+                .isInstanceOf(ValidationException.class);
+    }
+
     @Test
     void validateCreateBankRequest_whenCountryNameIsNull_throwsValidationException() {
         // Given
@@ -204,4 +238,43 @@ public class BankValidatorTest {
 
         // Then (no exception thrown)
     }
+
+    @Test
+    void validatePageLimit_outOfRange_throwsValidationException() {
+        // When & Then
+        assertThatThrownBy(() -> bankValidator.validatePageLimit(0, 1000))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Page limit must be between 1 and 1000.");
+        assertThatThrownBy(() -> bankValidator.validatePageLimit(1001, 1000))
+                .isInstanceOf(ValidationException.class);
+        bankValidator.validatePageLimit(1000, 1000);
+    }
+
+    @Test
+    void validateCreateBankRequest_missingHeadquarterFlag_throwsValidationException() {
+        // Given
+        CreateBankRequest request = CreateBankRequest.builder()
+                .swiftCode("BANKUS33XXX")
+                .bankName("Bank Name")
+                .address("Bank Address")
+                .countryISO2("US")
+                .countryName("UNITED STATES")
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> bankValidator.validateCreateBankRequest(request))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("The isHeadquarter flag must be provided.");
+    }
+
+    @Test
+    void validateBatchSize_outOfRange_throwsValidationException() {
+        // When & Then
+        assertThatThrownBy(() -> bankValidator.validateBatchSize(0, 1000))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("A batch must contain between 1 and 1000 banks.");
+        assertThatThrownBy(() -> bankValidator.validateBatchSize(1001, 1000))
+                .isInstanceOf(ValidationException.class);
+        bankValidator.validateBatchSize(1000, 1000);
+    }
 }
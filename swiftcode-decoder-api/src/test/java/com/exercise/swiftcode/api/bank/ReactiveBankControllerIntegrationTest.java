@@ -0,0 +1,216 @@
+package com.exercise.swiftcode.api.bank;
+
+import com.exercise.swiftcode.api.bank.request.CreateBankRequest;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.persistence.entity.CountryCode;
+import com.exercise.swiftcode.persistence.repository.BankRepository;
+import com.exercise.swiftcode.persistence.repository.CountryCodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles({"test", "reactive"})
+public class ReactiveBankControllerIntegrationTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private CountryCodeRepository countryCodeRepository;
+
+    private static final String BASE_URL = "/v1/swift-codes";
+    private static final String BANK_SWIFTCODE_HQ = "TESTUS33XXX";
+    private static final String BANK_SWIFTCODE_BRANCH = "TESTUS33ABC";
+    private static final String BANK_COUNTRY_CODE = "CN";
+    private static final String BANK_COUNTRY_NAME = "COUNTRY NAME";
+    private static final String BANK_NAME = "Bank Name";
+    private static final String BANK_ADDRESS = "Bank Address";
+
+    @BeforeEach
+    void setUp() {
+        bankRepository.deleteAll();
+        countryCodeRepository.deleteAll();
+
+        CountryCode country = CountryCode.builder()
+            .countryIso2Code(BANK_COUNTRY_CODE)
+            .countryName(BANK_COUNTRY_NAME)
+            .build();
+        countryCodeRepository.save(country);
+    }
+
+    private Bank createDefaultBank() {
+        return Bank.builder()
+                .swiftCode(BANK_SWIFTCODE_HQ)
+                .name(BANK_NAME)
+                .address(BANK_ADDRESS)
+                .countryIso2Code(BANK_COUNTRY_CODE)
+                .countryName(BANK_COUNTRY_NAME)
+                .build();
+    }
+
+    private CreateBankRequest createDefaultCreateBankRequest() {
+        return CreateBankRequest.builder()
+                .swiftCode(BANK_SWIFTCODE_HQ)
+                .isHeadquarter(true)
+                .bankName(BANK_NAME)
+                .address(BANK_ADDRESS)
+                .countryISO2(BANK_COUNTRY_CODE)
+                .countryName(BANK_COUNTRY_NAME)
+                .build();
+    }
+
+    @Test
+    void createBank_validRequest_returnsCreatedStatusAndMessage() {
+        // Given
+        CreateBankRequest request = createDefaultCreateBankRequest();
+
+        // When & Then
+        webTestClient.post().uri(BASE_URL)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isCreated()
+            .expectBody().jsonPath("$.message").isEqualTo("Bank successfully created.");
+    }
+
+    @Test
+    void createBank_duplicateSwiftCode_returnsConflict() {
+        // Given
+        bankRepository.save(createDefaultBank());
+        CreateBankRequest request = createDefaultCreateBankRequest();
+
+        // When & Then
+        webTestClient.post().uri(BASE_URL)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isEqualTo(409)
+            .expectBody().jsonPath("$.message").isEqualTo("SWIFT Code already exists.");
+    }
+
+    @Test
+    void createBank_givenEmptyRequest_whenPost_thenReturnsBadRequest() {
+        // When & Then
+        webTestClient.post().uri(BASE_URL)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue("{}")
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.message").value(containsString("SWIFT code cannot be null"))
+            .jsonPath("$.message").value(containsString("The isHeadquarter flag must be provided"));
+    }
+
+    @Test
+    void createBank_givenInvalidSwiftCode_whenPost_thenReturnsBadRequest() {
+        // Given
+        CreateBankRequest request = createDefaultCreateBankRequest().toBuilder()
+                .swiftCode("SHORT")
+                .build();
+
+        // When & Then
+        webTestClient.post().uri(BASE_URL)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody().jsonPath("$.message").isEqualTo("SWIFT Code must be exactly 11 characters long.");
+    }
+
+    @Test
+    void deleteBank_givenExistingHeadquarter_whenDelete_thenDeletesBranchesToo() {
+        // Given
+        bankRepository.save(createDefaultBank());
+        bankRepository.save(createDefaultBank().toBuilder().swiftCode(BANK_SWIFTCODE_BRANCH).build());
+
+        // When & Then
+        webTestClient.delete().uri(BASE_URL + "/{swiftCode}", BANK_SWIFTCODE_HQ)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody().jsonPath("$.message").isEqualTo("Bank successfully deleted.");
+        assertEquals(0, bankRepository.count());
+    }
+
+    @Test
+    void deleteBank_givenNonExistentBank_whenDelete_thenReturnsNotFound() {
+        // When & Then
+        webTestClient.delete().uri(BASE_URL + "/{swiftCode}", BANK_SWIFTCODE_HQ)
+            .exchange()
+            .expectStatus().isNotFound()
+            .expectBody().jsonPath("$.message").isEqualTo("Bank with SWIFT Code 'TESTUS33XXX' not found.");
+    }
+
+    @Test
+    void deleteBank_givenNoSwiftCode_whenDelete_thenReturnsMethodNotAllowed() {
+        // When & Then
+        webTestClient.delete().uri(BASE_URL)
+            .exchange()
+            .expectStatus().isEqualTo(405);
+    }
+
+    @Test
+    void getBankAndBranches_givenExistingHeadquarterWithBranch_whenGet_thenReturnsOk() {
+        // Given
+        bankRepository.save(createDefaultBank());
+        bankRepository.save(createDefaultBank().toBuilder()
+                .swiftCode(BANK_SWIFTCODE_BRANCH)
+                .name(BANK_NAME + " Branch")
+                .build());
+
+        // When & Then
+        webTestClient.get().uri(BASE_URL + "/{swiftCode}", BANK_SWIFTCODE_HQ)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.swiftCode").isEqualTo(BANK_SWIFTCODE_HQ)
+            .jsonPath("$.isHeadquarter").isEqualTo(true)
+            .jsonPath("$.branches[0].swiftCode").isEqualTo(BANK_SWIFTCODE_BRANCH)
+            .jsonPath("$.branches[0].countryName").doesNotExist();
+    }
+
+    @Test
+    void getBankAndBranches_givenNonExistentBank_whenGet_thenReturnsNotFound() {
+        // When & Then
+        webTestClient.get().uri(BASE_URL + "/{swiftCode}", BANK_SWIFTCODE_HQ)
+            .exchange()
+            .expectStatus().isNotFound()
+            .expectBody().jsonPath("$.message").isEqualTo("Bank with SWIFT Code 'TESTUS33XXX' not found.");
+    }
+
+    @Test
+    void getBanksByIsoCode_givenExistingBanks_whenGet_thenReturnsOk() {
+        // Given
+        bankRepository.save(createDefaultBank());
+        bankRepository.save(createDefaultBank().toBuilder().swiftCode(BANK_SWIFTCODE_BRANCH).build());
+
+        // When & Then
+        webTestClient.get().uri(BASE_URL + "/country/{countryIso2}", BANK_COUNTRY_CODE)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.countryISO2").isEqualTo(BANK_COUNTRY_CODE)
+            .jsonPath("$.countryName").isEqualTo(BANK_COUNTRY_NAME)
+            .jsonPath("$.swiftCodes.length()").isEqualTo(2);
+    }
+
+    @Test
+    void getBanksByIsoCode_givenInvalidCountryCode_whenGet_thenReturnsNotFound() {
+        // When & Then
+        webTestClient.get().uri(BASE_URL + "/country/{countryIso2}", "XX")
+            .exchange()
+            .expectStatus().isNotFound()
+            .expectBody().jsonPath("$.message").isEqualTo("Country ISO2 code 'XX' does not exist.");
+    }
+}
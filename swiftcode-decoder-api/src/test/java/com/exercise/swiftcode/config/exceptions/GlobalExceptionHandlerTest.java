@@ -6,12 +6,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.Path;
 
@@ -46,6 +51,19 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getStackTrace()).isNull();
     }
 
+    @Test
+    void handleQueryTimeoutException_returnsServiceUnavailableResponse() {
+        // Given
+        QueryTimeoutException ex = new QueryTimeoutException("Lookups did not finish within 2000 ms.");
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleQueryTimeoutException(ex);
+
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(503);
+        assertThat(Objects.requireNonNull(response.getBody()).getMessage()).isEqualTo("The request timed out. Try again later.");
+    }
+
     @Test
     void handleDuplicateSwiftCodeException_returnsConflictResponse() {
         // Given
@@ -61,6 +79,35 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getStackTrace()).isNull();
     }
 
+    @Test
+    void handleDuplicateKeyException_returnsConflictResponse() {
+        // Given
+        DuplicateKeyException ex = new DuplicateKeyException("E11000 duplicate key error collection: banks index: SWIFT CODE_1");
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleDuplicateKeyException(ex);
+
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(409);
+        assertThat(Objects.requireNonNull(response.getBody()).getStatusCode()).isEqualTo(409);
+        assertThat(response.getBody().getMessage()).isEqualTo("SWIFT Code already exists.");
+        assertThat(response.getBody().getStackTrace()).isNull();
+    }
+
+    @Test
+    void handleDuplicateKeyException_onAnotherIndex_returnsGenericConflictResponse() {
+        // Given
+        DuplicateKeyException ex = new DuplicateKeyException(
+                "E11000 duplicate key error collection: banks index: COUNTRY ISO2 CODE_1_SWIFT CODE_1 dup key: { }");
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleDuplicateKeyException(ex);
+
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(409);
+        assertThat(Objects.requireNonNull(response.getBody()).getMessage()).isEqualTo("Bank conflicts with an existing record.");
+    }
+
     @Test
     void handleValidationException_returnsBadRequestResponse() {
         // Given
@@ -167,4 +214,35 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getMessage()).isEqualTo("swiftCode: must not be null");
         assertThat(response.getBody().getStackTrace()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleWebExchangeBindException_returnsBadRequestError() {
+        // Given
+        WebExchangeBindException ex = mock(WebExchangeBindException.class);
+
+        BindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "object");
+        bindingResult.addError(new FieldError("object", "swiftCode", "must not be null"));
+        when(ex.getBindingResult()).thenReturn(bindingResult);
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleWebExchangeBindException(ex);
+
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(Objects.requireNonNull(response.getBody()).getMessage()).isEqualTo("swiftCode: must not be null");
+    }
+
+    @Test
+    void handleResponseStatusException_keepsStatusAndReason() {
+        // Given
+        ResponseStatusException ex = new ResponseStatusException(HttpStatus.METHOD_NOT_ALLOWED, "Request method 'DELETE' is not supported.");
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleResponseStatusException(ex);
+
+        // Then
+        assertThat(response.getStatusCode().value()).isEqualTo(405);
+        assertThat(Objects.requireNonNull(response.getBody()).getStatusCode()).isEqualTo(405);
+        assertThat(response.getBody().getMessage()).isEqualTo("Request method 'DELETE' is not supported.");
+    }
+}
@@ -0,0 +1,98 @@
+package com.exercise.swiftcode.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SwiftCodeTest {
+    @Test
+    void parse_mixedCaseCode_roundTripsToUpperCase() {
+        // When
+        SwiftCode code = SwiftCode.parse("brexPLpw123");
+
+        // Then
+        assertEquals("BREXPLPW123", code.toString());
+        assertEquals(SwiftCode.parse("BREXPLPW123"), code);
+    }
+
+    @Test
+    void accessors_returnEachSegment() {
+        // When
+        SwiftCode code = SwiftCode.parse("BREXPLPW123");
+
+        // Then
+        assertEquals("BREX", code.institution());
+        assertEquals("PL", code.country());
+        assertEquals("PW", code.location());
+        assertEquals("123", code.branch());
+        assertEquals("BREXPLPW", code.prefix());
+        assertFalse(code.isHeadquarter());
+    }
+
+    @Test
+    void headquarter_branchCode_returnsFamilyHeadquarter() {
+        // Given
+        SwiftCode branch = SwiftCode.parse("BREXPLPW123");
+
+        // When
+        SwiftCode headquarter = branch.headquarter();
+
+        // Then
+        assertEquals("BREXPLPWXXX", headquarter.toString());
+        assertTrue(headquarter.isHeadquarter());
+        assertTrue(headquarter.isSameFamily(branch));
+    }
+
+    @Test
+    void family_coversExactlyCodesSharingThePrefix() {
+        // Given
+        SwiftCode code = SwiftCode.parse("BREXPLPW123");
+
+        // Then
+        assertEquals(SwiftCode.pack("BREXPLPW000"), code.familyStart());
+        assertEquals(SwiftCode.pack("BREXPLPWZZZ") + 1, code.familyEnd());
+        assertEquals(SwiftCode.pack("BREXPLPX000"), code.familyEnd());
+        assertFalse(code.isSameFamily(SwiftCode.parse("BREXPLPX000")));
+    }
+
+    @Test
+    void compareTo_matchesLexicographicOrder() {
+        // Given
+        List<String> codes = List.of("0000AA00000", "AAAAAA00000", "AAAAAA0000Z", "ZZZZZZZZZZZ", "BREXPLPW123", "BREXPLPWXXX");
+
+        // When
+        List<String> byValue = codes.stream().map(SwiftCode::parse).sorted().map(SwiftCode::toString).toList();
+
+        // Then
+        assertEquals(codes.stream().sorted().toList(), byValue);
+    }
+
+    @Test
+    void pack_invalidInput_returnsInvalid() {
+        // Then
+        assertEquals(SwiftCode.INVALID, SwiftCode.pack(null));
+        assertEquals(SwiftCode.INVALID, SwiftCode.pack("BREXPLPW12"));
+        assertEquals(SwiftCode.INVALID, SwiftCode.pack("BREXPLPW1234"));
+        assertEquals(SwiftCode.INVALID, SwiftCode.pack("BREX#LPW123"));
+        assertEquals(SwiftCode.INVALID, SwiftCode.pack("BREX@LPW123"));
+        assertEquals(SwiftCode.INVALID, SwiftCode.pack("BREX[LPW123"));
+        assertEquals(SwiftCode.INVALID, SwiftCode.pack("BREXŁLPW123"));
+        assertThrows(IllegalArgumentException.class, () -> SwiftCode.parse("BREX#LPW123"));
+    }
+
+    @Test
+    void pack_largestCode_fitsInPositiveLong() {
+        // When
+        long packed = SwiftCode.pack("ZZZZZZZZZZZ");
+
+        // Then
+        assertTrue(packed > 0);
+        assertTrue(packed < 1L << 57);
+        assertThrows(IllegalArgumentException.class, () -> new SwiftCode(packed + 1));
+    }
+}
@@ -0,0 +1,162 @@
+package com.exercise.swiftcode.loader;
+
+import com.exercise.swiftcode.config.exceptions.ReloadInProgressException;
+import com.exercise.swiftcode.config.exceptions.ReloadValidationException;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.persistence.index.MongoIndexManager;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.RenameCollectionOptions;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BankCollectionReloaderTest {
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BankExcelDataLoader bankExcelDataLoader;
+
+    @Mock
+    private MongoIndexManager mongoIndexManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private MongoCollection<Document> stagingCollection;
+
+    @Mock
+    private MongoCollection<Document> liveCollection;
+
+    @Mock
+    private MongoDatabase database;
+
+    private BankCollectionReloader reloader;
+
+    @BeforeEach
+    void setUp() {
+        reloader = new BankCollectionReloader(mongoTemplate, bankExcelDataLoader, mongoIndexManager, eventPublisher);
+        ReflectionTestUtils.setField(reloader, "minRatio", 0.5);
+        when(mongoTemplate.getCollectionName(Bank.class)).thenReturn("banks");
+        lenient().when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Bank.class, "banks_staging")).thenReturn(bulkOperations);
+        lenient().when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        lenient().when(mongoTemplate.getCollection("banks_staging")).thenReturn(stagingCollection);
+        lenient().when(mongoTemplate.getCollection("banks")).thenReturn(liveCollection);
+        lenient().when(mongoTemplate.collectionExists("banks")).thenReturn(true);
+        lenient().when(mongoTemplate.getDb()).thenReturn(database);
+        lenient().when(database.getName()).thenReturn("bank_database");
+    }
+
+    @Test
+    void reload_stagesIndexesValidatesThenSwapsAndPublishes() throws Exception {
+        // Given
+        readBanks(3);
+        when(stagingCollection.countDocuments()).thenReturn(3L);
+        when(liveCollection.countDocuments()).thenReturn(4L);
+
+        // When
+        BankCollectionReloader.ReloadReport report = reloader.reload();
+
+        // Then
+        assertEquals(3, report.banks());
+        assertEquals(4, report.previousBanks());
+        verify(mongoIndexManager).ensureIndexes(Bank.class, "banks_staging");
+        verify(stagingCollection).renameCollection(any(MongoNamespace.class), any(RenameCollectionOptions.class));
+        verify(eventPublisher).publishEvent(new BankCollectionSwappedEvent("banks", 3));
+        verify(mongoTemplate, times(1)).dropCollection("banks_staging");
+    }
+
+    @Test
+    void reload_belowMinimumRatio_keepsLiveCollectionAndDropsStaging() throws Exception {
+        // Given
+        readBanks(3);
+        when(stagingCollection.countDocuments()).thenReturn(3L);
+        when(liveCollection.countDocuments()).thenReturn(975L);
+
+        // When & Then
+        ReloadValidationException exception = assertThrows(ReloadValidationException.class, () -> reloader.reload());
+        assertEquals("Staged 3 banks against 975 live, below the minimum ratio of 0.5. Keeping the current collection.", exception.getMessage());
+        verify(stagingCollection, never()).renameCollection(any(MongoNamespace.class), any(RenameCollectionOptions.class));
+        verifyNoInteractions(eventPublisher);
+        verify(mongoTemplate, times(2)).dropCollection("banks_staging");
+    }
+
+    @Test
+    void reload_indexBuildFails_reportsValidationFailure() throws Exception {
+        // Given
+        readBanks(2);
+        when(mongoIndexManager.ensureIndexes(Bank.class, "banks_staging"))
+                .thenThrow(new UncategorizedMongoDbException("E11000 duplicate key", null));
+
+        // When & Then
+        assertThrows(ReloadValidationException.class, () -> reloader.reload());
+        verify(stagingCollection, never()).renameCollection(any(MongoNamespace.class), any(RenameCollectionOptions.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void reload_whileRunning_isRejected() throws Exception {
+        // Given
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            reading.countDown();
+            release.await();
+            throw new IllegalStateException("stopped");
+        }).when(bankExcelDataLoader).readBanks(any());
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            try {
+                reloader.reload();
+            } catch (Exception ignored) {
+            }
+        });
+        reading.await();
+
+        // When & Then
+        assertThrows(ReloadInProgressException.class, () -> reloader.reload());
+        release.countDown();
+        first.join();
+    }
+
+    private void readBanks(int count) throws Exception {
+        doAnswer(invocation -> {
+            Consumer<List<Bank>> batchConsumer = invocation.getArgument(0);
+            for (int i = 0; i < count; i++) {
+                batchConsumer.accept(List.of(Bank.builder().swiftCode(String.format("TESTUS33%03d", i)).build()));
+            }
+            return null;
+        }).when(bankExcelDataLoader).readBanks(any());
+    }
+}
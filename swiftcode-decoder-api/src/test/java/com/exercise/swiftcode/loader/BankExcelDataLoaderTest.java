@@ -6,6 +6,7 @@ import ch.qos.logback.core.Appender;
 import com.exercise.swiftcode.persistence.entity.Bank;
 import com.exercise.swiftcode.persistence.repository.BankRepository;
 import org.apache.poi.ss.usermodel.*;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,17 +18,24 @@ import org.mockito.ArgumentCaptor;
 
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
@@ -36,6 +44,8 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.mock;
@@ -57,6 +67,12 @@ public class BankExcelDataLoaderTest {
     @Mock
     private MongoTemplate mongoTemplate;
 
+    @Mock
+    private PipelinedBankImporter pipelinedBankImporter;
+
+    @Mock
+    private DeltaImporter deltaImporter;
+
     @Mock
     private ResourceLoader resourceLoader;
 
@@ -103,6 +119,7 @@ public class BankExcelDataLoaderTest {
     @BeforeEach
     void setUp() {
         bankExcelDataLoader.setResourceLoader(resourceLoader);
+        ReflectionTestUtils.setField(bankExcelDataLoader, "excelLocation", "classpath:data/swift_codes.xlsx");
         Logger logger = (Logger) LoggerFactory.getLogger(BankExcelDataLoader.class);
         logger.addAppender(mockAppender);
 
@@ -162,7 +179,7 @@ public class BankExcelDataLoaderTest {
             doReturn(headerMapping).when(bankExcelDataLoader).createHeaderMapping(eq(headerRow), any(DataFormatter.class));
 
             Bank mockBank = Bank.builder().swiftCode(BANK_SWIFT_CODE).build();
-            doReturn(mockBank).when(bankExcelDataLoader).processRow(eq(dataRow), eq(headerMapping), any(DataFormatter.class));
+            doReturn(mockBank).when(bankExcelDataLoader).processRow(eq(dataRow), any(BankColumns.class), any(DataFormatter.class), any(BankRow.class));
 
             // When
             List<Bank> banks = bankExcelDataLoader.loadBanksFromExcel(resource);
@@ -289,12 +306,11 @@ public class BankExcelDataLoaderTest {
         Cell cell4 = mock(Cell.class);
         Cell cell5 = mock(Cell.class);
 
-        when(dataRow.iterator()).thenReturn(List.of(cell1, cell2, cell3, cell4, cell5).iterator());
-        when(cell1.getColumnIndex()).thenReturn(0);
-        when(cell2.getColumnIndex()).thenReturn(1);
-        when(cell3.getColumnIndex()).thenReturn(2);
-        when(cell4.getColumnIndex()).thenReturn(3);
-        when(cell5.getColumnIndex()).thenReturn(4);
+        when(dataRow.getCell(0)).thenReturn(cell1);
+        when(dataRow.getCell(1)).thenReturn(cell2);
+        when(dataRow.getCell(2)).thenReturn(cell3);
+        when(dataRow.getCell(3)).thenReturn(cell4);
+        when(dataRow.getCell(4)).thenReturn(cell5);
 
         DataFormatter dataFormatter = mock(DataFormatter.class);
         when(dataFormatter.formatCellValue(cell1)).thenReturn(BANK_SWIFT_CODE);
@@ -304,7 +320,7 @@ public class BankExcelDataLoaderTest {
         when(dataFormatter.formatCellValue(cell5)).thenReturn(BANK_COUNTRY_NAME);
 
         // When
-        Bank bank = bankExcelDataLoader.processRow(dataRow, headerMapping, dataFormatter);
+        Bank bank = bankExcelDataLoader.processRow(dataRow, BankColumns.of(headerMapping), dataFormatter, new BankRow());
 
         // Then
         assertNotNull(bank);
@@ -322,16 +338,191 @@ public class BankExcelDataLoaderTest {
         headerMapping.put(0, HEADER_SWIFT_CODE);
 
         Cell cell1 = mock(Cell.class);
-        when(dataRow.iterator()).thenReturn(List.of(cell1).iterator());
-        when(cell1.getColumnIndex()).thenReturn(0);
+        when(dataRow.getCell(0)).thenReturn(cell1);
 
         DataFormatter dataFormatter = mock(DataFormatter.class);
         when(dataFormatter.formatCellValue(cell1)).thenReturn(BANK_SWIFT_CODE);
 
         // When
-        Bank bank = bankExcelDataLoader.processRow(dataRow, headerMapping, dataFormatter);
+        Bank bank = bankExcelDataLoader.processRow(dataRow, BankColumns.of(headerMapping), dataFormatter, new BankRow());
 
         // Then
         assertNull(bank);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testProcessRow_StringCells_SkipDataFormatterAndReuseTarget() {
+        // Given
+        Map<Integer, String> headerMapping = new HashMap<>();
+        headerMapping.put(0, HEADER_NAME);
+        headerMapping.put(2, HEADER_SWIFT_CODE);
+        headerMapping.put(3, HEADER_COUNTRY_ISO2);
+        headerMapping.put(5, HEADER_ADDRESS);
+        headerMapping.put(6, HEADER_COUNTRY_NAME);
+        String[] values = {BANK_NAME, null, " testus33xxx ", "cn", null, BANK_ADDRESS, "country name"};
+        for (int column = 0; column < values.length; column++) {
+            if (values[column] != null) {
+                Cell cell = mock(Cell.class);
+                when(cell.getCellType()).thenReturn(CellType.STRING);
+                when(cell.getStringCellValue()).thenReturn(values[column]);
+                when(dataRow.getCell(column)).thenReturn(cell);
+            }
+        }
+        DataFormatter dataFormatter = mock(DataFormatter.class);
+        BankRow target = new BankRow();
+        target.set(BankColumns.SWIFT_CODE, "STALE");
+
+        // When
+        Bank bank = bankExcelDataLoader.processRow(dataRow, BankColumns.of(headerMapping), dataFormatter, target);
+
+        // Then
+        assertEquals(BANK_SWIFT_CODE, bank.getSwiftCode());
+        assertEquals(BANK_COUNTRY_CODE, bank.getCountryIso2Code());
+        assertEquals(BANK_COUNTRY_NAME, bank.getCountryName());
+        verifyNoInteractions(dataFormatter);
+        verify(dataRow, never()).getCell(1);
+    }
+
+    @Test
+    void testBankColumns_RightmostDuplicateHeaderWinsAndUnknownHeadersIgnored() {
+        // Given
+        Map<Integer, String> headerMapping = Map.of(0, HEADER_NAME, 1, "TOWN NAME", 4, HEADER_NAME);
+
+        // When
+        BankColumns columns = BankColumns.of(headerMapping);
+
+        // Then
+        assertEquals(4, columns.column(BankColumns.NAME));
+        assertEquals(-1, columns.column(BankColumns.SWIFT_CODE));
+        assertEquals(BankColumns.NAME, columns.field(4));
+        assertEquals(-1, columns.field(1));
+        assertEquals(-1, columns.field(99));
+    }
+
+    @Test
+    void testColumnOf_ParsesCellReferenceLetters() {
+        // Then
+        assertEquals(0, BankSheetHandler.columnOf("A1"));
+        assertEquals(25, BankSheetHandler.columnOf("Z1048576"));
+        assertEquals(26, BankSheetHandler.columnOf("AA2"));
+        assertEquals(701, BankSheetHandler.columnOf("ZZ3"));
+    }
+
+    @Test
+    void testStreamBanksFromExcel_MatchesWorkbookLoadInBatches() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(bankExcelDataLoader, "batchSize", 100);
+        ClassPathResource excel = new ClassPathResource("data/swift_codes.xlsx");
+        List<Bank> expected = bankExcelDataLoader.loadBanksFromExcel(excel);
+        List<List<Bank>> batches = new ArrayList<>();
+
+        // When
+        long loaded = bankExcelDataLoader.streamBanksFromExcel(
+                new ByteArrayResource(excel.getContentAsByteArray()), batch -> batches.add(List.copyOf(batch)));
+
+        // Then
+        assertEquals(expected.size(), loaded);
+        assertEquals(expected, batches.stream().flatMap(List::stream).toList());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 100));
+        assertEquals(100, batches.getFirst().size());
+    }
+
+    @Test
+    void testStreamBanksFromExcel_CsvLocation_ReadsJarResourceThroughMappedReader() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(bankExcelDataLoader, "excelLocation", "classpath:data/banks.csv");
+        ReflectionTestUtils.setField(bankExcelDataLoader, "batchSize", 100);
+        String csv = HEADER_SWIFT_CODE + "," + HEADER_COUNTRY_ISO2 + "," + HEADER_NAME + "," + HEADER_ADDRESS + "," + HEADER_COUNTRY_NAME + "\n"
+                + BANK_SWIFT_CODE + "," + BANK_COUNTRY_CODE + "," + BANK_NAME + ",\"" + BANK_ADDRESS + ", 1\"," + BANK_COUNTRY_NAME + "\n";
+        List<Bank> banks = new ArrayList<>();
+
+        // When
+        long loaded = bankExcelDataLoader.streamBanksFromExcel(new ByteArrayResource(csv.getBytes(StandardCharsets.UTF_8)), banks::addAll);
+
+        // Then
+        assertEquals(1, loaded);
+        assertEquals(BANK_SWIFT_CODE, banks.getFirst().getSwiftCode());
+        assertEquals(BANK_ADDRESS + ", 1", banks.getFirst().getAddress());
+    }
+
+    @Test
+    void testRun_CsvLocation_StreamsEvenWithoutStreamingMode() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(bankExcelDataLoader, "excelLocation", "classpath:data/banks.csv");
+        when(resourceLoader.getResource("classpath:data/banks.csv")).thenReturn(resource);
+        when(mongoTemplate.collectionExists("banks")).thenReturn(false);
+        when(pipelinedBankImporter.importBanks(any())).thenReturn(
+                new PipelinedBankImporter.ImportReport(0, 0, 0, Duration.ZERO, new long[0]));
+
+        // When
+        bankExcelDataLoader.run();
+
+        // Then
+        verify(pipelinedBankImporter).importBanks(any());
+        verify(bankExcelDataLoader, never()).loadBanksFromExcel(any());
+    }
+
+    @Test
+    void testRun_Streaming_ImportsThroughPipeline() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(bankExcelDataLoader, "streaming", true);
+        when(mongoTemplate.collectionExists("banks")).thenReturn(false);
+        List<Bank> batch = List.of(Bank.builder().swiftCode(BANK_SWIFT_CODE).build());
+        List<List<Bank>> imported = new ArrayList<>();
+        doAnswer(invocation -> {
+            Consumer<List<Bank>> batchConsumer = invocation.getArgument(1);
+            batchConsumer.accept(batch);
+            return 1L;
+        }).when(bankExcelDataLoader).streamBanksFromExcel(eq(resource), any());
+        when(pipelinedBankImporter.importBanks(any())).thenAnswer(invocation -> {
+            PipelinedBankImporter.BatchSource source = invocation.getArgument(0);
+            long rows = source.produce(imported::add);
+            return new PipelinedBankImporter.ImportReport(rows, rows, 0, Duration.ofMillis(1), new long[]{1});
+        });
+
+        // When
+        bankExcelDataLoader.run();
+
+        // Then
+        assertEquals(List.of(batch), imported);
+        verify(bankExcelDataLoader, never()).loadBanksFromExcel(any());
+        verifyNoInteractions(bankRepository);
+    }
+
+    @Test
+    void testRun_Incremental_AppliesDeltaEvenWhenCollectionExists() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(bankExcelDataLoader, "incremental", true);
+        when(resource.exists()).thenReturn(true);
+        List<Bank> banks = List.of(Bank.builder().swiftCode(BANK_SWIFT_CODE).build());
+        doReturn(banks).when(bankExcelDataLoader).loadBanksFromExcel(resource);
+        List<Bank> imported = new ArrayList<>();
+        when(deltaImporter.importDelta(eq(Bank.class), eq("SWIFT CODE"), any(), any(), any())).thenAnswer(invocation -> {
+            DeltaImporter.RowSource<Bank> source = invocation.getArgument(4);
+            source.produce(imported::addAll);
+            return new DeltaImporter.DeltaReport(1, 0, 0, 0, false);
+        });
+
+        // When
+        bankExcelDataLoader.run();
+
+        // Then
+        assertEquals(banks, imported);
+        verify(mongoTemplate, never()).collectionExists("banks");
+        verifyNoInteractions(bankRepository, pipelinedBankImporter);
+    }
+
+    @Test
+    void testToUpdate_SetsDerivedPrefixAndHeadquarterFlag() {
+        // When
+        Document set = BankExcelDataLoader.toUpdate(Bank.builder()
+                .swiftCode(BANK_SWIFT_CODE).name(BANK_NAME).address(BANK_ADDRESS)
+                .countryIso2Code(BANK_COUNTRY_CODE).countryName(BANK_COUNTRY_NAME).build())
+                .getUpdateObject().get("$set", Document.class);
+
+        // Then
+        assertEquals(BANK_SWIFT_CODE, set.get("swiftCode"));
+        assertEquals("TESTUS33", set.get("swiftCodePrefix"));
+        assertEquals(true, set.get("isHeadquarter"));
+    }
+}
@@ -0,0 +1,196 @@
+package com.exercise.swiftcode.loader;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.mongodb.client.result.DeleteResult;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeltaImporterTest {
+    private static final String KEY_FIELD = "SWIFT CODE";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private BulkWriteResult bulkWriteResult;
+
+    private DeltaImporter deltaImporter;
+
+    @BeforeEach
+    void setUp() {
+        deltaImporter = new DeltaImporter(mongoTemplate);
+        ReflectionTestUtils.setField(deltaImporter, "batchSize", 10);
+        ReflectionTestUtils.setField(deltaImporter, "minRatio", 0.5);
+        when(mongoTemplate.getCollectionName(Bank.class)).thenReturn("banks");
+    }
+
+    @Test
+    void importDelta_upsertsNewAndChangedRows_skipsUnchanged_deletesMissing() throws Exception {
+        // Given
+        Bank unchanged = bank("AAAAPLPWXXX", "Unchanged Bank");
+        Bank changed = bank("BBBBPLPWXXX", "Renamed Bank");
+        Bank added = bank("CCCCPLPWXXX", "New Bank");
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("banks"))).thenReturn(Stream.of(
+                stored("AAAAPLPWXXX", hashOf(unchanged)),
+                stored("BBBBPLPWXXX", hashOf(bank("BBBBPLPWXXX", "Old Bank"))),
+                stored("DDDDPLPWXXX", "stale")));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Bank.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(bulkWriteResult);
+        when(bulkWriteResult.getUpserts()).thenReturn(List.of(new BulkWriteUpsert(1, new BsonString("id"))));
+        when(bulkWriteResult.getMatchedCount()).thenReturn(1);
+        when(mongoTemplate.remove(any(Query.class), eq(Bank.class))).thenReturn(DeleteResult.acknowledged(1));
+
+        // When
+        DeltaImporter.DeltaReport report = deltaImporter.importDelta(Bank.class, KEY_FIELD, Bank::getSwiftCode,
+                DeltaImporterTest::toUpdate, batchConsumer -> batchConsumer.accept(List.of(unchanged, changed, added)));
+
+        // Then
+        assertEquals(new DeltaImporter.DeltaReport(1, 1, 1, 1, false), report);
+        ArgumentCaptor<Query> upserts = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOperations, times(2)).upsert(upserts.capture(), any(Update.class));
+        assertEquals(List.of("BBBBPLPWXXX", "CCCCPLPWXXX"),
+                upserts.getAllValues().stream().map(query -> query.getQueryObject().get(KEY_FIELD)).toList());
+        ArgumentCaptor<Query> removal = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(removal.capture(), eq(Bank.class));
+        assertEquals(new Document(KEY_FIELD, new Document("$in", List.of("DDDDPLPWXXX"))), removal.getValue().getQueryObject());
+    }
+
+    @Test
+    void importDelta_nothingChanged_writesNothing() throws Exception {
+        // Given
+        Bank bank = bank("AAAAPLPWXXX", "Unchanged Bank");
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("banks")))
+                .thenReturn(Stream.of(stored("AAAAPLPWXXX", hashOf(bank))));
+
+        // When
+        DeltaImporter.DeltaReport report = deltaImporter.importDelta(Bank.class, KEY_FIELD, Bank::getSwiftCode,
+                DeltaImporterTest::toUpdate, batchConsumer -> batchConsumer.accept(List.of(bank)));
+
+        // Then
+        assertEquals(new DeltaImporter.DeltaReport(0, 0, 1, 0, false), report);
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(Bank.class));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(Bank.class));
+    }
+
+    @Test
+    void importDelta_emptySource_keepsStoredRows() throws Exception {
+        // Given
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("banks"))).thenReturn(Stream.of(
+                stored("AAAAPLPWXXX", "hash"), stored("BBBBPLPWXXX", "hash")));
+
+        // When
+        DeltaImporter.DeltaReport report = deltaImporter.importDelta(Bank.class, KEY_FIELD, Bank::getSwiftCode,
+                DeltaImporterTest::toUpdate, batchConsumer -> { });
+
+        // Then
+        assertEquals(new DeltaImporter.DeltaReport(0, 0, 0, 0, true), report);
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(Bank.class));
+    }
+
+    @Test
+    void importDelta_everyRowRejected_keepsStoredRows() throws Exception {
+        // Given
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("banks")))
+                .thenReturn(Stream.of(stored("AAAAPLPWXXX", "hash")));
+
+        // When
+        DeltaImporter.DeltaReport report = deltaImporter.importDelta(Bank.class, KEY_FIELD, Bank::getSwiftCode,
+                DeltaImporterTest::toUpdate, batchConsumer -> {
+                    // A header that maps no known column leaves every row without a SWIFT code.
+                    BankSheetHandler handler = new BankSheetHandler(10, batchConsumer);
+                    handler.startRow(0);
+                    handler.cell(0, "CODE");
+                    handler.cell(1, "BANK");
+                    handler.endRow(0);
+                    handler.startRow(1);
+                    handler.cell(0, "AAAAPLPWXXX");
+                    handler.cell(1, "Some Bank");
+                    handler.endRow(1);
+                    handler.flush();
+                });
+
+        // Then
+        assertTrue(report.deletesSkipped());
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(Bank.class));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(Bank.class));
+    }
+
+    @Test
+    void importDelta_fewerRowsThanMinimumRatio_keepsRowsItDidNotProduce() throws Exception {
+        // Given
+        Bank bank = bank("AAAAPLPWXXX", "Unchanged Bank");
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("banks"))).thenReturn(Stream.of(
+                stored("AAAAPLPWXXX", hashOf(bank)), stored("BBBBPLPWXXX", "hash"), stored("CCCCPLPWXXX", "hash")));
+
+        // When
+        DeltaImporter.DeltaReport report = deltaImporter.importDelta(Bank.class, KEY_FIELD, Bank::getSwiftCode,
+                DeltaImporterTest::toUpdate, batchConsumer -> batchConsumer.accept(List.of(bank)));
+
+        // Then
+        assertEquals(new DeltaImporter.DeltaReport(0, 0, 1, 0, true), report);
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(Bank.class));
+    }
+
+    @Test
+    void importDelta_flushesEveryBatchSizeUpserts() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(deltaImporter, "batchSize", 2);
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq("banks"))).thenReturn(Stream.empty());
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Bank.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(bulkWriteResult);
+
+        // When
+        deltaImporter.importDelta(Bank.class, KEY_FIELD, Bank::getSwiftCode, DeltaImporterTest::toUpdate,
+                batchConsumer -> batchConsumer.accept(List.of(
+                        bank("AAAAPLPWXXX", "A"), bank("BBBBPLPWXXX", "B"), bank("CCCCPLPWXXX", "C"))));
+
+        // Then
+        verify(bulkOperations, times(2)).execute();
+    }
+
+    private static Bank bank(String swiftCode, String name) {
+        return Bank.builder().swiftCode(swiftCode).name(name).build();
+    }
+
+    private static Update toUpdate(Bank bank) {
+        return new Update().set("swiftCode", bank.getSwiftCode()).set("name", bank.getName());
+    }
+
+    private static String hashOf(Bank bank) throws Exception {
+        return DeltaImporter.contentHash(MessageDigest.getInstance("SHA-256"), toUpdate(bank));
+    }
+
+    private static Document stored(String swiftCode, String hash) {
+        return new Document(KEY_FIELD, swiftCode).append(DeltaImporter.CONTENT_HASH_FIELD, hash);
+    }
+}
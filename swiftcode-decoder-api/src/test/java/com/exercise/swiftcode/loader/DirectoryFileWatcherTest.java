@@ -0,0 +1,256 @@
+package com.exercise.swiftcode.loader;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.persistence.repository.BankRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DirectoryFileWatcherTest {
+    private static final String CSV = "COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE\n"
+            + "PL,BREXPLPWXXX,BIC11,MBANK,SOME 1,WARSZAWA,POLAND,Europe/Warsaw\n"
+            + "PL,BREXPLPWWAL,BIC11,MBANK,SOME 2,WALBRZYCH,POLAND,Europe/Warsaw\n";
+
+    @Mock
+    private DeltaImporter deltaImporter;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BankRepository bankRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    private Path dir;
+
+    private DirectoryFileWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        watcher = new DirectoryFileWatcher(deltaImporter, mongoTemplate, bankRepository, eventPublisher,
+                dir.toString(), "swift_codes*.{xlsx,csv,ndjson}", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(watcher, "batchSize", 10);
+        ReflectionTestUtils.setField(watcher, "minRatio", 0.5);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        watcher.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void apply_newFile_recordsChecksumAndImportsDelta() throws Exception {
+        // Given
+        Path file = Files.writeString(dir.resolve("swift_codes_2025.csv"), CSV, StandardCharsets.UTF_8);
+        when(bankRepository.count()).thenReturn(3L);
+        List<Bank> read = new ArrayList<>();
+        when(deltaImporter.importDelta(eq(Bank.class), eq("SWIFT CODE"), any(), any(), any())).thenAnswer(invocation -> {
+            DeltaImporter.RowSource<Bank> source = invocation.getArgument(4);
+            source.produce((Consumer<List<Bank>>) read::addAll);
+            return new DeltaImporter.DeltaReport(1, 0, 1, 1, false);
+        });
+
+        // When
+        boolean applied = watcher.apply(file);
+
+        // Then
+        assertTrue(applied);
+        assertEquals(2, read.size());
+        ArgumentCaptor<Document> history = ArgumentCaptor.forClass(Document.class);
+        verify(mongoTemplate).insert(history.capture(), eq(DirectoryFileWatcher.HISTORY_COLLECTION));
+        assertEquals(DirectoryFileWatcher.checksum(file), history.getValue().getString("_id"));
+        assertEquals("swift_codes_2025.csv", history.getValue().getString("FILE NAME"));
+        verify(eventPublisher).publishEvent(new BankImportCompletedEvent("swift_codes_2025.csv", 2));
+    }
+
+    @Test
+    void apply_checksumAlreadyRecorded_skipsImport() throws Exception {
+        // Given
+        Path file = Files.writeString(dir.resolve("swift_codes.csv"), CSV, StandardCharsets.UTF_8);
+        when(mongoTemplate.insert(any(Document.class), eq(DirectoryFileWatcher.HISTORY_COLLECTION)))
+                .thenThrow(new DuplicateKeyException("duplicate"));
+
+        // When
+        boolean applied = watcher.apply(file);
+
+        // Then
+        assertFalse(applied);
+        verify(deltaImporter, never()).importDelta(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void apply_fileFarSmallerThanCollection_releasesChecksumWithoutImporting() throws Exception {
+        // Given
+        Path file = Files.writeString(dir.resolve("swift_codes.csv"), CSV, StandardCharsets.UTF_8);
+        when(bankRepository.count()).thenReturn(1000L);
+
+        // When
+        boolean applied = watcher.apply(file);
+
+        // Then
+        assertFalse(applied);
+        verify(deltaImporter, never()).importDelta(any(), any(), any(), any(), any());
+        verify(mongoTemplate).remove(any(Query.class), eq(DirectoryFileWatcher.HISTORY_COLLECTION));
+    }
+
+    @Test
+    void apply_xlsxWithoutDimension_releasesChecksumWithoutImporting() throws Exception {
+        // Given
+        Path file = xlsxWithoutDimension(dir.resolve("swift_codes.xlsx"));
+        when(bankRepository.count()).thenReturn(2L);
+
+        // When
+        boolean applied = watcher.apply(file);
+
+        // Then
+        assertFalse(applied);
+        verify(deltaImporter, never()).importDelta(any(), any(), any(), any(), any());
+        verify(mongoTemplate).remove(any(Query.class), eq(DirectoryFileWatcher.HISTORY_COLLECTION));
+    }
+
+    @Test
+    void apply_importFails_releasesChecksumSoFileCanBeRetried() throws Exception {
+        // Given
+        Path file = Files.writeString(dir.resolve("swift_codes.csv"), CSV, StandardCharsets.UTF_8);
+        when(bankRepository.count()).thenReturn(0L);
+        doThrow(new DataAccessResourceFailureException("down"))
+                .when(deltaImporter).importDelta(any(), any(), any(), any(), any());
+
+        // When & Then
+        assertThrows(DataAccessResourceFailureException.class, () -> watcher.apply(file));
+        verify(mongoTemplate).remove(any(Query.class), eq(DirectoryFileWatcher.HISTORY_COLLECTION));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void fileChanged_burstOfEvents_importsOnceAfterDebounce() throws Exception {
+        // Given
+        Path file = Files.writeString(dir.resolve("swift_codes.csv"), CSV, StandardCharsets.UTF_8);
+        Path other = Files.writeString(dir.resolve("notes.csv"), CSV, StandardCharsets.UTF_8);
+        when(bankRepository.count()).thenReturn(0L);
+        when(deltaImporter.importDelta(any(), any(), any(), any(), any()))
+                .thenReturn(new DeltaImporter.DeltaReport(0, 0, 2, 0, false));
+
+        // When
+        watcher.fileChanged(file);
+        watcher.fileChanged(other);
+        watcher.fileChanged(file);
+        watcher.fileChanged(file);
+
+        // Then
+        verify(deltaImporter, timeout(2000).times(1)).importDelta(any(), any(), any(), any(), any());
+        Thread.sleep(300);
+        verify(deltaImporter, times(1)).importDelta(any(), any(), any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fileChanged_supersededWhileFiring_leavesNewerImportPendingAndSkips() throws Exception {
+        // Given
+        Path file = Files.writeString(dir.resolve("swift_codes.csv"), CSV, StandardCharsets.UTF_8);
+        Map<Path, ScheduledFuture<?>> pending = (Map<Path, ScheduledFuture<?>>) ReflectionTestUtils.getField(watcher, "pending");
+        ScheduledFuture<?> newer = mock(ScheduledFuture.class);
+
+        // When
+        watcher.fileChanged(file);
+        pending.put(file, newer);
+        Thread.sleep(300);
+
+        // Then
+        assertSame(newer, pending.get(file));
+        verify(deltaImporter, never()).importDelta(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void start_fileDroppedIntoDirectory_isImported() throws Exception {
+        // Given
+        when(bankRepository.count()).thenReturn(0L);
+        when(deltaImporter.importDelta(any(), any(), any(), any(), any()))
+                .thenReturn(new DeltaImporter.DeltaReport(2, 0, 0, 0, false));
+        watcher.start();
+
+        // When
+        Files.writeString(dir.resolve("swift_codes.ndjson"),
+                "{\"SWIFT CODE\": \"BREXPLPWXXX\", \"COUNTRY ISO2 CODE\": \"PL\", \"NAME\": \"MBANK\", \"ADDRESS\": \"SOME 1\", \"COUNTRY NAME\": \"POLAND\"}\n");
+
+        // Then
+        verify(eventPublisher, timeout(5000)).publishEvent(new BankImportCompletedEvent("swift_codes.ndjson", 2));
+    }
+
+    // The smallest workbook XSSFReader opens, with a sheet that has no <dimension> element.
+    private static Path xlsxWithoutDimension(Path file) throws Exception {
+        String relationships = "http://schemas.openxmlformats.org/package/2006/relationships";
+        String officeDocument = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+        String spreadsheet = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+        Map<String, String> parts = new LinkedHashMap<>();
+        parts.put("[Content_Types].xml", "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+                + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+                + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+                + "<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>"
+                + "<Override PartName=\"/xl/worksheets/sheet1.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>"
+                + "</Types>");
+        parts.put("_rels/.rels", "<Relationships xmlns=\"" + relationships + "\">"
+                + "<Relationship Id=\"rId1\" Type=\"" + officeDocument + "/officeDocument\" Target=\"xl/workbook.xml\"/>"
+                + "</Relationships>");
+        parts.put("xl/workbook.xml", "<workbook xmlns=\"" + spreadsheet + "\" xmlns:r=\"" + officeDocument + "\">"
+                + "<sheets><sheet name=\"Sheet1\" sheetId=\"1\" r:id=\"rId1\"/></sheets></workbook>");
+        parts.put("xl/_rels/workbook.xml.rels", "<Relationships xmlns=\"" + relationships + "\">"
+                + "<Relationship Id=\"rId1\" Type=\"" + officeDocument + "/worksheet\" Target=\"worksheets/sheet1.xml\"/>"
+                + "</Relationships>");
+        parts.put("xl/worksheets/sheet1.xml", "<worksheet xmlns=\"" + spreadsheet + "\"><sheetData/></worksheet>");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            for (Map.Entry<String, String> part : parts.entrySet()) {
+                zip.putNextEntry(new ZipEntry(part.getKey()));
+                zip.write(part.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return file;
+    }
+}
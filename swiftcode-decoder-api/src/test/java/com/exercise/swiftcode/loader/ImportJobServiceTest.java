@@ -0,0 +1,138 @@
+package com.exercise.swiftcode.loader;
+
+import com.exercise.swiftcode.config.exceptions.ImportQueueFullException;
+import com.exercise.swiftcode.config.exceptions.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportJobServiceTest {
+    private static final String CSV = "COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE\n"
+            + "PL,BREXPLPWXXX,BIC11,MBANK,SOME 1,WARSZAWA,POLAND,Europe/Warsaw\n"
+            + "PL,BREXPLPWWAL,BIC11,MBANK,SOME 2,WALBRZYCH,POLAND,Europe/Warsaw\n"
+            + "PL,,BIC11,MBANK,SOME 3,WARSZAWA,POLAND,Europe/Warsaw\n";
+
+    @Mock
+    private PipelinedBankImporter pipelinedBankImporter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ImportJobService importJobService;
+
+    @BeforeEach
+    void setUp() {
+        importJobService = new ImportJobService(pipelinedBankImporter, eventPublisher, 1, 1, 10);
+        ReflectionTestUtils.setField(importJobService, "batchSize", 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        importJobService.close();
+    }
+
+    @Test
+    void run_csvFile_reportsProgressAndPublishesCompletion() throws Exception {
+        // Given
+        Path file = Files.writeString(Files.createTempFile("bank-import-", ".csv"), CSV, StandardCharsets.UTF_8);
+        ImportJob job = new ImportJob(UUID.randomUUID(), "banks.csv", ImportFormat.CSV);
+        when(pipelinedBankImporter.importBanks(any(), any())).thenAnswer(invocation -> {
+            PipelinedBankImporter.BatchSource source = invocation.getArgument(0);
+            PipelinedBankImporter.WriteListener listener = invocation.getArgument(1);
+            long rows = source.produce(batch -> listener.batchWritten(batch.size() - 1, 1));
+            return new PipelinedBankImporter.ImportReport(rows, rows - 1, 1, Duration.ZERO, new long[1]);
+        });
+
+        // When
+        importJobService.run(job, file);
+
+        // Then
+        assertEquals(ImportJob.State.SUCCEEDED, job.getState());
+        assertEquals(3, job.getExpectedRows().getAsLong());
+        assertEquals(2, job.getRowsParsed());
+        assertEquals(1, job.getRowsWritten());
+        assertEquals(1, job.getRowsRejected());
+        assertEquals(1, job.getRowsInvalid());
+        verify(eventPublisher).publishEvent(new BankImportCompletedEvent("banks.csv", 1));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void run_writerFailure_marksJobFailed() throws Exception {
+        // Given
+        Path file = Files.writeString(Files.createTempFile("bank-import-", ".csv"), CSV, StandardCharsets.UTF_8);
+        ImportJob job = new ImportJob(UUID.randomUUID(), "banks.csv", ImportFormat.CSV);
+        when(pipelinedBankImporter.importBanks(any(), any())).thenThrow(new DataAccessResourceFailureException("MongoDB down"));
+
+        // When
+        importJobService.run(job, file);
+
+        // Then
+        assertEquals(ImportJob.State.FAILED, job.getState());
+        assertEquals("MongoDB down", job.getError());
+        assertTrue(job.isFinished());
+        InOrder inOrder = inOrder(eventPublisher);
+        inOrder.verify(eventPublisher).publishEvent(new BankImportStartedEvent("banks.csv"));
+        inOrder.verify(eventPublisher).publishEvent(new BankImportCompletedEvent("banks.csv", 0));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void submit_unsupportedExtension_throwsValidationException() {
+        // When & Then
+        assertThrows(ValidationException.class,
+                () -> importJobService.submit("banks.txt", new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    void submit_poolAndQueueFull_throwsImportQueueFullException() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(pipelinedBankImporter.importBanks(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return new PipelinedBankImporter.ImportReport(0, 0, 0, Duration.ZERO, new long[0]);
+        });
+        ImportJob running = importJobService.submit("a.csv", csv());
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        ImportJob queued = importJobService.submit("b.csv", csv());
+
+        // When & Then
+        assertThrows(ImportQueueFullException.class, () -> importJobService.submit("c.csv", csv()));
+        release.countDown();
+        assertTrue(importJobService.find(running.getId()).isPresent());
+        assertTrue(importJobService.find(queued.getId()).isPresent());
+    }
+
+    private static InputStream csv() {
+        return new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,188 @@
+package com.exercise.swiftcode.loader;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedBankFileReaderTest {
+    private static final String HEADER = "COUNTRY ISO2 CODE,SWIFT CODE,CODE TYPE,NAME,ADDRESS,TOWN NAME,COUNTRY NAME,TIME ZONE\r\n";
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void readCsv_quotedFields_keepCommasQuotesAndLineBreaks() throws Exception {
+        // Given
+        Path file = write("banks.csv", "\uFEFF" + HEADER
+                + "PL,BREXPLPWXXX,BIC11,\"MBANK, S.A.\",\"UL. \"\"PROSTA\"\" 18\r\nWARSZAWA\",WARSZAWA,POLAND,Europe/Warsaw\r\n"
+                + "\r\n"
+                + "pl,brexplpwwal,BIC11,MBANK ŁÓDŹ,SOME 1,WALBRZYCH,POLAND,Europe/Warsaw");
+
+        // When
+        List<Bank> banks = readCsv(file, MappedBankFileReader.WINDOW_SIZE);
+
+        // Then
+        assertEquals(2, banks.size());
+        assertEquals("BREXPLPWXXX", banks.get(0).getSwiftCode());
+        assertEquals("MBANK, S.A.", banks.get(0).getName());
+        assertEquals("UL. \"PROSTA\" 18\r\nWARSZAWA", banks.get(0).getAddress());
+        assertEquals("BREXPLPWWAL", banks.get(1).getSwiftCode());
+        assertEquals("MBANK ŁÓDŹ", banks.get(1).getName());
+        assertEquals("PL", banks.get(1).getCountryIso2Code());
+    }
+
+    @Test
+    void readCsv_exportOfBundledWorkbook_mapsSameBanksAsExcel() throws Exception {
+        // Given
+        StringBuilder csv = new StringBuilder();
+        List<Bank> fromExcel = new ArrayList<>();
+        DataFormatter formatter = new DataFormatter();
+        try (InputStream in = new ClassPathResource("data/swift_codes.xlsx").getInputStream();
+             Workbook workbook = WorkbookFactory.create(in)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            BankSheetHandler handler = new BankSheetHandler(100, fromExcel::addAll);
+            for (Row row : sheet) {
+                handler.startRow(row.getRowNum());
+                List<String> fields = new ArrayList<>();
+                for (int c = 0; c < row.getLastCellNum(); c++) {
+                    String value = formatter.formatCellValue(row.getCell(c));
+                    handler.cell(c, value);
+                    fields.add("\"" + value.replace("\"", "\"\"") + "\"");
+                }
+                handler.endRow(row.getRowNum());
+                csv.append(String.join(",", fields)).append("\r\n");
+            }
+            handler.flush();
+        }
+        Path file = write("banks.csv", csv.toString());
+
+        // When
+        List<Bank> fromCsv = readCsv(file, MappedBankFileReader.WINDOW_SIZE);
+        // Windows far smaller than the file force a remap in the middle of many records.
+        List<Bank> fromSmallWindows = readCsv(file, 4096);
+
+        // Then
+        assertEquals(fromExcel.size(), fromCsv.size());
+        assertEquals(fromExcel, fromCsv);
+        assertEquals(fromExcel, fromSmallWindows);
+    }
+
+    @Test
+    void readCsv_recordLongerThanWindow_throwsIOException() throws Exception {
+        // Given
+        Path file = write("banks.csv", HEADER + "PL,BREXPLPWXXX,BIC11,MBANK," + "A".repeat(200) + ",WARSZAWA,POLAND,Europe/Warsaw\r\n");
+
+        // When & Then
+        IOException exception = assertThrows(IOException.class, () -> readCsv(file, 128));
+        assertTrue(exception.getMessage().contains("longer than 128 bytes"));
+    }
+
+    @Test
+    void readNdjson_mapsHeaderNamedKeys_skipsOtherKeysAndNulls() throws Exception {
+        // Given
+        Path file = write("banks.ndjson", """
+                {"COUNTRY ISO2 CODE": "PL", "SWIFT CODE": "BREXPLPWXXX", "CODE TYPE": "BIC11", "NAME": "MBANK \\"S.A.\\"", "ADDRESS": "UL. PROSTA 18\\nWARSZAWA", "COUNTRY NAME": "POLAND", "TAGS": ["a", {"b": "}"}]}
+
+                {"swift code":"BREXPLPWWAL","country iso2 code":"pl","name":"\\u0141\\u00d3D\\u0179 \\ud83c\\udfe6","address":"SOME 1","country name":"POLAND"}
+                {"SWIFT CODE": "BREXPLPWKRK", "COUNTRY ISO2 CODE": "PL", "NAME": null, "ADDRESS": 12, "COUNTRY NAME": "POLAND"}
+                """);
+        List<Bank> banks = new ArrayList<>();
+        BankSheetHandler handler = new BankSheetHandler(100, banks::addAll);
+
+        // When
+        MappedBankFileReader.readNdjson(file, handler);
+        handler.flush();
+
+        // Then
+        assertEquals(2, banks.size());
+        assertEquals("BREXPLPWXXX", banks.get(0).getSwiftCode());
+        assertEquals("MBANK \"S.A.\"", banks.get(0).getName());
+        assertEquals("UL. PROSTA 18\nWARSZAWA", banks.get(0).getAddress());
+        assertEquals("BREXPLPWWAL", banks.get(1).getSwiftCode());
+        assertEquals("ŁÓDŹ 🏦", banks.get(1).getName());
+        assertEquals(1, handler.getRejected());
+    }
+
+    @Test
+    void readNdjson_nestedValueOnBankField_rejectsRow() throws Exception {
+        // Given
+        Path file = write("banks.ndjson", """
+                {"SWIFT CODE": "BREXPLPWXXX", "COUNTRY ISO2 CODE": "PL", "NAME": {"short": "MBANK"}, "ADDRESS": "SOME 1", "COUNTRY NAME": "POLAND"}
+                {"SWIFT CODE": "BREXPLPWWAL", "COUNTRY ISO2 CODE": "PL", "NAME": "MBANK", "ADDRESS": ["SOME 1"], "COUNTRY NAME": "POLAND"}
+                {"SWIFT CODE": "BREXPLPWKRK", "COUNTRY ISO2 CODE": "PL", "NAME": "MBANK", "ADDRESS": "SOME 1", "COUNTRY NAME": "POLAND"}
+                """);
+        List<Bank> banks = new ArrayList<>();
+        BankSheetHandler handler = new BankSheetHandler(100, banks::addAll);
+
+        // When
+        MappedBankFileReader.readNdjson(file, handler);
+        handler.flush();
+
+        // Then
+        assertEquals(List.of("BREXPLPWKRK"), banks.stream().map(Bank::getSwiftCode).toList());
+        assertEquals(2, handler.getRejected());
+    }
+
+    @Test
+    void readNdjson_malformedLine_throwsIOExceptionWithLineNumber() throws Exception {
+        // Given
+        Path file = write("banks.ndjson", "{\"SWIFT CODE\": \"BREXPLPWXXX\"}\n{\"SWIFT CODE\": \"BREXPLPW\n");
+
+        // When & Then
+        IOException exception = assertThrows(IOException.class,
+                () -> MappedBankFileReader.readNdjson(file, new BankSheetHandler(100, batch -> { })));
+        assertEquals("Malformed NDJSON at line 2: unterminated string.", exception.getMessage());
+    }
+
+    @Test
+    void expectedRows_countsLinesBelowCsvHeaderAndEveryNdjsonLine() throws Exception {
+        // Given
+        Path withTrailingNewline = write("a.csv", HEADER + "a\r\nb\r\n");
+        Path withoutTrailingNewline = write("b.csv", HEADER + "a\r\nb");
+        Path ndjson = write("c.ndjson", "{}\n{}\n");
+
+        // When & Then
+        assertEquals(OptionalLong.of(2), ImportFormat.CSV.expectedRows(withTrailingNewline));
+        assertEquals(OptionalLong.of(2), ImportFormat.CSV.expectedRows(withoutTrailingNewline));
+        assertEquals(OptionalLong.of(2), ImportFormat.NDJSON.expectedRows(ndjson));
+    }
+
+    @Test
+    void dataRows_readsLastRowOfDimension() {
+        // When & Then
+        assertEquals(OptionalLong.of(1061), ImportFormat.dataRows("A1:H1062"));
+        assertEquals(OptionalLong.of(0), ImportFormat.dataRows("A1"));
+        assertEquals(OptionalLong.empty(), ImportFormat.dataRows(null));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    private static List<Bank> readCsv(Path file, int windowSize) throws IOException {
+        List<Bank> banks = new ArrayList<>();
+        BankSheetHandler handler = new BankSheetHandler(100, banks::addAll);
+        MappedBankFileReader.readCsv(file, handler, windowSize);
+        handler.flush();
+        return banks;
+    }
+}
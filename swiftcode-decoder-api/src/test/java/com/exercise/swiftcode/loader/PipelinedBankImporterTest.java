@@ -0,0 +1,135 @@
+package com.exercise.swiftcode.loader;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PipelinedBankImporterTest {
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private BulkWriteResult bulkWriteResult;
+
+    private PipelinedBankImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        importer = new PipelinedBankImporter(mongoTemplate, 2, 1);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Bank.class)).thenReturn(bulkOperations);
+    }
+
+    @Test
+    void importBanks_writesEveryBatchAsUnorderedBulkInsert() throws Exception {
+        // Given
+        when(bulkOperations.execute()).thenReturn(bulkWriteResult);
+        when(bulkWriteResult.getInsertedCount()).thenReturn(2);
+
+        // When
+        PipelinedBankImporter.ImportReport report = importer.importBanks(batchConsumer -> {
+            for (int i = 0; i < 5; i++) {
+                batchConsumer.accept(batch(2));
+            }
+            return 10;
+        });
+
+        // Then
+        assertEquals(10, report.rows());
+        assertEquals(10, report.inserted());
+        assertEquals(0, report.rejected());
+        assertEquals(5, report.batches());
+        verify(bulkOperations, times(5)).insert(anyList());
+    }
+
+    @Test
+    void importBanks_rejectedDocumentsAreCountedAndRestOfBatchKept() throws Exception {
+        // Given
+        BulkOperationException duplicate = mock(BulkOperationException.class);
+        when(duplicate.getResult()).thenReturn(bulkWriteResult);
+        when(duplicate.getErrors()).thenReturn(List.of(new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 1)));
+        when(bulkWriteResult.getInsertedCount()).thenReturn(2);
+        when(bulkOperations.execute()).thenThrow(duplicate);
+
+        // When
+        PipelinedBankImporter.ImportReport report = importer.importBanks(batchConsumer -> {
+            batchConsumer.accept(batch(3));
+            return 3;
+        });
+
+        // Then
+        assertEquals(2, report.inserted());
+        assertEquals(1, report.rejected());
+    }
+
+    @Test
+    void importBanks_reportsEveryWrittenBatchToListener() throws Exception {
+        // Given
+        when(bulkOperations.execute()).thenReturn(bulkWriteResult);
+        when(bulkWriteResult.getInsertedCount()).thenReturn(2);
+        List<Long> inserted = new ArrayList<>();
+
+        // When
+        importer.importBanks(batchConsumer -> {
+            batchConsumer.accept(batch(2));
+            batchConsumer.accept(batch(2));
+            return 4;
+        }, (batchInserted, batchRejected) -> inserted.add(batchInserted));
+
+        // Then
+        assertEquals(List.of(2L, 2L), inserted);
+    }
+
+    @Test
+    void importBanks_writerFailure_stopsProducerAndPropagates() {
+        // Given
+        when(bulkOperations.execute()).thenThrow(new DataAccessResourceFailureException("MongoDB down"));
+        List<List<Bank>> produced = new ArrayList<>();
+
+        // When & Then
+        DataAccessResourceFailureException exception = assertThrows(DataAccessResourceFailureException.class,
+                () -> importer.importBanks(batchConsumer -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        List<Bank> batch = batch(1);
+                        batchConsumer.accept(batch);
+                        produced.add(batch);
+                    }
+                    return 1_000;
+                }));
+        assertEquals("MongoDB down", exception.getMessage());
+        assertTrue(produced.size() < 1_000);
+    }
+
+    private static List<Bank> batch(int size) {
+        List<Bank> banks = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            banks.add(Bank.builder().swiftCode(String.format("TESTUS33%03d", i)).build());
+        }
+        return banks;
+    }
+}
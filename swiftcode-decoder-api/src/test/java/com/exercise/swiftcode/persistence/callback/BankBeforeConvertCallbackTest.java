@@ -0,0 +1,59 @@
+package com.exercise.swiftcode.persistence.callback;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BankBeforeConvertCallbackTest {
+    private BankBeforeConvertCallback callback;
+
+    private static final String BANK_SWIFTCODE_HQ = "TESTUS33XXX";
+    private static final String BANK_SWIFTCODE_BRANCH = "TESTUS33ABC";
+    private static final String BANK_SWIFTCODE_PREFIX = "TESTUS33";
+
+    @BeforeEach
+    void setUp() {
+        callback = new BankBeforeConvertCallback();
+    }
+
+    @Test
+    void onBeforeConvert_whenHeadquarter_setsPrefixAndHeadquarterFlag() {
+        // Given
+        Bank bank = Bank.builder().swiftCode(BANK_SWIFTCODE_HQ).name("Bank Name").build();
+
+        // When
+        Bank converted = callback.onBeforeConvert(bank, "banks");
+
+        // Then
+        assertThat(converted.getSwiftCodePrefix()).isEqualTo(BANK_SWIFTCODE_PREFIX);
+        assertThat(converted.getIsHeadquarter()).isTrue();
+        assertThat(converted.getName()).isEqualTo("Bank Name");
+    }
+
+    @Test
+    void onBeforeConvert_whenBranch_setsPrefixAndClearsHeadquarterFlag() {
+        // Given
+        Bank bank = Bank.builder().swiftCode(BANK_SWIFTCODE_BRANCH).isHeadquarter(true).build();
+
+        // When
+        Bank converted = callback.onBeforeConvert(bank, "banks");
+
+        // Then
+        assertThat(converted.getSwiftCodePrefix()).isEqualTo(BANK_SWIFTCODE_PREFIX);
+        assertThat(converted.getIsHeadquarter()).isFalse();
+    }
+
+    @Test
+    void onBeforeConvert_whenSwiftCodeMissing_returnsBankUnchanged() {
+        // Given
+        Bank bank = Bank.builder().name("Bank Name").build();
+
+        // When
+        Bank converted = callback.onBeforeConvert(bank, "banks");
+
+        // Then
+        assertThat(converted).isSameAs(bank);
+    }
+}
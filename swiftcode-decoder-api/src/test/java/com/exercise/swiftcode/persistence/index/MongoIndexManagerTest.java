@@ -0,0 +1,158 @@
+package com.exercise.swiftcode.persistence.index;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.persistence.entity.CountryCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MongoIndexManagerTest {
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations bankIndexOps;
+
+    @Mock
+    private IndexOperations countryIndexOps;
+
+    private MongoIndexManager mongoIndexManager;
+
+    private static final IndexInfo ID_INDEX = new IndexInfo(
+            List.of(IndexField.create("_id", Sort.Direction.ASC)), "_id_", false, false, null);
+    private static final IndexInfo SWIFT_CODE_INDEX = new IndexInfo(
+            List.of(IndexField.create("SWIFT CODE", Sort.Direction.ASC)), "SWIFT CODE_1", true, false, null);
+    private static final IndexInfo BANK_COUNTRY_INDEX = new IndexInfo(
+            List.of(IndexField.create("COUNTRY ISO2 CODE", Sort.Direction.ASC), IndexField.create("SWIFT CODE", Sort.Direction.ASC)),
+            "COUNTRY ISO2 CODE_1_SWIFT CODE_1", false, false, null);
+    private static final IndexInfo PREFIX_HEADQUARTER_INDEX = new IndexInfo(
+            List.of(IndexField.create("SWIFT CODE PREFIX", Sort.Direction.ASC), IndexField.create("IS HEADQUARTER", Sort.Direction.ASC)),
+            "SWIFT CODE PREFIX_1_IS HEADQUARTER_1", false, false, null);
+    private static final IndexInfo COUNTRY_CODE_INDEX = new IndexInfo(
+            List.of(IndexField.create("COUNTRYISO2CODE", Sort.Direction.ASC)), "COUNTRYISO2CODE_1", true, false, null);
+
+    @BeforeEach
+    void setUp() {
+        mongoIndexManager = new MongoIndexManager(mongoTemplate, new MongoMappingContext());
+        lenient().when(mongoTemplate.indexOps(Bank.class)).thenReturn(bankIndexOps);
+        lenient().when(mongoTemplate.indexOps(CountryCode.class)).thenReturn(countryIndexOps);
+        lenient().when(mongoTemplate.getCollectionName(Bank.class)).thenReturn("banks");
+        lenient().when(mongoTemplate.getCollectionName(CountryCode.class)).thenReturn("country_codes");
+    }
+
+    @Test
+    void verify_whenAllIndexesExist_reportsComplete() {
+        // Given
+        when(bankIndexOps.getIndexInfo()).thenReturn(List.of(ID_INDEX, SWIFT_CODE_INDEX, BANK_COUNTRY_INDEX, PREFIX_HEADQUARTER_INDEX));
+        when(countryIndexOps.getIndexInfo()).thenReturn(List.of(ID_INDEX, COUNTRY_CODE_INDEX));
+
+        // When
+        IndexVerificationReport report = mongoIndexManager.verify();
+
+        // Then
+        assertTrue(report.isComplete());
+        assertFalse(report.hasDrift());
+    }
+
+    @Test
+    void verify_whenIndexesMissing_reportsMissingPerCollection() {
+        // Given
+        when(bankIndexOps.getIndexInfo()).thenReturn(List.of(ID_INDEX, BANK_COUNTRY_INDEX, PREFIX_HEADQUARTER_INDEX));
+        when(countryIndexOps.getIndexInfo()).thenReturn(List.of(ID_INDEX));
+
+        // When
+        IndexVerificationReport report = mongoIndexManager.verify();
+
+        // Then
+        assertFalse(report.isComplete());
+        assertEquals(List.of("{SWIFT CODE: 1} unique"), report.missing().get("banks"));
+        assertEquals(List.of("{COUNTRYISO2CODE: 1} unique"), report.missing().get("country_codes"));
+    }
+
+    @Test
+    void verify_whenIndexLostUniqueness_reportsMissingAndUnexpected() {
+        // Given
+        IndexInfo nonUniqueSwiftCode = new IndexInfo(
+                List.of(IndexField.create("SWIFT CODE", Sort.Direction.ASC)), "SWIFT CODE_1", false, false, null);
+        when(bankIndexOps.getIndexInfo()).thenReturn(List.of(ID_INDEX, nonUniqueSwiftCode, BANK_COUNTRY_INDEX, PREFIX_HEADQUARTER_INDEX));
+        when(countryIndexOps.getIndexInfo()).thenReturn(List.of(ID_INDEX, COUNTRY_CODE_INDEX));
+
+        // When
+        IndexVerificationReport report = mongoIndexManager.verify();
+
+        // Then
+        assertFalse(report.isComplete());
+        assertEquals(List.of("{SWIFT CODE: 1} unique"), report.missing().get("banks"));
+        assertEquals(List.of("{SWIFT CODE: 1}"), report.unexpected().get("banks"));
+    }
+
+    @Test
+    void ensureIndexes_createsEveryResolvedIndex() {
+        // Given
+        when(bankIndexOps.getIndexInfo()).thenReturn(List.of(ID_INDEX, SWIFT_CODE_INDEX, BANK_COUNTRY_INDEX, PREFIX_HEADQUARTER_INDEX));
+        when(countryIndexOps.getIndexInfo()).thenReturn(List.of(ID_INDEX, COUNTRY_CODE_INDEX));
+
+        // When
+        mongoIndexManager.ensureIndexes();
+
+        // Then
+        verify(bankIndexOps, times(3)).ensureIndex(any(IndexDefinition.class));
+        verify(countryIndexOps, times(1)).ensureIndex(any(IndexDefinition.class));
+    }
+
+    @Test
+    void ensureIndexes_whenCreationFails_continuesAndReportsMissing() {
+        // Given
+        when(bankIndexOps.ensureIndex(any(IndexDefinition.class)))
+                .thenThrow(new UncategorizedMongoDbException("E11000 duplicate key", null));
+        when(bankIndexOps.getIndexInfo()).thenReturn(List.of(ID_INDEX));
+        when(countryIndexOps.getIndexInfo()).thenReturn(List.of(ID_INDEX, COUNTRY_CODE_INDEX));
+
+        // When
+        mongoIndexManager.ensureIndexes();
+
+        // Then
+        verify(countryIndexOps).ensureIndex(any(IndexDefinition.class));
+        assertEquals(3, mongoIndexManager.verify().missing().get("banks").size());
+    }
+
+    @Test
+    void ensureIndexesOnCollection_createsIndexesOnNamedCollectionAndThrowsOnFailure() {
+        // Given
+        IndexOperations stagingIndexOps = mock(IndexOperations.class);
+        when(mongoTemplate.indexOps("banks_staging", Bank.class)).thenReturn(stagingIndexOps);
+        when(stagingIndexOps.ensureIndex(any(IndexDefinition.class)))
+                .thenReturn("first")
+                .thenThrow(new UncategorizedMongoDbException("E11000 duplicate key", null));
+
+        // When & Then
+        assertThrows(UncategorizedMongoDbException.class, () -> mongoIndexManager.ensureIndexes(Bank.class, "banks_staging"));
+        verify(stagingIndexOps, times(2)).ensureIndex(any(IndexDefinition.class));
+        verify(bankIndexOps, never()).ensureIndex(any(IndexDefinition.class));
+    }
+}
@@ -0,0 +1,95 @@
+package com.exercise.swiftcode.persistence.migration;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.mongodb.bulk.BulkWriteResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BankPrefixMigrationTest {
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private BulkWriteResult bulkWriteResult;
+
+    private BankPrefixMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        migration = new BankPrefixMigration(mongoTemplate);
+        ReflectionTestUtils.setField(migration, "batchSize", 2);
+    }
+
+    @Test
+    void migrate_backFillsEveryPendingBatch() {
+        // Given
+        List<Bank> firstBatch = List.of(
+                Bank.builder().id("1").swiftCode("TESTUS33XXX").build(),
+                Bank.builder().id("2").swiftCode("TESTUS33ABC").build());
+        List<Bank> secondBatch = List.of(Bank.builder().id("3").swiftCode("OTHRUS33XXX").build());
+        when(mongoTemplate.find(any(Query.class), eq(Bank.class))).thenReturn(firstBatch, secondBatch, List.of());
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Bank.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(bulkWriteResult);
+        when(bulkWriteResult.getModifiedCount()).thenReturn(2, 1);
+
+        // When
+        long migrated = migration.backfill();
+
+        // Then
+        assertEquals(3, migrated);
+        verify(bulkOperations, times(3)).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(2)).execute();
+    }
+
+    @Test
+    void migrate_whenNothingPending_doesNotWrite() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(Bank.class))).thenReturn(List.of());
+
+        // When
+        long migrated = migration.backfill();
+
+        // Then
+        assertEquals(0, migrated);
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(Bank.class));
+    }
+
+    @Test
+    void migrate_whenBatchMakesNoProgress_stops() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(Bank.class)))
+                .thenReturn(List.of(Bank.builder().id("1").swiftCode("TESTUS33XXX").build()));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Bank.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(bulkWriteResult);
+        when(bulkWriteResult.getModifiedCount()).thenReturn(0);
+
+        // When
+        long migrated = migration.backfill();
+
+        // Then
+        assertEquals(0, migrated);
+        verify(bulkOperations, times(1)).execute();
+    }
+}
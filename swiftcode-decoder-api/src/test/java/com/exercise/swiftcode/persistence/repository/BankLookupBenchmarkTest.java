@@ -0,0 +1,106 @@
+package com.exercise.swiftcode.persistence.repository;
+
+import com.exercise.swiftcode.persistence.entity.Bank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the former two-query headquarter lookup with the single prefix query, logging the mean
+ * time per lookup in microseconds (us/op). Run with {@code mvn test -Dtest=BankLookupBenchmarkTest -Dbenchmark=true}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BankLookupBenchmarkTest {
+    private static final Logger logger = LoggerFactory.getLogger(BankLookupBenchmarkTest.class);
+
+    private static final int HEADQUARTERS = 200;
+    private static final int BRANCHES_PER_HEADQUARTER = 10;
+    private static final int WARMUP_ITERATIONS = 500;
+    private static final int MEASURED_ITERATIONS = 5_000;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        bankRepository.deleteAll();
+        List<Bank> banks = new ArrayList<>();
+        for (int hq = 0; hq < HEADQUARTERS; hq++) {
+            String prefix = String.format("BK%02dUS%02d", hq / 100, hq % 100);
+            banks.add(bank(prefix + "XXX"));
+            for (int branch = 0; branch < BRANCHES_PER_HEADQUARTER; branch++) {
+                banks.add(bank(String.format("%s%03d", prefix, branch)));
+            }
+        }
+        bankRepository.saveAll(banks);
+    }
+
+    @Test
+    void headquarterLookup_singleQueryVersusTwoQueries() {
+        List<String> headquarters = bankRepository.findAll().stream()
+                .map(Bank::getSwiftCode)
+                .filter(code -> code.endsWith("XXX"))
+                .toList();
+
+        double twoQueries = measure(headquarters, this::twoQueryLookup);
+        double singleQuery = measure(headquarters, this::singleQueryLookup);
+
+        logger.info("Headquarter lookup: two queries {} us/op, single query {} us/op ({}x)",
+                String.format("%.1f", twoQueries), String.format("%.1f", singleQuery),
+                String.format("%.2f", twoQueries / singleQuery));
+        assertEquals(twoQueryLookup(headquarters.getFirst()), singleQueryLookup(headquarters.getFirst()));
+    }
+
+    private int twoQueryLookup(String swiftCode) {
+        bankRepository.findBySwiftCode(swiftCode).orElseThrow();
+        Query branches = new Query(Criteria.where("swiftCode").regex("^" + swiftCode.substring(0, 8)));
+        return (int) mongoTemplate.find(branches, Bank.class).stream()
+                .filter(branch -> !branch.getSwiftCode().equals(swiftCode))
+                .count();
+    }
+
+    private int singleQueryLookup(String swiftCode) {
+        List<Bank> banks = bankRepository.findBySwiftCodePrefix(swiftCode.substring(0, 8));
+        return banks.size() - 1;
+    }
+
+    private double measure(List<String> codes, ToIntFunction<String> lookup) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            lookup.applyAsInt(codes.get(i % codes.size()));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            lookup.applyAsInt(codes.get(i % codes.size()));
+        }
+        return (System.nanoTime() - start) / 1_000.0 / MEASURED_ITERATIONS;
+    }
+
+    private static Bank bank(String swiftCode) {
+        return Bank.builder()
+                .swiftCode(swiftCode)
+                .name("Bank " + swiftCode)
+                .address("Address")
+                .countryIso2Code("US")
+                .countryName("UNITED STATES")
+                .build();
+    }
+}
@@ -3,8 +3,10 @@ package com.exercise.swiftcode.seeder;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
+import com.exercise.swiftcode.loader.DeltaImporter;
 import com.exercise.swiftcode.persistence.entity.CountryCode;
 import com.exercise.swiftcode.persistence.repository.CountryCodeRepository;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,6 +17,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,6 +35,8 @@ import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.ArgumentMatchers.eq;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -49,6 +55,9 @@ class CountryCodeDataSeederTest {
     @Mock
     private MongoTemplate mongoTemplate;
 
+    @Mock
+    private DeltaImporter deltaImporter;
+
     @Mock
     private Appender<ILoggingEvent> mockAppender;
 
@@ -57,7 +66,7 @@ class CountryCodeDataSeederTest {
 
     @BeforeEach
     void setUp() {
-        countryCodeDataSeeder = new CountryCodeDataSeeder(countryRepository, mongoTemplate);
+        countryCodeDataSeeder = new CountryCodeDataSeeder(countryRepository, mongoTemplate, deltaImporter);
         Logger logger = (Logger) LoggerFactory.getLogger(CountryCodeDataSeeder.class);
         logger.addAppender(mockAppender);
     }
@@ -156,6 +165,36 @@ class CountryCodeDataSeederTest {
         }
     }
 
+    @Test
+    void testRun_Incremental_AppliesDeltaEvenWhenCollectionExists() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(countryCodeDataSeeder, "incremental", true);
+        List<CountryCode> countries = new ArrayList<>();
+        when(deltaImporter.importDelta(eq(CountryCode.class), eq("COUNTRYISO2CODE"), any(), any(), any())).thenAnswer(invocation -> {
+            DeltaImporter.RowSource<CountryCode> source = invocation.getArgument(4);
+            source.produce(countries::addAll);
+            return new DeltaImporter.DeltaReport(0, 0, countries.size(), 0, false);
+        });
+
+        // When
+        countryCodeDataSeeder.run();
+
+        // Then
+        assertEquals(countryCodeDataSeeder.loadCountriesFromLocale(), countries);
+        verify(mongoTemplate, never()).collectionExists("country_codes");
+        verifyNoInteractions(countryRepository);
+    }
+
+    @Test
+    void testToUpdate_SetsStoredCountryFields() {
+        // When
+        Update update = CountryCodeDataSeeder.toUpdate(new CountryCode(null, "POLAND", "PL"));
+
+        // Then
+        assertEquals("POLAND", update.getUpdateObject().get("$set", Document.class).get("countryName"));
+        assertEquals("PL", update.getUpdateObject().get("$set", Document.class).get("countryIso2Code"));
+    }
+
     @Test
     void testLoadCountriesFromLocale_ReturnsListOfCountries() {
         // When & Then
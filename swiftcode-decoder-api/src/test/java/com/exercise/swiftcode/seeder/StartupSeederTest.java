@@ -0,0 +1,92 @@
+package com.exercise.swiftcode.seeder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupSeederTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void run_phasesRunConcurrentlyAndAreTimed() throws Exception {
+        // Given
+        // Each phase waits for the other to start, so a serial run would time out.
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        SeedingPhase countries = phase("countries", () -> awaitOther(bothStarted));
+        SeedingPhase banks = phase("banks", () -> awaitOther(bothStarted));
+        StartupSeeder startupSeeder = new StartupSeeder(List.of(countries, banks), meterRegistry, 2);
+        SeedingHealthIndicator healthIndicator = new SeedingHealthIndicator(startupSeeder);
+        assertEquals(Status.DOWN, healthIndicator.health().getStatus());
+
+        // When
+        startupSeeder.run();
+
+        // Then
+        assertTrue(startupSeeder.isComplete());
+        Health health = healthIndicator.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(StartupSeeder.State.SUCCEEDED, ((Map<?, ?>) health.getDetails().get("banks")).get("state"));
+        assertEquals(1, meterRegistry.get(StartupSeeder.TIMER_NAME).tags("phase", "countries", "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(StartupSeeder.TIMER_NAME).tags("phase", "banks", "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(StartupSeeder.TIMER_NAME).tags("phase", "total", "outcome", "success").timer().count());
+    }
+
+    @Test
+    void run_failedPhase_othersFinishAndFailureIsRethrown() {
+        // Given
+        CountDownLatch banksFinished = new CountDownLatch(1);
+        SeedingPhase countries = phase("countries", () -> {
+            throw new DataAccessResourceFailureException("MongoDB down");
+        });
+        SeedingPhase banks = phase("banks", banksFinished::countDown);
+        StartupSeeder startupSeeder = new StartupSeeder(List.of(countries, banks), meterRegistry, 2);
+
+        // When & Then
+        DataAccessResourceFailureException exception = assertThrows(DataAccessResourceFailureException.class, startupSeeder::run);
+        assertEquals("MongoDB down", exception.getMessage());
+        assertEquals(0, banksFinished.getCount());
+        assertFalse(startupSeeder.isComplete());
+        assertEquals(StartupSeeder.State.FAILED, startupSeeder.statuses().get("countries").state());
+        assertEquals(StartupSeeder.State.SUCCEEDED, startupSeeder.statuses().get("banks").state());
+        assertEquals(Status.DOWN, new SeedingHealthIndicator(startupSeeder).health().getStatus());
+        assertEquals(1, meterRegistry.get(StartupSeeder.TIMER_NAME).tags("phase", "countries", "outcome", "failure").timer().count());
+    }
+
+    private static void awaitOther(CountDownLatch bothStarted) throws Exception {
+        bothStarted.countDown();
+        if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Phases did not run concurrently");
+        }
+    }
+
+    private static SeedingPhase phase(String name, ThrowingRunnable body) {
+        return new SeedingPhase() {
+            @Override
+            public String phaseName() {
+                return name;
+            }
+
+            @Override
+            public void run() throws Exception {
+                body.run();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,221 @@
+package com.exercise.swiftcode.service.bank;
+
+import com.exercise.swiftcode.api.bank.BankMapper;
+import com.exercise.swiftcode.api.bank.BankValidator;
+import com.exercise.swiftcode.api.bank.request.CreateBankRequest;
+import com.exercise.swiftcode.api.bank.response.BatchCreateResponse;
+import com.exercise.swiftcode.api.bank.response.BatchItemResult;
+import com.exercise.swiftcode.config.exceptions.ValidationException;
+import com.exercise.swiftcode.loader.BankImportCompletedEvent;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.persistence.entity.CountryCode;
+import com.exercise.swiftcode.service.country.CountryCodeRegistry;
+import com.exercise.swiftcode.service.directory.BankLookup;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BankBatchServiceTest {
+    @InjectMocks
+    private BankBatchService bankBatchService;
+
+    @Mock
+    private BankMapper bankMapper;
+
+    @Mock
+    private BankValidator bankValidator;
+
+    @Mock
+    private CountryCodeRegistry countryCodeRegistry;
+
+    @Mock
+    private BankResponseCache bankResponseCache;
+
+    @Mock
+    private BankLookup bankLookup;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private static final String BANK_NAME = "Bank Name";
+    private static final String BANK_ADDRESS = "Bank Address";
+    private static final String BANK_COUNTRY_NAME = "Country Name";
+    private static final String BANK_COUNTRY_CODE = "CN";
+    private static final String BANK_SWIFTCODE_HQ = "TESTUS33XXX";
+    private static final String BANK_SWIFTCODE_BRANCH = "TESTUS33111";
+    private static final String DUPLICATE_SWIFT_CODE =
+            "E11000 duplicate key error collection: swift.banks index: SWIFT CODE dup key: { SWIFT CODE: \"TESTUS33XXX\" }";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bankBatchService, "maxBatchSize", 1000);
+    }
+
+    private CreateBankRequest createRequest(String swiftCode) {
+        return CreateBankRequest.builder()
+                .swiftCode(swiftCode)
+                .isHeadquarter(swiftCode.endsWith("XXX"))
+                .bankName(BANK_NAME)
+                .address(BANK_ADDRESS)
+                .countryISO2(BANK_COUNTRY_CODE)
+                .countryName(BANK_COUNTRY_NAME)
+                .build();
+    }
+
+    private Bank createBank(String swiftCode) {
+        return Bank.builder()
+                .swiftCode(swiftCode)
+                .name(BANK_NAME)
+                .address(BANK_ADDRESS)
+                .countryIso2Code(BANK_COUNTRY_CODE)
+                .countryName(BANK_COUNTRY_NAME)
+                .build();
+    }
+
+    private void givenKnownCountryAndBulkInsert() {
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(Optional.of(new CountryCode("1", BANK_COUNTRY_NAME, BANK_COUNTRY_CODE)));
+        when(bankMapper.toBank(any(CreateBankRequest.class)))
+                .thenAnswer(invocation -> createBank(invocation.<CreateBankRequest>getArgument(0).getSwiftCode()));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Bank.class)).thenReturn(bulkOperations);
+    }
+
+    @Test
+    void createBanks_allValid_insertsInOneUnorderedBulkWrite() {
+        // Given
+        givenKnownCountryAndBulkInsert();
+        List<CreateBankRequest> requests = List.of(createRequest(BANK_SWIFTCODE_HQ), createRequest(BANK_SWIFTCODE_BRANCH));
+
+        // When
+        BatchCreateResponse response = bankBatchService.createBanks(requests);
+
+        // Then
+        assertEquals(2, response.getCreated());
+        assertEquals(BatchItemResult.Status.CREATED, response.getResults().get(0).getStatus());
+        assertEquals(BANK_SWIFTCODE_BRANCH, response.getResults().get(1).getSwiftCode());
+        verify(bulkOperations).insert(anyList());
+        verify(bulkOperations).execute();
+        InOrder inOrder = inOrder(bankLookup, bankResponseCache);
+        inOrder.verify(bankLookup).awaitWrites();
+        inOrder.verify(bankResponseCache, times(2)).evict(any(Bank.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void createBanks_invalidAndRepeatedBanks_skipsThemAndInsertsTheRest() {
+        // Given
+        givenKnownCountryAndBulkInsert();
+        CreateBankRequest invalid = createRequest("SHORT");
+        lenient().doThrow(new ValidationException("SWIFT Code must be exactly 11 characters long."))
+                .when(bankValidator).validateCreateBankRequest(invalid);
+        List<CreateBankRequest> requests = List.of(createRequest(BANK_SWIFTCODE_HQ), invalid, createRequest(BANK_SWIFTCODE_HQ.toLowerCase()));
+
+        // When
+        BatchCreateResponse response = bankBatchService.createBanks(requests);
+
+        // Then
+        assertEquals(1, response.getCreated());
+        assertEquals(1, response.getInvalid());
+        assertEquals(1, response.getDuplicates());
+        assertEquals("SWIFT Code must be exactly 11 characters long.", response.getResults().get(1).getMessage());
+        assertEquals(BatchItemResult.Status.DUPLICATE, response.getResults().get(2).getStatus());
+        verify(bulkOperations).insert(List.of(createBank(BANK_SWIFTCODE_HQ)));
+    }
+
+    @Test
+    void createBanks_unknownCountry_reportsInvalid() {
+        // Given
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE)).thenReturn(Optional.empty());
+
+        // When
+        BatchCreateResponse response = bankBatchService.createBanks(List.of(createRequest(BANK_SWIFTCODE_HQ)));
+
+        // Then
+        assertEquals(1, response.getInvalid());
+        assertEquals("Country ISO2 code 'CN' does not exist.", response.getResults().get(0).getMessage());
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void createBanks_existingSwiftCode_reportsDuplicateAndAnnouncesTheRest() {
+        // Given
+        givenKnownCountryAndBulkInsert();
+        BulkOperationException rejected = mock(BulkOperationException.class);
+        when(rejected.getErrors()).thenReturn(List.of(
+                new BulkWriteError(11000, DUPLICATE_SWIFT_CODE, new BsonDocument(), 0),
+                new BulkWriteError(121, "Document failed validation", new BsonDocument(), 2)));
+        when(bulkOperations.execute()).thenThrow(rejected);
+        List<CreateBankRequest> requests = List.of(
+                createRequest(BANK_SWIFTCODE_HQ), createRequest(BANK_SWIFTCODE_BRANCH), createRequest("TESTUS33222"));
+
+        // When
+        BatchCreateResponse response = bankBatchService.createBanks(requests);
+
+        // Then
+        assertEquals(1, response.getCreated());
+        assertEquals(1, response.getDuplicates());
+        assertEquals(1, response.getFailed());
+        assertEquals("SWIFT Code already exists.", response.getResults().get(0).getMessage());
+        assertEquals(BatchItemResult.Status.CREATED, response.getResults().get(1).getStatus());
+        assertEquals("Document failed validation", response.getResults().get(2).getMessage());
+        verify(eventPublisher).publishEvent(eq(new BankImportCompletedEvent("batch request", 1)));
+        verifyNoInteractions(bankResponseCache, bankLookup);
+    }
+
+    @Test
+    void createBanks_duplicateOnAnotherIndex_reportsFailedNotDuplicate() {
+        // Given
+        givenKnownCountryAndBulkInsert();
+        String duplicateId = "E11000 duplicate key error collection: swift.banks index: _id_ dup key: { _id: \"1\" }";
+        BulkOperationException rejected = mock(BulkOperationException.class);
+        when(rejected.getErrors()).thenReturn(List.of(new BulkWriteError(11000, duplicateId, new BsonDocument(), 0)));
+        when(bulkOperations.execute()).thenThrow(rejected);
+
+        // When
+        BatchCreateResponse response = bankBatchService.createBanks(List.of(createRequest(BANK_SWIFTCODE_HQ)));
+
+        // Then
+        assertEquals(0, response.getDuplicates());
+        assertEquals(1, response.getFailed());
+        assertEquals(duplicateId, response.getResults().get(0).getMessage());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void createBanks_emptyBatch_throwsValidationException() {
+        // Given
+        doThrow(new ValidationException("A batch must contain between 1 and 1000 banks."))
+                .when(bankValidator).validateBatchSize(0, 1000);
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> bankBatchService.createBanks(List.of()));
+        verifyNoInteractions(mongoTemplate);
+    }
+}
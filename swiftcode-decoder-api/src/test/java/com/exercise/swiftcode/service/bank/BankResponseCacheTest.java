@@ -0,0 +1,136 @@
+package com.exercise.swiftcode.service.bank;
+
+import com.exercise.swiftcode.api.bank.response.BankListResponse;
+import com.exercise.swiftcode.api.bank.response.BanksByCountryResponse;
+import com.exercise.swiftcode.domain.SwiftCode;
+import com.exercise.swiftcode.loader.BankCollectionSwappedEvent;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BankResponseCacheTest {
+    private SimpleMeterRegistry meterRegistry;
+    private BankResponseCache bankResponseCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bankResponseCache = new BankResponseCache(100, Duration.ofMinutes(10), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    private BankListResponse loadBank(SwiftCode swiftCode) {
+        loads.incrementAndGet();
+        return BankListResponse.builder().swiftCode(swiftCode.toString()).branches(List.of()).build();
+    }
+
+    private BanksByCountryResponse loadCountry(String iso2) {
+        loads.incrementAndGet();
+        return new BanksByCountryResponse(iso2, "COUNTRY", List.of());
+    }
+
+    @Test
+    void evict_branch_invalidatesBranchHeadquarterAndCountryOnly() {
+        // Given
+        bankResponseCache.getBankAndBranches(SwiftCode.parse("TESTUS33XXX"), this::loadBank);
+        bankResponseCache.getBankAndBranches(SwiftCode.parse("TESTUS33ABC"), this::loadBank);
+        bankResponseCache.getBankAndBranches(SwiftCode.parse("OTHRUS33XXX"), this::loadBank);
+        bankResponseCache.getBanksByCountry("US", this::loadCountry);
+        bankResponseCache.getBanksByCountry("PL", this::loadCountry);
+        loads.set(0);
+
+        // When
+        bankResponseCache.evict(Bank.builder().swiftCode("TESTUS33ABC").countryIso2Code("US").build());
+        bankResponseCache.getBankAndBranches(SwiftCode.parse("TESTUS33XXX"), this::loadBank);
+        bankResponseCache.getBankAndBranches(SwiftCode.parse("TESTUS33ABC"), this::loadBank);
+        bankResponseCache.getBankAndBranches(SwiftCode.parse("OTHRUS33XXX"), this::loadBank);
+        bankResponseCache.getBanksByCountry("US", this::loadCountry);
+        bankResponseCache.getBanksByCountry("PL", this::loadCountry);
+
+        // Then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void getBankAndBranches_loaderThrows_nothingCached() {
+        // Given
+        assertThrows(IllegalStateException.class,
+                () -> bankResponseCache.getBankAndBranches(SwiftCode.parse("TESTUS33XXX"), code -> { throw new IllegalStateException(); }));
+
+        // When
+        bankResponseCache.getBankAndBranches(SwiftCode.parse("TESTUS33XXX"), this::loadBank);
+
+        // Then
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void getBankAndBranches_exposesHitAndMissMetrics() {
+        // When
+        bankResponseCache.getBankAndBranches(SwiftCode.parse("TESTUS33XXX"), this::loadBank);
+        bankResponseCache.getBankAndBranches(SwiftCode.parse("TESTUS33XXX"), this::loadBank);
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "banks.bySwiftCode").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "banks.bySwiftCode").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void getBanksByCountry_zeroSize_concurrentLoadsOfOneKeyRunTogether() throws Exception {
+        // Given
+        BankResponseCache disabled = new BankResponseCache(0, Duration.ZERO, meterRegistry);
+        CountDownLatch bothLoading = new CountDownLatch(2);
+        Function<String, BanksByCountryResponse> loader = iso2 -> {
+            bothLoading.countDown();
+            try {
+                assertTrue(bothLoading.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return loadCountry(iso2);
+        };
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<BanksByCountryResponse> first = executor.submit(() -> disabled.getBanksByCountry("PL", loader));
+            Future<BanksByCountryResponse> second = executor.submit(() -> disabled.getBanksByCountry("PL", loader));
+            first.get();
+            second.get();
+        }
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onCollectionSwapped_evictsEverything() {
+        // Given
+        bankResponseCache.getBankAndBranches(SwiftCode.parse("TESTUS33XXX"), this::loadBank);
+        bankResponseCache.getBanksByCountry("US", this::loadCountry);
+        loads.set(0);
+
+        // When
+        bankResponseCache.onCollectionSwapped(new BankCollectionSwappedEvent("banks", 975));
+        bankResponseCache.getBankAndBranches(SwiftCode.parse("TESTUS33XXX"), this::loadBank);
+        bankResponseCache.getBanksByCountry("US", this::loadCountry);
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+}
@@ -8,24 +8,33 @@ import com.exercise.swiftcode.api.bank.response.BankResponse;
 import com.exercise.swiftcode.api.bank.response.BanksByCountryResponse;
 import com.exercise.swiftcode.api.bank.response.MessageResponse;
 import com.exercise.swiftcode.config.exceptions.BankNotFoundException;
-import com.exercise.swiftcode.config.exceptions.DuplicateSwiftCodeException;
 import com.exercise.swiftcode.config.exceptions.CountryCodeNotFoundException;
 import com.exercise.swiftcode.config.exceptions.ValidationException;
+import com.exercise.swiftcode.domain.SwiftCode;
 import com.exercise.swiftcode.persistence.entity.Bank;
 import com.exercise.swiftcode.persistence.entity.CountryCode;
 import com.exercise.swiftcode.persistence.repository.BankRepository;
-import com.exercise.swiftcode.persistence.repository.CountryCodeRepository;
+import com.exercise.swiftcode.service.country.CountryCodeRegistry;
+import com.exercise.swiftcode.service.directory.BankLookup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -42,10 +51,16 @@ public class BankServiceTest {
     private BankRepository bankRepository;
 
     @Mock
-    private CountryCodeRepository countryCodeRepository;
+    private BankValidator bankValidator;
 
     @Mock
-    private BankValidator bankValidator;
+    private CountryCodeRegistry countryCodeRegistry;
+
+    @Mock
+    private BankLookup bankLookup;
+
+    @Spy
+    private BankResponseCache bankResponseCache = new BankResponseCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
 
     @Captor
     private ArgumentCaptor<Bank> bankCaptor;
@@ -97,11 +112,10 @@ public class BankServiceTest {
         // Given
         Bank bank = createDefaultBank();
 
-        when(bankRepository.existsBySwiftCode(BANK_SWIFTCODE_HQ)).thenReturn(false);
-        when(countryCodeRepository.findByCountryIso2Code(BANK_COUNTRY_CODE))
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE))
                 .thenReturn(Optional.of(new CountryCode("1",BANK_COUNTRY_NAME,BANK_COUNTRY_CODE)));
         when(bankMapper.toBank(any(CreateBankRequest.class))).thenReturn(bank);
-        when(bankRepository.save(any(Bank.class))).thenReturn(bank);
+        when(bankRepository.insert(any(Bank.class))).thenReturn(bank);
 
         // When
         MessageResponse response = bankService.createBank(validRequest);
@@ -111,10 +125,12 @@ public class BankServiceTest {
         assertEquals("Bank successfully created.", response.getMessage());
 
         verify(bankValidator).validateCreateBankRequest(validRequest);
-        verify(bankRepository).existsBySwiftCode(BANK_SWIFTCODE_HQ);
-        verify(countryCodeRepository).findByCountryIso2Code(BANK_COUNTRY_CODE);
+        verify(countryCodeRegistry).findByCountryIso2Code(BANK_COUNTRY_CODE);
         verify(bankMapper).toBank(any(CreateBankRequest.class));
-        verify(bankRepository).save(bankCaptor.capture());
+        verify(bankRepository).insert(bankCaptor.capture());
+        InOrder directoryThenCache = inOrder(bankLookup, bankResponseCache);
+        directoryThenCache.verify(bankLookup).awaitWrites();
+        directoryThenCache.verify(bankResponseCache).evict(bank);
 
         Bank capturedBank = bankCaptor.getValue();
         assertEquals(BANK_SWIFTCODE_HQ, capturedBank.getSwiftCode());
@@ -125,30 +141,30 @@ public class BankServiceTest {
     }
 
     @Test
-    void createBank_duplicateSwiftCode_throwsDuplicateSwiftCodeException() {
+    void createBank_duplicateSwiftCode_propagatesDuplicateKeyException() {
         // Given
-        when(bankRepository.existsBySwiftCode(BANK_SWIFTCODE_HQ)).thenReturn(true);
+        Bank bank = createDefaultBank();
+
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(Optional.of(new CountryCode("1",BANK_COUNTRY_NAME,BANK_COUNTRY_CODE)));
+        when(bankMapper.toBank(any(CreateBankRequest.class))).thenReturn(bank);
+        when(bankRepository.insert(any(Bank.class))).thenThrow(new DuplicateKeyException("E11000 duplicate key"));
 
         // When & Then
-        DuplicateSwiftCodeException exception = assertThrows(
-                DuplicateSwiftCodeException.class,
+        assertThrows(
+                DuplicateKeyException.class,
                 () -> bankService.createBank(validRequest)
         );
 
-        assertEquals("SWIFT Code already exists.", exception.getMessage());
-
         verify(bankValidator).validateCreateBankRequest(validRequest);
-        verify(bankRepository).existsBySwiftCode(BANK_SWIFTCODE_HQ);
-        verify(countryCodeRepository, never()).findByCountryIso2Code(anyString());
-        verify(bankMapper, never()).toBank(any(CreateBankRequest.class));
-        verify(bankRepository, never()).save(any(Bank.class));
+        verify(countryCodeRegistry).findByCountryIso2Code(BANK_COUNTRY_CODE);
+        verify(bankRepository).insert(any(Bank.class));
     }
 
     @Test
     void createBank_countryCodeNotFound_throwsCountryCodeNotFoundException() {
         // Given
-        when(bankRepository.existsBySwiftCode(BANK_SWIFTCODE_HQ)).thenReturn(false);
-        when(countryCodeRepository.findByCountryIso2Code(BANK_COUNTRY_CODE))
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE))
                 .thenReturn(Optional.empty());
 
         // When & Then
@@ -160,16 +176,18 @@ public class BankServiceTest {
         assertEquals(String.format("Country ISO2 code '%s' does not exist.", BANK_COUNTRY_CODE), exception.getMessage());
 
         verify(bankValidator).validateCreateBankRequest(validRequest);
-        verify(bankRepository).existsBySwiftCode(BANK_SWIFTCODE_HQ);
-        verify(countryCodeRepository).findByCountryIso2Code(BANK_COUNTRY_CODE);
+        verify(countryCodeRegistry).findByCountryIso2Code(BANK_COUNTRY_CODE);
         verify(bankMapper, never()).toBank(any(CreateBankRequest.class));
-        verify(bankRepository, never()).save(any(Bank.class));
+        verify(bankRepository, never()).insert(any(Bank.class));
     }
 
     @Test
     void deleteBank_nonHeadquarter_successfulDeletion_returnsSuccessMessage() {
         // Given
-        when(bankRepository.existsBySwiftCode(BANK_SWIFTCODE_BRANCH)).thenReturn(true);
+        Bank branchBank = createDefaultBank().toBuilder()
+                .swiftCode(BANK_SWIFTCODE_BRANCH)
+                .build();
+        when(bankRepository.findBySwiftCode(BANK_SWIFTCODE_BRANCH)).thenReturn(Optional.of(branchBank));
 
         // When
         MessageResponse response = bankService.deleteBank(BANK_SWIFTCODE_BRANCH);
@@ -179,15 +197,20 @@ public class BankServiceTest {
         assertEquals("Bank successfully deleted.", response.getMessage());
 
         verify(bankValidator).validateDeleteBankRequest(BANK_SWIFTCODE_BRANCH);
-        verify(bankRepository).existsBySwiftCode(BANK_SWIFTCODE_BRANCH);
+        verify(bankRepository).findBySwiftCode(BANK_SWIFTCODE_BRANCH);
         verify(bankRepository).deleteBySwiftCode(BANK_SWIFTCODE_BRANCH);
-        verify(bankRepository, never()).deleteBySwiftCodeStartingWith(anyString());
+        verify(bankRepository, never()).deleteBySwiftCodePrefix(anyString());
+        verify(bankResponseCache).evict(branchBank);
     }
 
     @Test
     void deleteBank_headquarter_successfulDeletionWithBranches_returnsSuccessMessage() {
         // Given
-        when(bankRepository.existsBySwiftCode(BANK_SWIFTCODE_HQ)).thenReturn(true);
+        Bank hqBank = createDefaultBank();
+        Bank branchBank = createDefaultBank().toBuilder()
+                .swiftCode(BANK_SWIFTCODE_BRANCH)
+                .build();
+        when(bankRepository.findBySwiftCodePrefix(BANK_SWIFTCODE_PREFIX)).thenReturn(List.of(hqBank, branchBank));
 
         // When
         MessageResponse response = bankService.deleteBank(BANK_SWIFTCODE_HQ);
@@ -197,15 +220,20 @@ public class BankServiceTest {
         assertEquals("Bank successfully deleted.", response.getMessage());
 
         verify(bankValidator).validateDeleteBankRequest(BANK_SWIFTCODE_HQ);
-        verify(bankRepository).existsBySwiftCode(BANK_SWIFTCODE_HQ);
-        verify(bankRepository).deleteBySwiftCodeStartingWith(BANK_SWIFTCODE_PREFIX);
+        verify(bankRepository).findBySwiftCodePrefix(BANK_SWIFTCODE_PREFIX);
+        verify(bankRepository).deleteBySwiftCodePrefix(BANK_SWIFTCODE_PREFIX);
         verify(bankRepository, never()).deleteBySwiftCode(anyString());
+        verify(bankResponseCache).evict(hqBank);
+        verify(bankResponseCache).evict(branchBank);
     }
 
     @Test
     void deleteBank_bankNotFound_throwsBankNotFoundException() {
         // Given
-        when(bankRepository.existsBySwiftCode(BANK_SWIFTCODE_HQ)).thenReturn(false);
+        Bank branchBank = createDefaultBank().toBuilder()
+                .swiftCode(BANK_SWIFTCODE_BRANCH)
+                .build();
+        when(bankRepository.findBySwiftCodePrefix(BANK_SWIFTCODE_PREFIX)).thenReturn(List.of(branchBank));
 
         // When & Then
         BankNotFoundException exception = assertThrows(
@@ -216,9 +244,9 @@ public class BankServiceTest {
         assertEquals(String.format("Bank with SWIFT Code '%s' not found.",BANK_SWIFTCODE_HQ), exception.getMessage());
 
         verify(bankValidator).validateDeleteBankRequest(BANK_SWIFTCODE_HQ);
-        verify(bankRepository).existsBySwiftCode(BANK_SWIFTCODE_HQ);
+        verify(bankRepository).findBySwiftCodePrefix(BANK_SWIFTCODE_PREFIX);
         verify(bankRepository, never()).deleteBySwiftCode(anyString());
-        verify(bankRepository, never()).deleteBySwiftCodeStartingWith(anyString());
+        verify(bankRepository, never()).deleteBySwiftCodePrefix(anyString());
     }
 
     @Test
@@ -236,9 +264,8 @@ public class BankServiceTest {
         assertEquals("Invalid SWIFT Code", exception.getMessage());
 
         verify(bankValidator).validateDeleteBankRequest(BANK_SWIFTCODE_HQ);
-        verify(bankRepository, never()).existsBySwiftCode(anyString());
         verify(bankRepository, never()).deleteBySwiftCode(anyString());
-        verify(bankRepository, never()).deleteBySwiftCodeStartingWith(anyString());
+        verify(bankRepository, never()).deleteBySwiftCodePrefix(anyString());
     }
 
     @Test
@@ -252,7 +279,7 @@ public class BankServiceTest {
                         .swiftCode(BANK_SWIFTCODE_BRANCH)
                         .build();
 
-        when(bankRepository.findBySwiftCode(BANK_SWIFTCODE_BRANCH))
+        when(bankLookup.findBySwiftCode(SwiftCode.parse(BANK_SWIFTCODE_BRANCH)))
                 .thenReturn(Optional.of(branchBank));
         when(bankMapper.toBankResponse(branchBank)).thenReturn(branchResponse);
 
@@ -270,9 +297,9 @@ public class BankServiceTest {
         assertTrue(response.getBranches().isEmpty());
 
         verify(bankValidator).validateSwiftCode(BANK_SWIFTCODE_BRANCH);
-        verify(bankRepository).findBySwiftCode(BANK_SWIFTCODE_BRANCH);
+        verify(bankLookup).findBySwiftCode(SwiftCode.parse(BANK_SWIFTCODE_BRANCH));
         verify(bankMapper).toBankResponse(branchBank);
-        verify(bankRepository, never()).findBySwiftCodeStartingWith(anyString());
+        verify(bankLookup, never()).findFamily(any(SwiftCode.class));
     }
 
     @Test
@@ -293,11 +320,9 @@ public class BankServiceTest {
                 .countryName(null)
                 .build();
 
-        when(bankRepository.findBySwiftCode(BANK_SWIFTCODE_HQ))
-                .thenReturn(Optional.of(hqBank));
-        when(bankMapper.toBankResponse(hqBank)).thenReturn(hqResponse);
-        when(bankRepository.findBySwiftCodeStartingWith(BANK_SWIFTCODE_PREFIX))
+        when(bankLookup.findFamily(SwiftCode.parse(BANK_SWIFTCODE_HQ)))
                 .thenReturn(List.of(hqBank, branchBank));
+        when(bankMapper.toBankResponse(hqBank)).thenReturn(hqResponse);
         when(bankMapper.toBankResponseNullCountryName(branchBank)).thenReturn(branchResponse);
 
         // When
@@ -316,17 +341,60 @@ public class BankServiceTest {
         assertNull(response.getBranches().getFirst().getCountryName());
 
         verify(bankValidator).validateSwiftCode(BANK_SWIFTCODE_HQ);
-        verify(bankRepository).findBySwiftCode(BANK_SWIFTCODE_HQ);
+        verify(bankLookup).findFamily(SwiftCode.parse(BANK_SWIFTCODE_HQ));
+        verify(bankLookup, never()).findBySwiftCode(any(SwiftCode.class));
         verify(bankMapper).toBankResponse(hqBank);
-        verify(bankRepository).findBySwiftCodeStartingWith(BANK_SWIFTCODE_PREFIX);
         verify(bankMapper).toBankResponseNullCountryName(branchBank);
     }
 
+    @Test
+    void getBankAndBranches_repeatedLookup_servedFromCache() {
+        // Given
+        Bank hqBank = createDefaultBank();
+        when(bankLookup.findFamily(SwiftCode.parse(BANK_SWIFTCODE_HQ))).thenReturn(List.of(hqBank));
+        when(bankMapper.toBankResponse(hqBank)).thenReturn(createDefaultBankResponse());
+
+        // When
+        BankListResponse first = bankService.getBankAndBranches(BANK_SWIFTCODE_HQ);
+        BankListResponse second = bankService.getBankAndBranches(BANK_SWIFTCODE_HQ.toLowerCase());
+
+        // Then
+        assertSame(first, second);
+        verify(bankLookup, times(1)).findFamily(SwiftCode.parse(BANK_SWIFTCODE_HQ));
+    }
+
+    @Test
+    void getBankAndBranches_afterBranchCreated_reloadsHeadquarter() {
+        // Given
+        Bank hqBank = createDefaultBank();
+        Bank branchBank = createDefaultBank().toBuilder()
+                .swiftCode(BANK_SWIFTCODE_BRANCH)
+                .build();
+        when(bankLookup.findFamily(SwiftCode.parse(BANK_SWIFTCODE_HQ)))
+                .thenReturn(List.of(hqBank), List.of(hqBank, branchBank));
+        when(bankMapper.toBankResponse(hqBank)).thenReturn(createDefaultBankResponse());
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(Optional.of(new CountryCode("1",BANK_COUNTRY_NAME,BANK_COUNTRY_CODE)));
+        when(bankMapper.toBank(any(CreateBankRequest.class))).thenReturn(branchBank);
+        when(bankMapper.toBankResponseNullCountryName(branchBank))
+                .thenReturn(createDefaultBankResponse().toBuilder().swiftCode(BANK_SWIFTCODE_BRANCH).build());
+
+        // When
+        BankListResponse before = bankService.getBankAndBranches(BANK_SWIFTCODE_HQ);
+        bankService.createBank(validRequest.toBuilder().swiftCode(BANK_SWIFTCODE_BRANCH).isHeadquarter(false).build());
+        BankListResponse after = bankService.getBankAndBranches(BANK_SWIFTCODE_HQ);
+
+        // Then
+        assertTrue(before.getBranches().isEmpty());
+        assertEquals(1, after.getBranches().size());
+        verify(bankLookup, times(2)).findFamily(SwiftCode.parse(BANK_SWIFTCODE_HQ));
+    }
+
     @Test
     void getBankAndBranches_bankNotFound_throwsBankNotFoundException() {
         // Given
-        when(bankRepository.findBySwiftCode(BANK_SWIFTCODE_HQ))
-                .thenReturn(Optional.empty());
+        when(bankLookup.findFamily(SwiftCode.parse(BANK_SWIFTCODE_HQ)))
+                .thenReturn(List.of());
 
         // When
         BankNotFoundException exception = assertThrows(
@@ -337,9 +405,8 @@ public class BankServiceTest {
         // Then
         assertEquals(String.format("Bank with SWIFT Code '%s' not found.",BANK_SWIFTCODE_HQ), exception.getMessage());
         verify(bankValidator).validateSwiftCode(BANK_SWIFTCODE_HQ);
-        verify(bankRepository).findBySwiftCode(BANK_SWIFTCODE_HQ);
+        verify(bankLookup).findFamily(SwiftCode.parse(BANK_SWIFTCODE_HQ));
         verify(bankMapper, never()).toBankResponse(any(Bank.class));
-        verify(bankRepository, never()).findBySwiftCodeStartingWith(anyString());
     }
 
     @Test
@@ -357,9 +424,9 @@ public class BankServiceTest {
         assertEquals("Invalid SWIFT Code", exception.getMessage());
 
         verify(bankValidator).validateSwiftCode(BANK_SWIFTCODE_HQ);
-        verify(bankRepository, never()).findBySwiftCode(anyString());
+        verify(bankLookup, never()).findBySwiftCode(any(SwiftCode.class));
         verify(bankMapper, never()).toBankResponse(any(Bank.class));
-        verify(bankRepository, never()).findBySwiftCodeStartingWith(anyString());
+        verify(bankLookup, never()).findFamily(any(SwiftCode.class));
     }
 
     @Test
@@ -386,9 +453,9 @@ public class BankServiceTest {
                 .countryName(null)
                 .build();
 
-        when(countryCodeRepository.findByCountryIso2Code(BANK_COUNTRY_CODE))
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE))
                 .thenReturn(Optional.of(country));
-        when(bankRepository.findByCountryIso2Code(BANK_COUNTRY_CODE))
+        when(bankLookup.findByCountryIso2Code(BANK_COUNTRY_CODE))
                 .thenReturn(List.of(bank1, bank2));
         when(bankMapper.toBankResponseNullCountryName(bank1)).thenReturn(response1);
         when(bankMapper.toBankResponseNullCountryName(bank2)).thenReturn(response2);
@@ -407,8 +474,8 @@ public class BankServiceTest {
         assertNull(response.getBranches().get(1).getCountryName());
 
         verify(bankValidator).validateCountryIso2Length(BANK_COUNTRY_CODE);
-        verify(countryCodeRepository).findByCountryIso2Code(BANK_COUNTRY_CODE);
-        verify(bankRepository).findByCountryIso2Code(BANK_COUNTRY_CODE);
+        verify(countryCodeRegistry).findByCountryIso2Code(BANK_COUNTRY_CODE);
+        verify(bankLookup).findByCountryIso2Code(BANK_COUNTRY_CODE);
         verify(bankMapper).toBankResponseNullCountryName(bank1);
         verify(bankMapper).toBankResponseNullCountryName(bank2);
     }
@@ -416,7 +483,7 @@ public class BankServiceTest {
     @Test
     void getBanksByIsoCode_countryCodeNotFound_throwsCountryCodeNotFoundException() {
         // Given
-        when(countryCodeRepository.findByCountryIso2Code(BANK_COUNTRY_CODE))
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE))
                 .thenReturn(Optional.empty());
 
         // When & Then
@@ -428,8 +495,8 @@ public class BankServiceTest {
         assertEquals(String.format("Country ISO2 code '%s' does not exist.", BANK_COUNTRY_CODE), exception.getMessage());
 
         verify(bankValidator).validateCountryIso2Length(BANK_COUNTRY_CODE);
-        verify(countryCodeRepository).findByCountryIso2Code(BANK_COUNTRY_CODE);
-        verify(bankRepository, never()).findByCountryIso2Code(anyString());
+        verify(countryCodeRegistry).findByCountryIso2Code(BANK_COUNTRY_CODE);
+        verify(bankLookup, never()).findByCountryIso2Code(anyString());
         verify(bankMapper, never()).toBankResponseNullCountryName(any(Bank.class));
     }
 
@@ -441,9 +508,9 @@ public class BankServiceTest {
                 .countryName(BANK_COUNTRY_NAME)
                 .build();
 
-        when(countryCodeRepository.findByCountryIso2Code(BANK_COUNTRY_CODE))
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE))
                 .thenReturn(Optional.of(country));
-        when(bankRepository.findByCountryIso2Code(BANK_COUNTRY_CODE))
+        when(bankLookup.findByCountryIso2Code(BANK_COUNTRY_CODE))
                 .thenReturn(List.of());
 
         // When & Then
@@ -455,11 +522,74 @@ public class BankServiceTest {
         assertEquals(String.format("No banks found for country code '%s'.", BANK_COUNTRY_CODE), exception.getMessage());
 
         verify(bankValidator).validateCountryIso2Length(BANK_COUNTRY_CODE);
-        verify(countryCodeRepository).findByCountryIso2Code(BANK_COUNTRY_CODE);
-        verify(bankRepository).findByCountryIso2Code(BANK_COUNTRY_CODE);
+        verify(countryCodeRegistry).findByCountryIso2Code(BANK_COUNTRY_CODE);
+        verify(bankLookup).findByCountryIso2Code(BANK_COUNTRY_CODE);
         verify(bankMapper, never()).toBankResponseNullCountryName(any(Bank.class));
     }
 
+    @Test
+    void getBanksByIsoCode_fanOutEnabledAndRegistryStale_looksUpCountryAndBanksTogether() {
+        // Given
+        ReflectionTestUtils.setField(bankService, "fanOut", true);
+        ReflectionTestUtils.setField(bankService, "fanOutTimeout", Duration.ofSeconds(5));
+        when(countryCodeRegistry.isStale()).thenReturn(true);
+        CountryCode country = CountryCode.builder()
+                .countryIso2Code(BANK_COUNTRY_CODE)
+                .countryName(BANK_COUNTRY_NAME)
+                .build();
+        Bank bank = createDefaultBank();
+        BankResponse bankResponse = createDefaultBankResponse().toBuilder()
+                .countryName(null)
+                .build();
+
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(Optional.of(country));
+        when(bankLookup.findByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(List.of(bank));
+        when(bankMapper.toBankResponseNullCountryName(bank)).thenReturn(bankResponse);
+
+        // When
+        BanksByCountryResponse response = bankService.getBanksByIsoCode(BANK_COUNTRY_CODE);
+
+        // Then
+        assertEquals(BANK_COUNTRY_NAME, response.getCountryName());
+        assertEquals(1, response.getBranches().size());
+    }
+
+    @Test
+    void getBanksByIsoCode_fanOutEnabledAndRegistryStale_unknownCountry_throwsCountryCodeNotFoundException() {
+        // Given
+        ReflectionTestUtils.setField(bankService, "fanOut", true);
+        ReflectionTestUtils.setField(bankService, "fanOutTimeout", Duration.ofSeconds(5));
+        when(countryCodeRegistry.isStale()).thenReturn(true);
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(Optional.empty());
+        when(bankLookup.findByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(List.of(createDefaultBank()));
+
+        // When & Then
+        CountryCodeNotFoundException exception = assertThrows(
+                CountryCodeNotFoundException.class,
+                () -> bankService.getBanksByIsoCode(BANK_COUNTRY_CODE)
+        );
+        assertEquals(String.format("Country ISO2 code '%s' does not exist.", BANK_COUNTRY_CODE), exception.getMessage());
+        verify(bankMapper, never()).toBankResponseNullCountryName(any(Bank.class));
+    }
+
+    @Test
+    void getBanksByIsoCode_fanOutEnabledAndRegistryFresh_skipsBankLookupForUnknownCountry() {
+        // Given
+        ReflectionTestUtils.setField(bankService, "fanOut", true);
+        ReflectionTestUtils.setField(bankService, "fanOutTimeout", Duration.ofSeconds(5));
+        when(countryCodeRegistry.isStale()).thenReturn(false);
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(CountryCodeNotFoundException.class, () -> bankService.getBanksByIsoCode(BANK_COUNTRY_CODE));
+        verify(bankLookup, never()).findByCountryIso2Code(any());
+    }
+
     @Test
     void getBanksByIsoCode_validationFails_throwsValidationException() {
         // Given
@@ -475,8 +605,115 @@ public class BankServiceTest {
         assertEquals("Invalid country ISO2 code length", exception.getMessage());
 
         verify(bankValidator).validateCountryIso2Length(BANK_COUNTRY_CODE);
-        verify(countryCodeRepository, never()).findByCountryIso2Code(anyString());
-        verify(bankRepository, never()).findByCountryIso2Code(anyString());
+        verify(countryCodeRegistry, never()).findByCountryIso2Code(anyString());
+        verify(bankLookup, never()).findByCountryIso2Code(anyString());
         verify(bankMapper, never()).toBankResponseNullCountryName(any(Bank.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void streamBanksByIsoCode_existingBanks_mapsEachBankAndClosesCursor() {
+        // Given
+        Bank bank1 = createDefaultBank();
+        Bank bank2 = createDefaultBank().toBuilder().swiftCode(BANK_SWIFTCODE_BRANCH).build();
+        BankResponse response1 = createDefaultBankResponse();
+        BankResponse response2 = createDefaultBankResponse().toBuilder().swiftCode(BANK_SWIFTCODE_BRANCH).build();
+        AtomicBoolean closed = new AtomicBoolean();
+
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(Optional.of(new CountryCode("1", BANK_COUNTRY_NAME, BANK_COUNTRY_CODE)));
+        when(bankLookup.streamByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(Stream.of(bank1, bank2).onClose(() -> closed.set(true)));
+        when(bankMapper.toBankResponse(bank1)).thenReturn(response1);
+        when(bankMapper.toBankResponse(bank2)).thenReturn(response2);
+
+        // When
+        List<BankResponse> responses;
+        try (Stream<BankResponse> stream = bankService.streamBanksByIsoCode("cn")) {
+            responses = stream.toList();
+        }
+
+        // Then
+        assertEquals(List.of(response1, response2), responses);
+        assertTrue(closed.get());
+        verify(bankValidator).validateCountryIso2Length("cn");
+    }
+
+    @Test
+    void streamBanksByIsoCode_noBanks_throwsBankNotFoundExceptionAndClosesCursor() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(Optional.of(new CountryCode("1", BANK_COUNTRY_NAME, BANK_COUNTRY_CODE)));
+        when(bankLookup.streamByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(Stream.<Bank>empty().onClose(() -> closed.set(true)));
+
+        // When & Then
+        BankNotFoundException exception = assertThrows(
+                BankNotFoundException.class,
+                () -> bankService.streamBanksByIsoCode(BANK_COUNTRY_CODE)
+        );
+
+        assertEquals("No banks found for country code 'CN'.", exception.getMessage());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void streamBanksByIsoCode_countryCodeNotFound_doesNotOpenCursor() {
+        // Given
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(CountryCodeNotFoundException.class, () -> bankService.streamBanksByIsoCode(BANK_COUNTRY_CODE));
+        verify(bankLookup, never()).streamByCountryIso2Code(anyString());
+    }
+
+    @Test
+    void getBanksPageByIsoCode_moreBanksThanLimit_returnsPageWithNextCursor() {
+        // Given
+        ReflectionTestUtils.setField(bankService, "maxPageLimit", 1000);
+        Bank bank1 = createDefaultBank();
+        Bank bank2 = createDefaultBank().toBuilder().swiftCode(BANK_SWIFTCODE_BRANCH).build();
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(Optional.of(new CountryCode("1", BANK_COUNTRY_NAME, BANK_COUNTRY_CODE)));
+        when(bankLookup.findPageByCountryIso2Code(BANK_COUNTRY_CODE, null, 2)).thenReturn(List.of(bank1, bank2));
+        when(bankMapper.toBankResponseNullCountryName(bank1)).thenReturn(createDefaultBankResponse());
+
+        // When
+        BanksByCountryResponse response = bankService.getBanksPageByIsoCode(BANK_COUNTRY_CODE, 1, null);
+
+        // Then
+        assertEquals(1, response.getBranches().size());
+        assertEquals(CountryPageCursor.encode(BANK_COUNTRY_CODE, BANK_SWIFTCODE_HQ), response.getNextCursor());
+    }
+
+    @Test
+    void getBanksPageByIsoCode_lastPage_resumesAfterCursorWithoutNextCursor() {
+        // Given
+        ReflectionTestUtils.setField(bankService, "defaultPageLimit", 100);
+        ReflectionTestUtils.setField(bankService, "maxPageLimit", 1000);
+        Bank branch = createDefaultBank().toBuilder().swiftCode(BANK_SWIFTCODE_BRANCH).build();
+        when(countryCodeRegistry.findByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(Optional.of(new CountryCode("1", BANK_COUNTRY_NAME, BANK_COUNTRY_CODE)));
+        when(bankLookup.findPageByCountryIso2Code(BANK_COUNTRY_CODE, BANK_SWIFTCODE_HQ, 101)).thenReturn(List.of(branch));
+        when(bankMapper.toBankResponseNullCountryName(branch)).thenReturn(createDefaultBankResponse());
+
+        // When
+        BanksByCountryResponse response = bankService.getBanksPageByIsoCode(
+                BANK_COUNTRY_CODE, null, CountryPageCursor.encode(BANK_COUNTRY_CODE, BANK_SWIFTCODE_HQ));
+
+        // Then
+        assertEquals(1, response.getBranches().size());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void getBanksPageByIsoCode_limitAboveMaximum_throwsValidationException() {
+        // Given
+        ReflectionTestUtils.setField(bankService, "maxPageLimit", 1000);
+        doCallRealMethod().when(bankValidator).validatePageLimit(anyInt(), anyInt());
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> bankService.getBanksPageByIsoCode(BANK_COUNTRY_CODE, 1001, null));
+        verifyNoInteractions(bankLookup);
+    }
+}
@@ -0,0 +1,40 @@
+package com.exercise.swiftcode.service.bank;
+
+import com.exercise.swiftcode.config.exceptions.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CountryPageCursorTest {
+    @Test
+    void decode_encodedCursor_returnsLastSwiftCode() {
+        // Given
+        String cursor = CountryPageCursor.encode("PL", "BREXPLPWXXX");
+
+        // When
+        String swiftCode = CountryPageCursor.decode(cursor, "PL");
+
+        // Then
+        assertEquals("BREXPLPWXXX", swiftCode);
+        assertFalse(cursor.contains("BREXPLPWXXX"));
+    }
+
+    @Test
+    void decode_cursorOfAnotherCountry_throwsValidationException() {
+        // Given
+        String cursor = CountryPageCursor.encode("PL", "BREXPLPWXXX");
+
+        // When & Then
+        ValidationException exception = assertThrows(ValidationException.class, () -> CountryPageCursor.decode(cursor, "DE"));
+        assertEquals("Invalid page cursor.", exception.getMessage());
+    }
+
+    @Test
+    void decode_malformedCursor_throwsValidationException() {
+        // When & Then
+        assertThrows(ValidationException.class, () -> CountryPageCursor.decode("not a cursor!", "PL"));
+        assertThrows(ValidationException.class, () -> CountryPageCursor.decode(CountryPageCursor.encode("PL", "SHORT"), "PL"));
+    }
+}
@@ -0,0 +1,224 @@
+package com.exercise.swiftcode.service.bank;
+
+import com.exercise.swiftcode.api.bank.BankMapper;
+import com.exercise.swiftcode.api.bank.BankValidator;
+import com.exercise.swiftcode.api.bank.request.CreateBankRequest;
+import com.exercise.swiftcode.api.bank.response.BankListResponse;
+import com.exercise.swiftcode.api.bank.response.BankResponse;
+import com.exercise.swiftcode.api.bank.response.BanksByCountryResponse;
+import com.exercise.swiftcode.api.bank.response.MessageResponse;
+import com.exercise.swiftcode.config.exceptions.BankNotFoundException;
+import com.exercise.swiftcode.config.exceptions.CountryCodeNotFoundException;
+import com.exercise.swiftcode.config.exceptions.ValidationException;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.persistence.entity.CountryCode;
+import com.exercise.swiftcode.persistence.reactive.ReactiveBankRepository;
+import com.exercise.swiftcode.persistence.reactive.ReactiveCountryCodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveBankServiceTest {
+    @InjectMocks
+    private ReactiveBankService bankService;
+
+    @Mock
+    private BankMapper bankMapper;
+
+    @Mock
+    private BankValidator bankValidator;
+
+    @Mock
+    private ReactiveBankRepository bankRepository;
+
+    @Mock
+    private ReactiveCountryCodeRepository countryCodeRepository;
+
+    private CreateBankRequest validRequest;
+
+    private static final String BANK_NAME = "Bank Name";
+    private static final String BANK_ADDRESS = "Bank Address";
+    private static final String BANK_COUNTRY_NAME = "Country Name";
+    private static final String BANK_COUNTRY_CODE = "CN";
+    private static final String BANK_SWIFTCODE_HQ = "TESTUS33XXX";
+    private static final String BANK_SWIFTCODE_BRANCH = "TESTUS33111";
+    private static final String BANK_SWIFTCODE_PREFIX = "TESTUS33";
+
+    @BeforeEach
+    void setUp() {
+        validRequest = CreateBankRequest.builder()
+                .swiftCode(BANK_SWIFTCODE_HQ)
+                .isHeadquarter(true)
+                .bankName(BANK_NAME)
+                .address(BANK_ADDRESS)
+                .countryISO2(BANK_COUNTRY_CODE)
+                .countryName(BANK_COUNTRY_NAME)
+                .build();
+    }
+
+    private Bank createDefaultBank() {
+        return Bank.builder()
+                .swiftCode(BANK_SWIFTCODE_HQ)
+                .name(BANK_NAME)
+                .address(BANK_ADDRESS)
+                .countryIso2Code(BANK_COUNTRY_CODE)
+                .countryName(BANK_COUNTRY_NAME)
+                .build();
+    }
+
+    private BankResponse createDefaultBankResponse() {
+        return BankResponse.builder()
+                .swiftCode(BANK_SWIFTCODE_HQ)
+                .bankName(BANK_NAME)
+                .address(BANK_ADDRESS)
+                .countryISO2(BANK_COUNTRY_CODE)
+                .countryName(BANK_COUNTRY_NAME)
+                .build();
+    }
+
+    @Test
+    void createBank_successfulCreation_returnsSuccessMessage() {
+        // Given
+        Bank bank = createDefaultBank();
+        when(countryCodeRepository.findByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(Mono.just(new CountryCode("1", BANK_COUNTRY_NAME, BANK_COUNTRY_CODE)));
+        when(bankMapper.toBank(any(CreateBankRequest.class))).thenReturn(bank);
+        when(bankRepository.insert(bank)).thenReturn(Mono.just(bank));
+
+        // When
+        MessageResponse response = bankService.createBank(validRequest).block();
+
+        // Then
+        assertNotNull(response);
+        assertEquals("Bank successfully created.", response.getMessage());
+        verify(bankValidator).validateCreateBankRequest(validRequest);
+        verify(bankRepository).insert(bank);
+    }
+
+    @Test
+    void createBank_duplicateSwiftCode_propagatesDuplicateKeyException() {
+        // Given
+        Bank bank = createDefaultBank();
+        when(countryCodeRepository.findByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(Mono.just(new CountryCode("1", BANK_COUNTRY_NAME, BANK_COUNTRY_CODE)));
+        when(bankMapper.toBank(any(CreateBankRequest.class))).thenReturn(bank);
+        when(bankRepository.insert(bank)).thenReturn(Mono.error(new DuplicateKeyException("E11000 duplicate key")));
+
+        // When & Then
+        assertThrows(DuplicateKeyException.class, () -> bankService.createBank(validRequest).block());
+    }
+
+    @Test
+    void createBank_countryCodeNotFound_throwsCountryCodeNotFoundException() {
+        // Given
+        when(countryCodeRepository.findByCountryIso2Code(BANK_COUNTRY_CODE)).thenReturn(Mono.empty());
+
+        // When & Then
+        CountryCodeNotFoundException exception = assertThrows(
+                CountryCodeNotFoundException.class,
+                () -> bankService.createBank(validRequest).block()
+        );
+
+        assertEquals(String.format("Country ISO2 code '%s' does not exist.", BANK_COUNTRY_CODE), exception.getMessage());
+        verify(bankRepository, never()).insert(any(Bank.class));
+    }
+
+    @Test
+    void createBank_invalidRequest_failsBeforeAnyQuery() {
+        // Given
+        doThrow(new ValidationException("SWIFT Code must be exactly 11 characters long."))
+                .when(bankValidator).validateCreateBankRequest(validRequest);
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> bankService.createBank(validRequest).block());
+        verifyNoInteractions(countryCodeRepository, bankRepository);
+    }
+
+    @Test
+    void deleteBank_headquarter_deletesWholePrefix() {
+        // Given
+        when(bankRepository.findBySwiftCode(BANK_SWIFTCODE_HQ)).thenReturn(Mono.just(createDefaultBank()));
+        when(bankRepository.deleteBySwiftCodePrefix(BANK_SWIFTCODE_PREFIX)).thenReturn(Mono.just(2L));
+
+        // When
+        MessageResponse response = bankService.deleteBank(BANK_SWIFTCODE_HQ).block();
+
+        // Then
+        assertNotNull(response);
+        assertEquals("Bank successfully deleted.", response.getMessage());
+        verify(bankRepository, never()).deleteBySwiftCode(anyString());
+    }
+
+    @Test
+    void deleteBank_bankNotFound_throwsBankNotFoundException() {
+        // Given
+        when(bankRepository.findBySwiftCode(BANK_SWIFTCODE_BRANCH)).thenReturn(Mono.empty());
+
+        // When & Then
+        BankNotFoundException exception = assertThrows(
+                BankNotFoundException.class,
+                () -> bankService.deleteBank(BANK_SWIFTCODE_BRANCH).block()
+        );
+
+        assertEquals("Bank with SWIFT Code '" + BANK_SWIFTCODE_BRANCH + "' not found.", exception.getMessage());
+        verify(bankRepository, never()).deleteBySwiftCode(anyString());
+    }
+
+    @Test
+    void getBankAndBranches_headquarterWithBranch_returnsBankWithBranches() {
+        // Given
+        Bank hq = createDefaultBank();
+        Bank branch = createDefaultBank().toBuilder().swiftCode(BANK_SWIFTCODE_BRANCH).build();
+        BankResponse branchResponse = createDefaultBankResponse().toBuilder().swiftCode(BANK_SWIFTCODE_BRANCH).build();
+        when(bankRepository.findBySwiftCodePrefix(BANK_SWIFTCODE_PREFIX)).thenReturn(Flux.just(hq, branch));
+        when(bankMapper.toBankResponse(hq)).thenReturn(createDefaultBankResponse());
+        when(bankMapper.toBankResponseNullCountryName(branch)).thenReturn(branchResponse);
+
+        // When
+        BankListResponse response = bankService.getBankAndBranches(BANK_SWIFTCODE_HQ).block();
+
+        // Then
+        assertNotNull(response);
+        assertEquals(BANK_SWIFTCODE_HQ, response.getSwiftCode());
+        assertEquals(1, response.getBranches().size());
+        assertEquals(BANK_SWIFTCODE_BRANCH, response.getBranches().get(0).getSwiftCode());
+    }
+
+    @Test
+    void getBanksByIsoCode_unknownCountry_throwsCountryCodeNotFoundException() {
+        // Given
+        when(countryCodeRepository.findByCountryIso2Code("XX")).thenReturn(Mono.empty());
+        when(bankRepository.findByCountryIso2Code("XX")).thenReturn(Flux.empty());
+
+        // When & Then
+        assertThrows(CountryCodeNotFoundException.class, () -> bankService.getBanksByIsoCode("xx").block());
+    }
+
+    @Test
+    void getBanksByIsoCode_existingBanks_returnsCountryWithBanks() {
+        // Given
+        Bank bank = createDefaultBank();
+        when(countryCodeRepository.findByCountryIso2Code(BANK_COUNTRY_CODE))
+                .thenReturn(Mono.just(new CountryCode("1", BANK_COUNTRY_NAME, BANK_COUNTRY_CODE)));
+        when(bankRepository.findByCountryIso2Code(BANK_COUNTRY_CODE)).thenReturn(Flux.just(bank));
+        when(bankMapper.toBankResponseNullCountryName(bank)).thenReturn(createDefaultBankResponse());
+
+        // When
+        BanksByCountryResponse response = bankService.getBanksByIsoCode(BANK_COUNTRY_CODE).block();
+
+        // Then
+        assertNotNull(response);
+        assertEquals(BANK_COUNTRY_CODE, response.getCountryISO2());
+        assertEquals(1, response.getBranches().size());
+    }
+}
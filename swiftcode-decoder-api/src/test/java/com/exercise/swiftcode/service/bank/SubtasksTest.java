@@ -0,0 +1,81 @@
+package com.exercise.swiftcode.service.bank;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SubtasksTest {
+
+    @Test
+    void both_runsSubtasksConcurrently() {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // When
+        Subtasks.Both<String, Integer> result = Subtasks.both(
+                () -> awaitOther(bothStarted, "PL"),
+                () -> awaitOther(bothStarted, 2),
+                Duration.ofSeconds(5));
+
+        // Then
+        assertEquals("PL", result.first());
+        assertEquals(2, result.second());
+    }
+
+    @Test
+    void both_oneFails_rethrowsAndInterruptsTheOther() throws Exception {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> Subtasks.both(
+                () -> sleepUntilInterrupted(interrupted),
+                () -> {
+                    throw new IllegalStateException("down");
+                },
+                Duration.ofSeconds(30)));
+        assertEquals("down", exception.getMessage());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void both_deadlinePasses_throwsQueryTimeoutAndInterruptsBoth() throws Exception {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(2);
+
+        // When & Then
+        assertThrows(QueryTimeoutException.class, () -> Subtasks.both(
+                () -> sleepUntilInterrupted(interrupted),
+                () -> sleepUntilInterrupted(interrupted),
+                Duration.ofMillis(50)));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    private static <T> T awaitOther(CountDownLatch bothStarted, T value) {
+        bothStarted.countDown();
+        try {
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Subtasks ran one after the other.");
+            }
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+
+    private static String sleepUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(Duration.ofMinutes(1));
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,135 @@
+package com.exercise.swiftcode.service.country;
+
+import com.exercise.swiftcode.persistence.entity.CountryCode;
+import com.exercise.swiftcode.persistence.repository.CountryCodeRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CountryCodeRegistryTest {
+    @Mock
+    private CountryCodeRepository countryCodeRepository;
+
+    @InjectMocks
+    private CountryCodeRegistry countryCodeRegistry;
+
+    private static final CountryCode POLAND = new CountryCode("1", "POLAND", "PL");
+    private static final CountryCode GERMANY = new CountryCode("2", "GERMANY", "DE");
+
+    @Test
+    void findByCountryIso2Code_loadsTableOnceAndAnswersFromMemory() {
+        // Given
+        when(countryCodeRepository.findAll()).thenReturn(List.of(POLAND, GERMANY));
+
+        // When
+        CountryCode first = countryCodeRegistry.findByCountryIso2Code("PL").orElseThrow();
+        CountryCode second = countryCodeRegistry.findByCountryIso2Code("DE").orElseThrow();
+
+        // Then
+        assertEquals("POLAND", first.getCountryName());
+        assertEquals("GERMANY", second.getCountryName());
+        verify(countryCodeRepository, times(1)).findAll();
+    }
+
+    @Test
+    void findByCountryIso2Code_unknownCode_returnsEmpty() {
+        // Given
+        when(countryCodeRepository.findAll()).thenReturn(List.of(POLAND));
+
+        // When & Then
+        assertTrue(countryCodeRegistry.findByCountryIso2Code("XX").isEmpty());
+    }
+
+    @Test
+    void findByCountryIso2Code_afterCountryCodesChange_reloadsTable() {
+        // Given
+        when(countryCodeRepository.findAll()).thenReturn(List.of(POLAND), List.of(POLAND, GERMANY), List.of());
+        countryCodeRegistry.findByCountryIso2Code("PL");
+
+        // When
+        countryCodeRegistry.onAfterSave(new AfterSaveEvent<>(GERMANY, new Document(), "country_codes"));
+        boolean presentAfterSave = countryCodeRegistry.findByCountryIso2Code("DE").isPresent();
+        countryCodeRegistry.onAfterDelete(new AfterDeleteEvent<>(new Document(), CountryCode.class, "country_codes"));
+        boolean presentAfterDelete = countryCodeRegistry.findByCountryIso2Code("PL").isPresent();
+
+        // Then
+        assertTrue(presentAfterSave);
+        assertFalse(presentAfterDelete);
+        verify(countryCodeRepository, times(3)).findAll();
+    }
+
+    @Test
+    void findByCountryIso2Code_afterFailedLoad_retriesOnNextLookup() {
+        // Given
+        when(countryCodeRepository.findAll())
+                .thenThrow(new DataAccessResourceFailureException("Mongo unavailable"))
+                .thenReturn(List.of(POLAND));
+
+        // When
+        assertThrows(DataAccessResourceFailureException.class, () -> countryCodeRegistry.findByCountryIso2Code("PL"));
+        boolean staleAfterFailure = countryCodeRegistry.isStale();
+        CountryCode poland = countryCodeRegistry.findByCountryIso2Code("PL").orElseThrow();
+
+        // Then
+        assertTrue(staleAfterFailure);
+        assertEquals("POLAND", poland.getCountryName());
+        verify(countryCodeRepository, times(2)).findAll();
+    }
+
+    @Test
+    void isStale_untilLoadedAndAgainAfterAWrite() {
+        // Given
+        when(countryCodeRepository.findAll()).thenReturn(List.of(POLAND));
+        boolean staleBeforeLoad = countryCodeRegistry.isStale();
+
+        // When
+        countryCodeRegistry.findByCountryIso2Code("PL");
+        boolean staleAfterLoad = countryCodeRegistry.isStale();
+        countryCodeRegistry.onAfterSave(new AfterSaveEvent<>(GERMANY, new Document(), "country_codes"));
+
+        // Then
+        assertTrue(staleBeforeLoad);
+        assertFalse(staleAfterLoad);
+        assertTrue(countryCodeRegistry.isStale());
+    }
+
+    @Test
+    void findByCountryIso2Code_lowercaseCode_matchesUppercaseEntry() {
+        // Given
+        when(countryCodeRepository.findAll()).thenReturn(List.of(POLAND));
+
+        // When & Then
+        assertEquals(POLAND, countryCodeRegistry.findByCountryIso2Code("pl").orElseThrow());
+    }
+
+    @Test
+    void slotOf_mapsEveryLetterPairToDistinctSlotAndRejectsOtherInput() {
+        // Then
+        assertEquals(0, CountryCodeRegistry.slotOf("AA"));
+        assertEquals(26 * 26 - 1, CountryCodeRegistry.slotOf("ZZ"));
+        assertEquals(CountryCodeRegistry.slotOf("PL"), CountryCodeRegistry.slotOf("pL"));
+        assertEquals(-1, CountryCodeRegistry.slotOf("P1"));
+        assertEquals(-1, CountryCodeRegistry.slotOf("@A"));
+        assertEquals(-1, CountryCodeRegistry.slotOf("[A"));
+        assertEquals(-1, CountryCodeRegistry.slotOf("\u0141A"));
+        assertEquals(-1, CountryCodeRegistry.slotOf("PLN"));
+        assertEquals(-1, CountryCodeRegistry.slotOf(null));
+    }
+}
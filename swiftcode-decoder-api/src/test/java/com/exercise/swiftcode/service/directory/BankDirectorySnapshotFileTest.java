@@ -0,0 +1,71 @@
+package com.exercise.swiftcode.service.directory;
+
+import com.exercise.swiftcode.domain.SwiftCode;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BankDirectorySnapshotFileTest {
+    private static final List<Bank> BANKS = List.of(
+            Bank.builder().swiftCode("TESTUS33111").name("BRANCH").address("1 MAIN ST").countryIso2Code("US").countryName("UNITED STATES").build(),
+            Bank.builder().swiftCode("TESTUS33XXX").name("HEADQUARTER ŁÓDŹ").countryIso2Code("US").countryName("UNITED STATES").build(),
+            Bank.builder().swiftCode("BREXPLPWXXX").name("MBANK").address("").countryIso2Code("PL").countryName("POLAND").build(),
+            Bank.builder().swiftCode("NOCOXXXXXXX").build());
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void writeThenRead_restoresSameLookups() throws Exception {
+        // Given
+        BankDirectory original = BankDirectory.of(BANKS);
+        Path file = dir.resolve("banks.snapshot");
+
+        // When
+        BankDirectorySnapshotFile.write(original, file);
+        BankDirectory restored = BankDirectorySnapshotFile.read(file);
+
+        // Then
+        assertEquals(original.size(), restored.size());
+        for (int row = 0; row < original.size(); row++) {
+            assertEquals(original.bankAt(row), restored.bankAt(row));
+        }
+        assertEquals(original.family(SwiftCode.parse("TESTUS33XXX")), restored.family(SwiftCode.parse("TESTUS33XXX")));
+        assertEquals(original.byCountry("US"), restored.byCountry("US"));
+        Bank withoutCountry = restored.bankAt(restored.indexOf(SwiftCode.parse("NOCOXXXXXXX")));
+        assertEquals(null, withoutCountry.getCountryName());
+        assertEquals(null, withoutCountry.getAddress());
+        assertEquals("", restored.bankAt(restored.indexOf(SwiftCode.parse("BREXPLPWXXX"))).getAddress());
+        try (var files = Files.list(dir)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    @Test
+    void read_flippedOrTruncatedFile_throwsIOException() throws Exception {
+        // Given
+        Path file = dir.resolve("banks.snapshot");
+        BankDirectorySnapshotFile.write(BankDirectory.of(BANKS), file);
+        byte[] bytes = Files.readAllBytes(file);
+        byte[] flipped = bytes.clone();
+        flipped[20] ^= 1;
+        Path flippedFile = Files.write(dir.resolve("flipped.snapshot"), flipped);
+        Path truncatedFile = Files.write(dir.resolve("truncated.snapshot"), Arrays.copyOf(bytes, bytes.length / 2));
+
+        // When & Then
+        IOException flippedException = assertThrows(IOException.class, () -> BankDirectorySnapshotFile.read(flippedFile));
+        assertTrue(flippedException.getMessage().contains("checksum mismatch"));
+        assertThrows(IOException.class, () -> BankDirectorySnapshotFile.read(truncatedFile));
+        assertThrows(IOException.class, () -> BankDirectorySnapshotFile.read(dir.resolve("missing.snapshot")));
+    }
+}
@@ -0,0 +1,154 @@
+package com.exercise.swiftcode.service.directory;
+
+import com.exercise.swiftcode.domain.SwiftCode;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BankDirectoryTest {
+    private static final List<Bank> BANKS = List.of(
+            bank("TESTUS33111", "US"),
+            bank("TESTUS33XXX", "US"),
+            bank("TESTUS32XXX", "US"),
+            bank("TESTUS34XXX", "US"),
+            bank("BREXPLPWXXX", "PL"),
+            bank("BREXPLPW003", "PL"),
+            bank("INVALID", "PL"));
+
+    @Test
+    void indexOf_existingCode_returnsRowWithAllColumns() {
+        // Given
+        BankDirectory directory = BankDirectory.of(BANKS);
+
+        // When
+        int row = directory.indexOf(SwiftCode.parse("TESTUS33111"));
+
+        // Then
+        assertTrue(row >= 0);
+        Bank bank = directory.bankAt(row);
+        assertEquals("TESTUS33111", bank.getSwiftCode());
+        assertEquals("Bank TESTUS33111", bank.getName());
+        assertEquals("US", bank.getCountryIso2Code());
+        assertEquals(-1, directory.indexOf(SwiftCode.parse("TESTUS33222")));
+    }
+
+    @Test
+    void family_returnsOnlyCodesSharingPrefix() {
+        // Given
+        BankDirectory directory = BankDirectory.of(BANKS);
+
+        // When
+        List<Bank> family = directory.family(SwiftCode.parse("TESTUS33XXX"));
+
+        // Then
+        assertEquals(List.of("TESTUS33111", "TESTUS33XXX"), family.stream().map(Bank::getSwiftCode).toList());
+    }
+
+    @Test
+    void byCountry_returnsBanksOfThatCountryInLoadOrder() {
+        // Given
+        BankDirectory directory = BankDirectory.of(BANKS);
+
+        // When
+        List<Bank> poland = directory.byCountry("pl");
+        List<Bank> germany = directory.byCountry("DE");
+
+        // Then
+        assertEquals(List.of("BREXPLPWXXX", "BREXPLPW003"), poland.stream().map(Bank::getSwiftCode).toList());
+        assertTrue(germany.isEmpty());
+        assertTrue(directory.byCountry("P1").isEmpty());
+    }
+
+    @Test
+    void pageByCountry_returnsBanksInCodeOrderAfterTheCursor() {
+        // Given
+        BankDirectory directory = BankDirectory.of(BANKS);
+
+        // When
+        List<Bank> first = directory.pageByCountry("US", null, 2);
+        List<Bank> next = directory.pageByCountry("US", "TESTUS33111", 2);
+        List<Bank> between = directory.pageByCountry("US", "TESTUS33", 10);
+
+        // Then
+        assertEquals(List.of("TESTUS32XXX", "TESTUS33111"), first.stream().map(Bank::getSwiftCode).toList());
+        assertEquals(List.of("TESTUS33XXX", "TESTUS34XXX"), next.stream().map(Bank::getSwiftCode).toList());
+        assertEquals(List.of("TESTUS33111", "TESTUS33XXX", "TESTUS34XXX"), between.stream().map(Bank::getSwiftCode).toList());
+        assertTrue(directory.pageByCountry("US", "TESTUS34XXX", 2).isEmpty());
+        assertTrue(directory.pageByCountry("DE", null, 2).isEmpty());
+    }
+
+    @Test
+    void of_invalidSwiftCode_isLeftOut() {
+        // When
+        BankDirectory directory = BankDirectory.of(BANKS);
+
+        // Then
+        assertEquals(BANKS.size() - 1, directory.size());
+    }
+
+    @Test
+    void with_appliesUpsertsAndRemovalsKeepingLoadOrder() {
+        // Given
+        BankDirectory directory = BankDirectory.of(BANKS);
+        Map<Long, Bank> changes = new LinkedHashMap<>();
+        changes.put(SwiftCode.pack("BREXPLPWXXX"), bank("BREXPLPWXXX", "PL").toBuilder().name("Renamed").build());
+        changes.put(SwiftCode.pack("TESTUS33111"), null);
+        changes.put(SwiftCode.pack("BREXPLPW001"), bank("BREXPLPW001", "PL"));
+
+        // When
+        BankDirectory updated = directory.with(changes);
+
+        // Then
+        assertEquals(directory.size(), updated.size());
+        assertEquals(-1, updated.indexOf(SwiftCode.parse("TESTUS33111")));
+        assertEquals(List.of("BREXPLPWXXX", "BREXPLPW003", "BREXPLPW001"),
+                updated.byCountry("PL").stream().map(Bank::getSwiftCode).toList());
+        assertEquals("Renamed", updated.byCountry("PL").getFirst().getName());
+        assertTrue(directory.indexOf(SwiftCode.parse("TESTUS33111")) >= 0);
+    }
+
+    @Test
+    void with_mergedRowsMatchAFullRebuild() {
+        // Given
+        BankDirectory directory = BankDirectory.of(BANKS);
+        Map<Long, Bank> changes = new LinkedHashMap<>();
+        changes.put(SwiftCode.pack("AAAAUS33XXX"), bank("AAAAUS33XXX", "US"));
+        changes.put(SwiftCode.pack("TESTUS33XXX"), bank("TESTUS33XXX", "DE"));
+        changes.put(SwiftCode.pack("TESTUS34XXX"), null);
+        changes.put(SwiftCode.pack("ZZZZUS33XXX"), bank("ZZZZUS33XXX", "US"));
+        changes.put(SwiftCode.pack("TESTUS99XXX"), null);
+
+        // When
+        BankDirectory updated = directory.with(changes);
+
+        // Then
+        BankDirectory rebuilt = BankDirectory.of(List.of(
+                bank("TESTUS33111", "US"), bank("TESTUS33XXX", "DE"), bank("TESTUS32XXX", "US"),
+                bank("BREXPLPWXXX", "PL"), bank("BREXPLPW003", "PL"),
+                bank("AAAAUS33XXX", "US"), bank("ZZZZUS33XXX", "US")));
+        assertEquals(rebuilt.size(), updated.size());
+        for (int row = 0; row < rebuilt.size(); row++) {
+            assertEquals(rebuilt.bankAt(row), updated.bankAt(row));
+            assertEquals(rebuilt.rowInLoadOrder(row), updated.rowInLoadOrder(row));
+        }
+        assertEquals(List.of("TESTUS33XXX"), updated.byCountry("DE").stream().map(Bank::getSwiftCode).toList());
+        assertEquals(List.of("TESTUS33111", "TESTUS32XXX", "AAAAUS33XXX", "ZZZZUS33XXX"),
+                updated.byCountry("US").stream().map(Bank::getSwiftCode).toList());
+    }
+
+    private static Bank bank(String swiftCode, String countryIso2) {
+        return Bank.builder()
+                .swiftCode(swiftCode)
+                .name("Bank " + swiftCode)
+                .address("Address")
+                .countryIso2Code(countryIso2)
+                .countryName(countryIso2)
+                .build();
+    }
+}
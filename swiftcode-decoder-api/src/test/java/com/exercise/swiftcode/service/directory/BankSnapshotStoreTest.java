@@ -0,0 +1,122 @@
+package com.exercise.swiftcode.service.directory;
+
+import com.exercise.swiftcode.domain.SwiftCode;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BankSnapshotStoreTest {
+    private final List<Bank> mongo = new CopyOnWriteArrayList<>();
+    private final BankSnapshotStore store = new BankSnapshotStore(() -> mongo, 256);
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void submit_upsert_publishesNewSnapshotWithNextVersion() {
+        // Given
+        BankSnapshot before = store.current();
+
+        // When
+        BankSnapshot published = store.submit(new BankMutation.Upsert(bank("TESTUS33XXX"))).join();
+
+        // Then
+        assertEquals(before.version() + 1, published.version());
+        assertEquals(published, store.current());
+        assertTrue(published.directory().indexOf(SwiftCode.parse("TESTUS33XXX")) >= 0);
+        assertEquals(0, before.directory().size());
+    }
+
+    @Test
+    void submit_removeFamily_removesHeadquarterAndBranchesOnly() {
+        // Given
+        for (String code : List.of("TESTUS33XXX", "TESTUS33111", "TESTUS34XXX")) {
+            store.submit(new BankMutation.Upsert(bank(code))).join();
+        }
+
+        // When
+        BankDirectory directory = store.submit(new BankMutation.RemoveFamily(SwiftCode.parse("TESTUS33XXX"))).join().directory();
+
+        // Then
+        assertEquals(1, directory.size());
+        assertTrue(directory.indexOf(SwiftCode.parse("TESTUS34XXX")) >= 0);
+    }
+
+    @Test
+    void submit_reload_replacesDirectoryWithLoadedBanks() {
+        // Given
+        store.submit(new BankMutation.Upsert(bank("TESTUS33XXX"))).join();
+        mongo.add(bank("TESTUS34XXX"));
+
+        // When
+        BankDirectory directory = store.submit(new BankMutation.Reload()).join().directory();
+
+        // Then
+        assertEquals(1, directory.size());
+        assertEquals(-1, directory.indexOf(SwiftCode.parse("TESTUS33XXX")));
+    }
+
+    @Test
+    void submit_concurrentWriters_everyMutationLandsAndBatchesShareVersions() {
+        // Given
+        List<CompletableFuture<BankSnapshot>> futures = new ArrayList<>();
+
+        // When
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int writer = t;
+            writers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 100; i++) {
+                    CompletableFuture<BankSnapshot> future = store.submit(new BankMutation.Upsert(bank(String.format("BANK%02dUS%03d", writer, i))));
+                    synchronized (futures) {
+                        futures.add(future);
+                    }
+                }
+            }));
+        }
+        writers.forEach(this::join);
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        BankSnapshot last = store.current();
+        assertEquals(400, last.directory().size());
+        assertTrue(last.version() <= 400);
+    }
+
+    @Test
+    void submit_afterClose_fails() {
+        // Given
+        store.close();
+
+        // When & Then
+        assertThrows(CompletionException.class, () -> store.submit(new BankMutation.Reload()).join());
+    }
+
+    private void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Bank bank(String swiftCode) {
+        return Bank.builder()
+                .swiftCode(swiftCode)
+                .name("Bank " + swiftCode)
+                .countryIso2Code("US")
+                .build();
+    }
+}
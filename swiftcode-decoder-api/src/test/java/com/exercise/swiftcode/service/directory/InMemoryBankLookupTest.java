@@ -0,0 +1,254 @@
+package com.exercise.swiftcode.service.directory;
+
+import com.exercise.swiftcode.domain.SwiftCode;
+import com.exercise.swiftcode.loader.BankCollectionSwappedEvent;
+import com.exercise.swiftcode.loader.BankImportCompletedEvent;
+import com.exercise.swiftcode.loader.BankImportStartedEvent;
+import com.exercise.swiftcode.persistence.entity.Bank;
+import com.exercise.swiftcode.persistence.repository.BankRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryBankLookupTest {
+    @Mock
+    private BankRepository bankRepository;
+
+    private InMemoryBankLookup inMemoryBankLookup;
+
+    private static final Bank HEADQUARTER = Bank.builder().swiftCode("TESTUS33XXX").countryIso2Code("US").build();
+    private static final Bank BRANCH = Bank.builder().swiftCode("TESTUS33111").countryIso2Code("US").build();
+    private static final Duration WRITE_TIMEOUT = Duration.ofSeconds(5);
+
+    @BeforeEach
+    void setUp() {
+        inMemoryBankLookup = new InMemoryBankLookup(bankRepository, 256, "", WRITE_TIMEOUT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inMemoryBankLookup.close();
+    }
+
+    @Test
+    void refresh_loadsDirectoryOnceAndAnswersFromMemory() {
+        // Given
+        when(bankRepository.findAll()).thenReturn(List.of(HEADQUARTER, BRANCH));
+
+        // When
+        inMemoryBankLookup.refresh();
+        List<Bank> family = inMemoryBankLookup.findFamily(SwiftCode.parse("TESTUS33XXX"));
+        List<Bank> country = inMemoryBankLookup.findByCountryIso2Code("US");
+
+        // Then
+        assertEquals(2, family.size());
+        assertEquals(2, country.size());
+        assertEquals(1, inMemoryBankLookup.version().orElseThrow());
+        verify(bankRepository, times(1)).findAll();
+    }
+
+    @Test
+    void onAfterSave_beforeStartup_isIgnored() {
+        // When
+        inMemoryBankLookup.onAfterSave(new AfterSaveEvent<>(BRANCH, new Document(), "banks"));
+
+        // Then
+        assertTrue(inMemoryBankLookup.findBySwiftCode(SwiftCode.parse("TESTUS33111")).isEmpty());
+        assertEquals(0, inMemoryBankLookup.version().orElseThrow());
+    }
+
+    @Test
+    void onAfterSaveAndDelete_applyChangeWithoutReloading() {
+        // Given
+        when(bankRepository.findAll()).thenReturn(List.of(HEADQUARTER));
+        inMemoryBankLookup.refresh();
+
+        // When
+        inMemoryBankLookup.onAfterSave(new AfterSaveEvent<>(BRANCH, new Document(), "banks"));
+        inMemoryBankLookup.awaitWrites();
+        boolean presentAfterSave = inMemoryBankLookup.findBySwiftCode(SwiftCode.parse("TESTUS33111")).isPresent();
+        inMemoryBankLookup.onAfterDelete(new AfterDeleteEvent<>(new Document("swiftCodePrefix", "TESTUS33"), Bank.class, "banks"));
+        inMemoryBankLookup.awaitWrites();
+        boolean familyPresentAfterDelete = !inMemoryBankLookup.findFamily(SwiftCode.parse("TESTUS33XXX")).isEmpty();
+
+        // Then
+        assertTrue(presentAfterSave);
+        assertFalse(familyPresentAfterDelete);
+        assertEquals(3, inMemoryBankLookup.version().orElseThrow());
+        verify(bankRepository, times(1)).findAll();
+    }
+
+    @Test
+    void awaitWrites_afterManySaves_seesAllOfThem() {
+        // Given
+        when(bankRepository.findAll()).thenReturn(List.of());
+        inMemoryBankLookup.refresh();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            Bank bank = Bank.builder().swiftCode(String.format("TESTUS33%03d", i)).countryIso2Code("US").build();
+            inMemoryBankLookup.onAfterSave(new AfterSaveEvent<>(bank, new Document(), "banks"));
+        }
+        inMemoryBankLookup.awaitWrites();
+
+        // Then
+        assertEquals(100, inMemoryBankLookup.findByCountryIso2Code("US").size());
+    }
+
+    @Test
+    void onApplicationEvent_deleteAllWithoutDomainType_reloads() {
+        // Given
+        when(bankRepository.findAll()).thenReturn(List.of(HEADQUARTER), List.of());
+        inMemoryBankLookup.refresh();
+
+        // When
+        inMemoryBankLookup.onApplicationEvent(new AfterDeleteEvent<>(new Document(), null, "banks"));
+        inMemoryBankLookup.awaitWrites();
+
+        // Then
+        assertTrue(inMemoryBankLookup.findBySwiftCode(SwiftCode.parse("TESTUS33XXX")).isEmpty());
+        verify(bankRepository, times(2)).findAll();
+    }
+
+    @Test
+    void onAfterSave_otherCollection_isIgnored() {
+        // Given
+        when(bankRepository.findAll()).thenReturn(List.of(HEADQUARTER));
+        inMemoryBankLookup.refresh();
+
+        // When
+        inMemoryBankLookup.onAfterSave(new AfterSaveEvent<>(BRANCH, new Document(), "banks_staging"));
+        inMemoryBankLookup.awaitWrites();
+
+        // Then
+        assertTrue(inMemoryBankLookup.findBySwiftCode(SwiftCode.parse("TESTUS33111")).isEmpty());
+        assertEquals(1, inMemoryBankLookup.version().orElseThrow());
+    }
+
+    @Test
+    void onCollectionSwapped_reloadsFromSwappedCollection() {
+        // Given
+        when(bankRepository.findAll()).thenReturn(List.of(HEADQUARTER), List.of(HEADQUARTER, BRANCH));
+        inMemoryBankLookup.refresh();
+
+        // When
+        inMemoryBankLookup.onCollectionSwapped(new BankCollectionSwappedEvent("banks", 2));
+
+        // Then
+        assertTrue(inMemoryBankLookup.findBySwiftCode(SwiftCode.parse("TESTUS33111")).isPresent());
+        verify(bankRepository, times(2)).findAll();
+    }
+
+    @Test
+    void onImportCompleted_reloadsRowsMissedBySaveEvents() {
+        // Given
+        when(bankRepository.findAll()).thenReturn(List.of(HEADQUARTER), List.of(HEADQUARTER, BRANCH));
+        inMemoryBankLookup.refresh();
+
+        // When
+        inMemoryBankLookup.onImportCompleted(new BankImportCompletedEvent("banks.csv", 1));
+
+        // Then
+        assertTrue(inMemoryBankLookup.findBySwiftCode(SwiftCode.parse("TESTUS33111")).isPresent());
+    }
+
+    @Test
+    void onAfterSave_whileImportRuns_isLeftToTheCompletionReload() {
+        // Given
+        when(bankRepository.findAll()).thenReturn(List.of(HEADQUARTER), List.of(HEADQUARTER, BRANCH));
+        inMemoryBankLookup.refresh();
+        inMemoryBankLookup.onImportStarted(new BankImportStartedEvent("banks.csv"));
+
+        // When
+        inMemoryBankLookup.onAfterSave(new AfterSaveEvent<>(BRANCH, new Document(), "banks"));
+        inMemoryBankLookup.awaitWrites();
+        long versionDuringImport = inMemoryBankLookup.version().orElseThrow();
+        inMemoryBankLookup.onImportCompleted(new BankImportCompletedEvent("banks.csv", 1));
+
+        // Then
+        assertEquals(1, versionDuringImport);
+        assertTrue(inMemoryBankLookup.findBySwiftCode(SwiftCode.parse("TESTUS33111")).isPresent());
+        verify(bankRepository, times(2)).findAll();
+    }
+
+    @Test
+    void onImportCompleted_withoutStart_keepsTrackingSaves() {
+        // Given
+        when(bankRepository.findAll()).thenReturn(List.of());
+        inMemoryBankLookup.refresh();
+        inMemoryBankLookup.onImportCompleted(new BankImportCompletedEvent("batch request", 1));
+
+        // When
+        inMemoryBankLookup.onAfterSave(new AfterSaveEvent<>(BRANCH, new Document(), "banks"));
+        inMemoryBankLookup.awaitWrites();
+
+        // Then
+        assertTrue(inMemoryBankLookup.findBySwiftCode(SwiftCode.parse("TESTUS33111")).isPresent());
+    }
+
+    @Test
+    void refresh_withSnapshotLocation_savesDirectoryThatNextInstanceRestores(@TempDir Path dir) {
+        // Given
+        Path snapshot = dir.resolve("banks.snapshot");
+        when(bankRepository.findAll()).thenReturn(List.of(HEADQUARTER, BRANCH));
+        InMemoryBankLookup first = new InMemoryBankLookup(bankRepository, 256, snapshot.toString(), WRITE_TIMEOUT);
+        first.refresh();
+        first.close();
+
+        // When
+        InMemoryBankLookup restarted = new InMemoryBankLookup(bankRepository, 256, snapshot.toString(), WRITE_TIMEOUT);
+
+        // Then
+        assertEquals(2, restarted.findFamily(SwiftCode.parse("TESTUS33XXX")).size());
+        assertEquals(0, restarted.version().orElseThrow());
+        verify(bankRepository, times(1)).findAll();
+        restarted.close();
+    }
+
+    @Test
+    void constructor_unreadableSnapshot_startsEmpty(@TempDir Path dir) throws Exception {
+        // Given
+        Path snapshot = Files.writeString(dir.resolve("banks.snapshot"), "not a snapshot");
+
+        // When
+        InMemoryBankLookup restarted = new InMemoryBankLookup(bankRepository, 256, snapshot.toString(), WRITE_TIMEOUT);
+
+        // Then
+        assertTrue(restarted.findBySwiftCode(SwiftCode.parse("TESTUS33XXX")).isEmpty());
+        restarted.close();
+    }
+
+    @Test
+    void toMutation_mapsRepositoryDeletesAndFallsBackToReload() {
+        // Then
+        assertEquals(new BankMutation.Remove(SwiftCode.parse("TESTUS33111")),
+                InMemoryBankLookup.toMutation(new Document("swiftCode", "TESTUS33111")));
+        assertEquals(new BankMutation.RemoveFamily(SwiftCode.parse("TESTUS33XXX")),
+                InMemoryBankLookup.toMutation(new Document("swiftCodePrefix", "TESTUS33")));
+        assertInstanceOf(BankMutation.Reload.class, InMemoryBankLookup.toMutation(new Document("_id", "1")));
+        assertInstanceOf(BankMutation.Reload.class, InMemoryBankLookup.toMutation(new Document("swiftCodePrefix", "TEST")));
+        verify(bankRepository, never()).findAll();
+    }
+}